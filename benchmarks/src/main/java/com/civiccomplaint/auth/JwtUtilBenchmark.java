@@ -0,0 +1,63 @@
+package com.civiccomplaint.auth;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT signing and the checks {@link JwtAuthenticationFilter} runs on every
+ * authenticated request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private UUID userId;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret",
+                "civic-complaint-secret-key-change-in-production-minimum-256-bits");
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 86_400_000L);
+        userId = UUID.randomUUID();
+        token = jwtUtil.generateToken(userId, "CITIZEN");
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(userId, "CITIZEN");
+    }
+
+    @Benchmark
+    public Boolean validateToken() {
+        return jwtUtil.validateToken(token, userId);
+    }
+
+    /**
+     * What the filter does per request: two claim extractions and a validation.
+     */
+    @Benchmark
+    public Boolean authenticateRequest() {
+        UUID tokenUserId = jwtUtil.extractUserId(token);
+        jwtUtil.extractRole(token);
+        return jwtUtil.validateToken(token, tokenUserId);
+    }
+}
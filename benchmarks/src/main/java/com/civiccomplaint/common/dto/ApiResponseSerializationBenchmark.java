@@ -0,0 +1,91 @@
+package com.civiccomplaint.common.dto;
+
+import com.civiccomplaint.complaint.ComplaintStatus;
+import com.civiccomplaint.complaint.ComplaintType;
+import com.civiccomplaint.complaint.dto.ComplaintResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON serialization of {@link ApiResponse} payloads with an ObjectMapper
+ * configured the way Spring Boot configures the one used for responses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiResponseSerializationBenchmark {
+
+    /**
+     * Complaints on the page; 20 is the default page size.
+     */
+    @Param({"1", "20"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<PaginatedResponse<ComplaintResponse>> page;
+    private ApiResponse<Void> error;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<ComplaintResponse> complaints = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            UUID id = UUID.randomUUID();
+            complaints.add(ComplaintResponse.builder()
+                    .id(id)
+                    .complaintNumber(String.format("CMP-NOR-2024-%04d", i + 1))
+                    .title("Streetlight not working")
+                    .description("The streetlight outside house 12 has been off for a week.")
+                    .complaintType(ComplaintType.STREET_LIGHT)
+                    .status(ComplaintStatus.PENDING)
+                    .latitude(new BigDecimal("18.5204303"))
+                    .longitude(new BigDecimal("73.8567437"))
+                    .locationText("Near MG Road bus stop")
+                    .createdAt(LocalDateTime.now())
+                    .imageUrls(List.of("http://localhost:8080/api/complaints/attachments/" + UUID.randomUUID()))
+                    .build());
+        }
+        page = ApiResponse.success(PaginatedResponse.<ComplaintResponse>builder()
+                .content(complaints)
+                .page(0)
+                .size(pageSize)
+                .totalElements(pageSize)
+                .totalPages(1)
+                .last(true)
+                .build());
+        error = ApiResponse.error("Complaint not found with id : '" + UUID.randomUUID() + "'");
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializeError() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(error);
+    }
+}
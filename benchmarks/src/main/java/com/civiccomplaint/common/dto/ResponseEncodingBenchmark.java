@@ -0,0 +1,179 @@
+package com.civiccomplaint.common.dto;
+
+import com.civiccomplaint.complaint.ComplaintStatus;
+import com.civiccomplaint.complaint.ComplaintType;
+import com.civiccomplaint.complaint.dto.ComplaintResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * CPU time and bytes on the wire for one page of the complaint list, by
+ * encoding, field selection, gzip and Blackbird. The score is the time to
+ * encode a page; the body size the client receives is reported next to it
+ * as the "wireBytes" secondary result.
+ * Descriptions have realistic lengths, so that the full and list field
+ * sets differ the way they do in production.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseEncodingBenchmark {
+
+    private static final String[] DESCRIPTION_WORDS = {"the", "road", "near", "garbage", "water", "light",
+            "has", "been", "broken", "for", "days", "and", "nobody", "came", "despite", "calls", "residents",
+            "children", "school", "market", "please", "repair", "urgently", "drain", "overflowing"};
+
+    @Param({"json", "smile", "cbor"})
+    private String format;
+
+    /**
+     * "all" is the default response; "list" is fields=id,complaintNumber,title,status,createdAt.
+     */
+    @Param({"all", "list"})
+    private String fields;
+
+    @Param({"false", "true"})
+    private boolean gzip;
+
+    @Param({"false", "true"})
+    private boolean blackbird;
+
+    @Param({"50"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<PaginatedResponse<ComplaintResponse>> page;
+
+    @Setup
+    public void setUp() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if ("smile".equals(format)) {
+            builder.factory(new SmileFactory());
+        } else if ("cbor".equals(format)) {
+            builder.factory(new CBORFactory());
+        }
+        if (blackbird) {
+            builder.modulesToInstall(new BlackbirdModule());
+        }
+        objectMapper = builder.build();
+
+        SplittableRandom random = new SplittableRandom(42);
+        List<ComplaintResponse> complaints = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            ComplaintResponse.ComplaintResponseBuilder complaint = ComplaintResponse.builder()
+                    .id(new UUID(random.nextLong(), random.nextLong()))
+                    .complaintNumber(String.format("CMP-NOR-2024-%04d", i + 1))
+                    .title("Streetlight not working near house " + random.nextInt(500))
+                    .status(ComplaintStatus.values()[random.nextInt(ComplaintStatus.values().length)])
+                    .createdAt(LocalDateTime.of(2024, 3, 1, 9, 0).plusMinutes(random.nextInt(500_000)));
+            if ("all".equals(fields)) {
+                complaint.description(description(random))
+                        .complaintType(ComplaintType.STREET_LIGHT)
+                        .latitude(BigDecimal.valueOf(18.45 + random.nextDouble() * 0.17)
+                                .setScale(8, RoundingMode.HALF_UP))
+                        .longitude(BigDecimal.valueOf(73.75 + random.nextDouble() * 0.23)
+                                .setScale(8, RoundingMode.HALF_UP))
+                        .locationText("Near MG Road bus stop, Shivajinagar")
+                        .imageUrls(List.of("http://localhost:8080/api/complaints/attachments/"
+                                + new UUID(random.nextLong(), random.nextLong())));
+            }
+            complaints.add(complaint.build());
+        }
+        page = ApiResponse.success(PaginatedResponse.<ComplaintResponse>builder()
+                .content(complaints)
+                .page(0)
+                .size(pageSize)
+                .totalElements(12_345)
+                .totalPages(12_345 / pageSize + 1)
+                .last(false)
+                .build());
+    }
+
+    @Benchmark
+    public byte[] encodePage(WireSize wireSize) throws IOException {
+        byte[] body = objectMapper.writeValueAsBytes(page);
+        if (gzip) {
+            // Default deflate level, as used by Tomcat's compression
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 2);
+            try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+                out.write(body);
+            }
+            body = compressed.toByteArray();
+        }
+        wireSize.record(body.length);
+        return body;
+    }
+
+    /**
+     * Size of an encoded page, in bytes. JMH sums event counters over
+     * threads, measurement iterations and forks, so each of them reports its
+     * share of the size; every page is the same, so the total is the size of
+     * one page.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class WireSize {
+
+        public double wireBytes;
+
+        private double share;
+
+        @Setup(Level.Trial)
+        public void setUp(BenchmarkParams params) {
+            share = 1.0 / (params.getThreads() * params.getMeasurement().getCount() * Math.max(1, params.getForks()));
+        }
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            wireBytes = 0;
+        }
+
+        void record(int bytes) {
+            wireBytes = bytes * share;
+        }
+    }
+
+    /**
+     * Free text of 20 to 80 words, as citizens write it.
+     */
+    private static String description(SplittableRandom random) {
+        int words = 20 + random.nextInt(60);
+        StringBuilder text = new StringBuilder(words * 7);
+        for (int i = 0; i < words; i++) {
+            text.append(i > 0 ? " " : "").append(DESCRIPTION_WORDS[random.nextInt(DESCRIPTION_WORDS.length)]);
+        }
+        return text.append('.').toString();
+    }
+}
@@ -0,0 +1,82 @@
+package com.civiccomplaint.common.type;
+
+import com.civiccomplaint.complaint.ComplaintStatus;
+import org.hibernate.usertype.DynamicParameterizedType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading and binding enum columns through {@link PostgreSQLEnumType}.
+ * The JDBC objects are minimal in-memory stubs; their dispatch cost is part
+ * of each measurement and is the same on every run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PostgreSQLEnumTypeBenchmark {
+
+    private PostgreSQLEnumType enumType;
+    private ResultSet resultSet;
+    private PreparedStatement statement;
+    private Blackhole bound;
+
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        bound = blackhole;
+        enumType = new PostgreSQLEnumType();
+        Properties parameters = new Properties();
+        parameters.put(DynamicParameterizedType.PARAMETER_TYPE, stub(DynamicParameterizedType.ParameterType.class,
+                (method, args) -> "getReturnedClass".equals(method) ? ComplaintStatus.class : null));
+        enumType.setParameterValues(parameters);
+
+        resultSet = stub(ResultSet.class, (method, args) -> switch (method) {
+            case "getString" -> "IN_PROGRESS";
+            case "wasNull" -> false;
+            default -> null;
+        });
+        statement = stub(PreparedStatement.class, (method, args) -> {
+            if ("setObject".equals(method)) {
+                bound.consume(args[1]);
+            }
+            return null;
+        });
+    }
+
+    @Benchmark
+    public Enum nullSafeGet() throws SQLException {
+        return enumType.nullSafeGet(resultSet, 1, null, null);
+    }
+
+    @Benchmark
+    public void nullSafeSet() throws SQLException {
+        enumType.nullSafeSet(statement, ComplaintStatus.RESOLVED, 1, null);
+    }
+
+    private interface Answer {
+        Object answer(String method, Object[] args);
+    }
+
+    private static <T> T stub(Class<T> type, Answer answer) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+                (proxy, method, args) -> answer.answer(method.getName(), args)));
+    }
+}
@@ -0,0 +1,90 @@
+package com.civiccomplaint.complaint;
+
+import com.civiccomplaint.complaint.dto.ComplaintDetailResponse;
+import com.civiccomplaint.complaint.dto.ComplaintResponse;
+import com.civiccomplaint.master.Prabhag;
+import com.civiccomplaint.user.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping in {@link ComplaintMapper}. Entities are built in
+ * memory, so only the mapping itself is measured, not lazy loading.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComplaintMappingBenchmark {
+
+    @Param({"0", "3"})
+    private int attachments;
+
+    private ComplaintMapper complaintMapper;
+    private Complaint complaint;
+
+    @Setup
+    public void setUp() {
+        complaintMapper = new ComplaintMapper("http://localhost:8080");
+
+        Prabhag prabhag = Prabhag.builder().id(7).name("North Ward").code("NOR").build();
+        User citizen = User.builder()
+                .fullName("Asha Patil")
+                .mobileNumber("+919876543210")
+                .email("asha@example.com")
+                .address("12 MG Road")
+                .pinCode("411001")
+                .prabhag(prabhag)
+                .build();
+        citizen.setId(UUID.randomUUID());
+
+        complaint = Complaint.builder()
+                .user(citizen)
+                .complaintNumber("CMP-NOR-2024-0042")
+                .title("Streetlight not working")
+                .description("The streetlight outside house 12 has been off for a week.")
+                .complaintType(ComplaintType.STREET_LIGHT)
+                .status(ComplaintStatus.IN_PROGRESS)
+                .latitude(new BigDecimal("18.5204303"))
+                .longitude(new BigDecimal("73.8567437"))
+                .locationText("Near MG Road bus stop")
+                .build();
+        complaint.setId(UUID.randomUUID());
+        complaint.setCreatedAt(LocalDateTime.now());
+        for (int i = 0; i < attachments; i++) {
+            complaint.getAttachments().add(ComplaintAttachment.builder()
+                    .id(UUID.randomUUID())
+                    .complaint(complaint)
+                    .contentType("image/jpeg")
+                    .fileName("photo-" + i + ".jpg")
+                    .fileSize(150_000L)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public ComplaintResponse mapToResponse() {
+        return complaintMapper.toResponse(complaint);
+    }
+
+    @Benchmark
+    public ComplaintDetailResponse mapToDetailResponse() {
+        return complaintMapper.toDetailResponse(complaint);
+    }
+}
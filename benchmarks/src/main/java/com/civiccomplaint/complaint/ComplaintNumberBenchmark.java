@@ -0,0 +1,35 @@
+package com.civiccomplaint.complaint;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Complaint number formatting from generateComplaintNumber, without the
+ * sequence lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComplaintNumberBenchmark {
+
+    private String prabhagCode = "NOR";
+    private int year = 2024;
+    private int sequence = 42;
+
+    @Benchmark
+    public String formatComplaintNumber() {
+        return ComplaintService.formatComplaintNumber(prabhagCode, year, sequence);
+    }
+}
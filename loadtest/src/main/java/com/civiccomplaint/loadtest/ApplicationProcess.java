@@ -0,0 +1,170 @@
+package com.civiccomplaint.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The application under test, run from its executable jar in a separate JVM
+ * so that the harness does not compete with it for heap or GC time.
+ * Output goes to app.log in the work directory, and datagen.log for the
+ * data generator.
+ */
+@Slf4j
+public class ApplicationProcess implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(5);
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration GENERATE_TIMEOUT = Duration.ofHours(2);
+
+    private final Process process;
+    private final Path logFile;
+
+    private ApplicationProcess(Process process, Path logFile) {
+        this.process = process;
+        this.logFile = logFile;
+    }
+
+    /**
+     * Start the application against the test database and wait until its
+     * health endpoint reports UP. Hibernate creates any missing tables.
+     *
+     * @param options  harness options
+     * @param database test database
+     * @return running application
+     * @throws IOException          if the process cannot start or does not become healthy
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public static ApplicationProcess start(LoadTestOptions options, LoadTestDatabase database)
+            throws IOException, InterruptedException {
+        List<String> command = command(options, database);
+        command.addAll(List.of(
+                "--server.port=" + options.port(),
+                "--management.server.port=" + options.managementPort(),
+                "--app.jwt.secret=" + options.jwtSecret()));
+        if (!options.appArgs().isBlank()) {
+            command.addAll(Arrays.asList(options.appArgs().split(",")));
+        }
+
+        Path logFile = options.workDir().resolve("app.log");
+        log.info("Starting {} (log: {})", options.appJar().getFileName(), logFile);
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+        ApplicationProcess application = new ApplicationProcess(process, logFile);
+        try {
+            application.awaitHealthy(options.managementPort());
+        } catch (IOException | InterruptedException e) {
+            application.close();
+            throw e;
+        }
+        return application;
+    }
+
+    /**
+     * Fill the test database by running the application's synthetic data
+     * generator (the "datagen" profile) and wait for it to finish.
+     * Hibernate creates the tables first.
+     *
+     * @param options  harness options; the seed and sizes are passed on
+     * @param database test database
+     * @throws IOException          if the generator cannot start, fails or times out
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public static void generate(LoadTestOptions options, LoadTestDatabase database)
+            throws IOException, InterruptedException {
+        List<String> command = command(options, database);
+        command.addAll(List.of(
+                "--spring.profiles.active=datagen",
+                "--app.datagen.seed=" + options.seed(),
+                "--app.datagen.prabhags=" + options.prabhags(),
+                "--app.datagen.citizens=" + options.citizens(),
+                "--app.datagen.complaints=" + options.complaints(),
+                "--app.datagen.attachment-ratio=" + options.attachmentRatio()));
+
+        Path logFile = options.workDir().resolve("datagen.log");
+        log.info("Generating {} citizens and {} complaints (log: {})", options.citizens(), options.complaints(),
+                logFile);
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+        try {
+            if (!process.waitFor(GENERATE_TIMEOUT.toMinutes(), TimeUnit.MINUTES)) {
+                throw new IOException("Data generation not finished after " + GENERATE_TIMEOUT.toMinutes()
+                        + " min, see " + logFile);
+            }
+        } finally {
+            process.destroyForcibly();
+        }
+        if (process.exitValue() != 0) {
+            throw new IOException("Data generation exited with code " + process.exitValue() + ", see " + logFile);
+        }
+    }
+
+    private static List<String> command(LoadTestOptions options, LoadTestDatabase database) throws IOException {
+        if (!Files.isRegularFile(options.appJar())) {
+            throw new IOException("Application jar not found: " + options.appJar().toAbsolutePath()
+                    + " (run mvn install -DskipTests in the project root)");
+        }
+        Files.createDirectories(options.workDir());
+        return new ArrayList<>(List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-jar", options.appJar().toAbsolutePath().toString(),
+                "--spring.datasource.url=" + database.getJdbcUrl(),
+                "--spring.datasource.username=" + database.getUsername(),
+                "--spring.datasource.password=" + database.getPassword(),
+                "--spring.jpa.hibernate.ddl-auto=update"));
+    }
+
+    private void awaitHealthy(int managementPort) throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + managementPort
+                + "/actuator/health")).timeout(Duration.ofSeconds(5)).build();
+
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IOException("Application exited with code " + process.exitValue() + ", see " + logFile);
+            }
+            try {
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() == 200) {
+                    log.info("Application is up");
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(1000);
+        }
+        throw new IOException("Application not healthy after " + STARTUP_TIMEOUT.toSeconds() + " s, see " + logFile);
+    }
+
+    /**
+     * Stop the application, gracefully first.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        if (!process.isAlive()) {
+            return;
+        }
+        process.destroy();
+        if (!process.waitFor(SHUTDOWN_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+            log.warn("Application did not stop within {} s, killing it", SHUTDOWN_TIMEOUT.toSeconds());
+            process.destroyForcibly().waitFor();
+        }
+    }
+}
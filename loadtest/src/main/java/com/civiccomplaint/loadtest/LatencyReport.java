@@ -0,0 +1,157 @@
+package com.civiccomplaint.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency histograms and status counts. Recording is lock-free,
+ * so virtual users do not contend with each other on the report.
+ */
+public class LatencyReport {
+
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final Map<Operation, Endpoint> endpoints = new EnumMap<>(Operation.class);
+
+    public LatencyReport() {
+        for (Operation operation : Operation.values()) {
+            endpoints.put(operation, new Endpoint());
+        }
+    }
+
+    /**
+     * Record a completed request. Status -1 stands for an I/O error or timeout.
+     *
+     * @param operation    request type
+     * @param status       HTTP status
+     * @param elapsedNanos time from sending the request to reading the whole response
+     */
+    public void record(Operation operation, int status, long elapsedNanos) {
+        Endpoint endpoint = endpoints.get(operation);
+        endpoint.latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), MAX_TRACKABLE_MICROS));
+        endpoint.statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+    }
+
+    /**
+     * Summarize the recorded requests.
+     *
+     * @param measured length of the measured period
+     * @return one entry per endpoint that received requests
+     */
+    public List<EndpointSummary> summarize(Duration measured) {
+        double seconds = measured.toMillis() / 1000.0;
+        List<EndpointSummary> summaries = new ArrayList<>();
+        for (Map.Entry<Operation, Endpoint> entry : endpoints.entrySet()) {
+            Histogram latency = entry.getValue().latency;
+            long requests = latency.getTotalCount();
+            if (requests == 0) {
+                continue;
+            }
+            Map<Integer, Long> statuses = new TreeMap<>();
+            long errors = 0;
+            for (Map.Entry<Integer, LongAdder> status : entry.getValue().statuses.entrySet()) {
+                long count = status.getValue().sum();
+                statuses.put(status.getKey(), count);
+                if (status.getKey() < 200 || status.getKey() >= 400) {
+                    errors += count;
+                }
+            }
+            summaries.add(new EndpointSummary(entry.getKey().getLabel(), requests, errors, requests / seconds,
+                    millis(latency.getMean()), millis(latency.getValueAtPercentile(50)),
+                    millis(latency.getValueAtPercentile(90)), millis(latency.getValueAtPercentile(99)),
+                    millis(latency.getValueAtPercentile(99.9)), millis(latency.getMaxValue()), statuses));
+        }
+        return summaries;
+    }
+
+    /**
+     * Print a table of the summaries.
+     *
+     * @param summaries endpoint summaries
+     * @param out       destination
+     */
+    public static void print(List<EndpointSummary> summaries, PrintStream out) {
+        String format = "%-44s %9s %7s %8s %8s %8s %8s %8s %8s%n";
+        out.printf(format, "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms",
+                "max ms");
+        for (EndpointSummary s : summaries) {
+            out.printf(format, s.endpoint(), s.requests(), s.errors(), String.format("%.1f", s.throughput()),
+                    String.format("%.1f", s.p50Millis()), String.format("%.1f", s.p90Millis()),
+                    String.format("%.1f", s.p99Millis()), String.format("%.1f", s.p999Millis()),
+                    String.format("%.1f", s.maxMillis()));
+        }
+    }
+
+    /**
+     * Write the run as JSON, for comparison across releases.
+     *
+     * @param file      destination
+     * @param options   harness options
+     * @param summaries endpoint summaries
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Path file, LoadTestOptions options, List<EndpointSummary> summaries)
+            throws IOException {
+        Map<String, Object> run = new TreeMap<>();
+        run.put("seed", options.seed());
+        run.put("prabhags", options.prabhags());
+        run.put("citizens", options.citizens());
+        run.put("complaints", options.complaints());
+        run.put("concurrency", options.concurrency());
+        run.put("durationSeconds", options.duration().toSeconds());
+
+        Map<String, Object> report = new TreeMap<>();
+        report.put("run", run);
+        report.put("endpoints", summaries);
+
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+    }
+
+    private static double millis(double micros) {
+        return Math.round(micros / 10.0) / 100.0;
+    }
+
+    private static final class Endpoint {
+        private final Histogram latency = new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3);
+        private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Results for one endpoint.
+     *
+     * @param endpoint   method, path template and role
+     * @param requests   completed requests
+     * @param errors     requests that failed or returned a non-2xx/3xx status
+     * @param throughput requests per second
+     * @param meanMillis mean latency
+     * @param p50Millis  median latency
+     * @param p90Millis  90th percentile latency
+     * @param p99Millis  99th percentile latency
+     * @param p999Millis 99.9th percentile latency
+     * @param maxMillis  slowest request
+     * @param statuses   request count by HTTP status, -1 for I/O errors
+     */
+    public record EndpointSummary(String endpoint, long requests, long errors, double throughput,
+            double meanMillis, double p50Millis, double p90Millis, double p99Millis, double p999Millis,
+            double maxMillis, Map<Integer, Long> statuses) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.civiccomplaint.loadtest;
+
+import com.civiccomplaint.loadtest.LatencyReport.EndpointSummary;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.util.List;
+
+/**
+ * Load test entry point: prepares the database, fills it with the
+ * application's synthetic data generator, starts the application jar, runs
+ * the mixed workload and reports latency percentiles per endpoint.
+ * See {@link LoadTestOptions} for the arguments.
+ */
+@Slf4j
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        try (LoadTestDatabase database = LoadTestDatabase.start(options)) {
+            if (!options.skipSeed()) {
+                database.recreate();
+                ApplicationProcess.generate(options, database);
+            }
+            try (ApplicationProcess application = ApplicationProcess.start(options, database)) {
+                WorkloadSample sample;
+                try (Connection connection = database.connect()) {
+                    sample = WorkloadSample.load(connection, options.sampleSize(), options.seed());
+                }
+
+                Workload workload = new Workload(options, sample, new TokenMinter(options.jwtSecret()));
+                List<EndpointSummary> summaries = workload.run().summarize(options.duration());
+
+                LatencyReport.print(summaries, System.out);
+                if (options.report() != null) {
+                    LatencyReport.write(options.report(), options, summaries);
+                    log.info("Report written to {}", options.report());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.civiccomplaint.loadtest;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * The PostgreSQL server under test: either an existing local install or
+ * PostgreSQL binaries started as a child process. Creates the test database
+ * and the objects the application does not create itself.
+ */
+@Slf4j
+public class LoadTestDatabase implements AutoCloseable {
+
+    private static final String BOOTSTRAP_SCRIPT = "/bootstrap.sql";
+
+    private final String serverUrl;
+    private final String database;
+    private final String username;
+    private final String password;
+    private final EmbeddedPostgres embedded;
+
+    private LoadTestDatabase(String serverUrl, String database, String username, String password,
+            EmbeddedPostgres embedded) {
+        this.serverUrl = serverUrl.endsWith("/") ? serverUrl : serverUrl + "/";
+        this.database = database;
+        this.username = username;
+        this.password = password;
+        this.embedded = embedded;
+    }
+
+    /**
+     * Connect to the configured local server, or start an embedded one.
+     *
+     * @param options harness options
+     * @return database handle; close it to stop an embedded server
+     * @throws IOException if the embedded server cannot start
+     */
+    public static LoadTestDatabase start(LoadTestOptions options) throws IOException {
+        if ("local".equals(options.postgres())) {
+            return new LoadTestDatabase(options.jdbcUrl(), options.database(), options.dbUser(),
+                    options.dbPassword(), null);
+        }
+
+        EmbeddedPostgres embedded = EmbeddedPostgres.builder()
+                .setDataDirectory(options.workDir().resolve("pgdata"))
+                .setCleanDataDirectory(!options.skipSeed())
+                .setServerConfig("max_connections", "200")
+                .setServerConfig("shared_buffers", "256MB")
+                .setServerConfig("fsync", "off")
+                .setServerConfig("synchronous_commit", "off")
+                .start();
+        log.info("Started embedded PostgreSQL on port {}", embedded.getPort());
+        return new LoadTestDatabase("jdbc:postgresql://localhost:" + embedded.getPort() + "/", options.database(),
+                "postgres", "", embedded);
+    }
+
+    /**
+     * Drop and recreate the test database, then create the enum types and
+     * the complaint number sequences table.
+     *
+     * @throws SQLException on a database error
+     * @throws IOException  if the bootstrap script cannot be read
+     */
+    public void recreate() throws SQLException, IOException {
+        try (Connection connection = DriverManager.getConnection(serverUrl + "postgres", username, password);
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP DATABASE IF EXISTS " + database + " WITH (FORCE)");
+            statement.execute("CREATE DATABASE " + database);
+        }
+
+        String script;
+        try (InputStream in = LoadTestDatabase.class.getResourceAsStream(BOOTSTRAP_SCRIPT)) {
+            script = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute(script);
+        }
+        log.info("Created database {}", database);
+    }
+
+    /**
+     * Open a connection to the test database.
+     *
+     * @return connection
+     * @throws SQLException on a database error
+     */
+    public Connection connect() throws SQLException {
+        return DriverManager.getConnection(getJdbcUrl(), username, password);
+    }
+
+    public String getJdbcUrl() {
+        return serverUrl + database;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (embedded != null) {
+            embedded.close();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.civiccomplaint.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Harness options, given as --name=value arguments. Defaults describe a
+ * release-scale run: 50 prabhags, 500k citizens and 5M complaints.
+ *
+ * @param postgres          "local" for an existing server, "embedded" to run PostgreSQL binaries
+ * @param jdbcUrl           JDBC URL of the local server, without a database name
+ * @param dbUser            database user
+ * @param dbPassword        database password
+ * @param database          database to create and seed; dropped first unless skipSeed
+ * @param skipSeed          reuse the data already in the database
+ * @param appJar            executable application jar
+ * @param appArgs           extra application arguments, comma separated
+ * @param port              application HTTP port
+ * @param managementPort    application management port, polled for health
+ * @param jwtSecret         signing secret shared with the application
+ * @param seed              random seed; the same seed produces the same data and request mix
+ * @param prabhags          prabhags to create, each with one admin
+ * @param citizens          citizens to create
+ * @param complaints        complaints to create
+ * @param attachmentRatio   share of complaints with image attachments
+ * @param concurrency       concurrent virtual users
+ * @param warmup            load applied before measuring
+ * @param duration          measured load
+ * @param sampleSize        seeded citizens and complaints the workload picks from
+ * @param workDir           directory for the application log and embedded database
+ * @param report            JSON report file, or null
+ */
+public record LoadTestOptions(String postgres, String jdbcUrl, String dbUser, String dbPassword, String database,
+        boolean skipSeed, Path appJar, String appArgs, int port, int managementPort, String jwtSecret, long seed,
+        int prabhags, int citizens, int complaints, double attachmentRatio, int concurrency, Duration warmup,
+        Duration duration, int sampleSize, Path workDir, Path report) {
+
+    private static final Map<String, String> DEFAULTS = Map.ofEntries(
+            Map.entry("postgres", "local"),
+            Map.entry("jdbc-url", "jdbc:postgresql://localhost:5432/"),
+            Map.entry("db-user", "postgres"),
+            Map.entry("db-password", "12345"),
+            Map.entry("database", "complaintapp_loadtest"),
+            Map.entry("skip-seed", "false"),
+            Map.entry("app-jar", "../target/civic-complaint-api-1.0.0.jar"),
+            Map.entry("app-args", ""),
+            Map.entry("port", "18080"),
+            Map.entry("management-port", "18081"),
+            Map.entry("jwt-secret", "civic-complaint-secret-key-change-in-production-minimum-256-bits"),
+            Map.entry("seed", "42"),
+            Map.entry("prabhags", "50"),
+            Map.entry("citizens", "500000"),
+            Map.entry("complaints", "5000000"),
+            Map.entry("attachment-ratio", "0.1"),
+            Map.entry("concurrency", "32"),
+            Map.entry("warmup", "30s"),
+            Map.entry("duration", "2m"),
+            Map.entry("sample-size", "10000"),
+            Map.entry("work-dir", "target/loadtest"),
+            Map.entry("report", ""));
+
+    /**
+     * Parse --name=value arguments. An argument may hold several options
+     * separated by whitespace, as passed through -Dloadtest.args.
+     *
+     * @param args command line arguments
+     * @return options, with defaults for anything not given
+     * @throws IllegalArgumentException on an unknown option or a malformed value
+     */
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>(DEFAULTS);
+        for (String arg : args) {
+            for (String option : arg.trim().split("\\s+")) {
+                if (option.isEmpty()) {
+                    continue;
+                }
+                int equals = option.indexOf('=');
+                if (!option.startsWith("--") || equals < 0) {
+                    throw new IllegalArgumentException("Expected --name=value but got: " + option);
+                }
+                String name = option.substring(2, equals);
+                if (!DEFAULTS.containsKey(name)) {
+                    throw new IllegalArgumentException("Unknown option --" + name + ", expected one of "
+                            + DEFAULTS.keySet());
+                }
+                values.put(name, option.substring(equals + 1));
+            }
+        }
+
+        String postgres = values.get("postgres");
+        if (!Set.of("local", "embedded").contains(postgres)) {
+            throw new IllegalArgumentException("--postgres must be local or embedded");
+        }
+        String report = values.get("report");
+        return new LoadTestOptions(
+                postgres,
+                values.get("jdbc-url"),
+                values.get("db-user"),
+                values.get("db-password"),
+                values.get("database"),
+                Boolean.parseBoolean(values.get("skip-seed")),
+                Path.of(values.get("app-jar")),
+                values.get("app-args"),
+                Integer.parseInt(values.get("port")),
+                Integer.parseInt(values.get("management-port")),
+                values.get("jwt-secret"),
+                Long.parseLong(values.get("seed")),
+                positive(values, "prabhags"),
+                positive(values, "citizens"),
+                Integer.parseInt(values.get("complaints")),
+                Double.parseDouble(values.get("attachment-ratio")),
+                positive(values, "concurrency"),
+                duration(values.get("warmup")),
+                duration(values.get("duration")),
+                positive(values, "sample-size"),
+                Path.of(values.get("work-dir")),
+                report.isEmpty() ? null : Path.of(report));
+    }
+
+    private static int positive(Map<String, String> values, String name) {
+        int value = Integer.parseInt(values.get(name));
+        if (value <= 0) {
+            throw new IllegalArgumentException("--" + name + " must be positive");
+        }
+        return value;
+    }
+
+    /**
+     * Parse a duration such as 90s, 2m or 500ms.
+     */
+    static Duration duration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        long amount = Long.parseLong(value.substring(0, value.length() - 1));
+        return switch (value.charAt(value.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            case 'h' -> Duration.ofHours(amount);
+            default -> throw new IllegalArgumentException("Expected a duration like 90s or 2m but got: " + value);
+        };
+    }
+}
@@ -0,0 +1,34 @@
+package com.civiccomplaint.loadtest;
+
+/**
+ * Request types in the workload, with their share of requests. The weights
+ * approximate production traffic: mostly citizens reading their own
+ * complaints, ward admins working through their queues, and few writes.
+ */
+public enum Operation {
+
+    CITIZEN_LIST("GET /citizen/complaints (citizen)", 30),
+    CITIZEN_DETAIL("GET /complaints/{id} (citizen)", 20),
+    CITIZEN_ATTACHMENT("GET /complaints/attachments/{id} (citizen)", 10),
+    CITIZEN_CREATE("POST /citizen/complaints/create (citizen)", 10),
+    ADMIN_LIST("GET /admin/complaints/all (admin)", 15),
+    ADMIN_DETAIL("GET /complaints/{id} (admin)", 7),
+    ADMIN_STATS("GET /admin/complaints/stats (admin)", 4),
+    SUPER_ADMIN_LIST("GET /admin/complaints/all (super admin)", 4);
+
+    private final String label;
+    private final int weight;
+
+    Operation(String label, int weight) {
+        this.label = label;
+        this.weight = weight;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+}
@@ -0,0 +1,37 @@
+package com.civiccomplaint.loadtest;
+
+import com.civiccomplaint.auth.JwtUtil;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Mints bearer tokens with the application's own {@link JwtUtil} and the
+ * secret the application was started with, so that virtual users skip the
+ * login endpoint and its BCrypt cost. Tokens are cached per user.
+ */
+public class TokenMinter {
+
+    private static final long EXPIRATION_MILLIS = 24 * 3600 * 1000L;
+
+    private final JwtUtil jwtUtil = new JwtUtil();
+    private final Map<UUID, String> tokens = new ConcurrentHashMap<>();
+
+    public TokenMinter(String secret) {
+        ReflectionTestUtils.setField(jwtUtil, "secret", secret);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", EXPIRATION_MILLIS);
+    }
+
+    /**
+     * Get a token for the user, minting it on first use.
+     *
+     * @param userId user ID
+     * @param role   role name, as stored on the user
+     * @return JWT
+     */
+    public String token(UUID userId, String role) {
+        return tokens.computeIfAbsent(userId, id -> jwtUtil.generateToken(id, role));
+    }
+}
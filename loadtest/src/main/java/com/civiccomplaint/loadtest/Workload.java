@@ -0,0 +1,177 @@
+package com.civiccomplaint.loadtest;
+
+import com.civiccomplaint.loadtest.WorkloadSample.SampledComplaint;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Closed-loop mixed workload: each virtual user picks an {@link Operation}
+ * by weight, sends it as a seeded citizen or admin, waits for the full
+ * response and repeats, with no think time. Latencies recorded during the
+ * warmup are discarded.
+ * Closed-loop clients slow down with the server, so percentiles under
+ * saturation understate what an open stream of users would see; compare
+ * runs at the same concurrency.
+ */
+@Slf4j
+public class Workload {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final String BOUNDARY = "loadtest-boundary";
+    private static final String[] COMPLAINT_TYPES = {"ROAD_DAMAGE", "STREET_LIGHT", "GARBAGE_COLLECTION",
+            "WATER_SUPPLY", "DRAINAGE"};
+
+    private final LoadTestOptions options;
+    private final WorkloadSample sample;
+    private final TokenMinter tokens;
+    private final String baseUrl;
+    private final Operation[] operationsByWeight;
+    private final HttpClient client;
+
+    private volatile LatencyReport report = new LatencyReport();
+    private volatile boolean stopped;
+
+    public Workload(LoadTestOptions options, WorkloadSample sample, TokenMinter tokens) {
+        this.options = options;
+        this.sample = sample;
+        this.tokens = tokens;
+        this.baseUrl = "http://localhost:" + options.port() + "/api";
+        this.operationsByWeight = weightedOperations(!sample.complaintsWithAttachments().isEmpty());
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    /**
+     * Run the warmup, then the measured period.
+     *
+     * @return latencies recorded during the measured period
+     * @throws InterruptedException if interrupted while running
+     */
+    public LatencyReport run() throws InterruptedException {
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.concurrency(); i++) {
+                // One generator per user, so the mix does not depend on thread scheduling
+                SplittableRandom random = new SplittableRandom(options.seed() * 31 + i);
+                users.submit(() -> runUser(random));
+            }
+
+            log.info("Warming up for {} s with {} users", options.warmup().toSeconds(), options.concurrency());
+            Thread.sleep(options.warmup().toMillis());
+            LatencyReport measured = new LatencyReport();
+            report = measured;
+            log.info("Measuring for {} s", options.duration().toSeconds());
+            Thread.sleep(options.duration().toMillis());
+            stopped = true;
+            report = new LatencyReport();
+
+            users.shutdown();
+            if (!users.awaitTermination(REQUEST_TIMEOUT.toSeconds() + 5, TimeUnit.SECONDS)) {
+                users.shutdownNow();
+            }
+            return measured;
+        }
+    }
+
+    private void runUser(SplittableRandom random) {
+        while (!stopped) {
+            Operation operation = operationsByWeight[random.nextInt(operationsByWeight.length)];
+            HttpRequest request = request(operation, random);
+            long start = System.nanoTime();
+            int status;
+            try {
+                status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                status = -1;
+            }
+            report.record(operation, status, System.nanoTime() - start);
+        }
+    }
+
+    private HttpRequest request(Operation operation, SplittableRandom random) {
+        SampledComplaint complaint = pick(sample.complaints(), random);
+        return switch (operation) {
+            case CITIZEN_LIST -> get("/citizen/complaints?page=0&size=10", citizen(complaint));
+            case CITIZEN_DETAIL -> get("/complaints/" + complaint.id(), citizen(complaint));
+            case CITIZEN_ATTACHMENT -> {
+                SampledComplaint withAttachment = pick(sample.complaintsWithAttachments(), random);
+                yield get("/complaints/attachments/" + withAttachment.attachmentId(), citizen(withAttachment));
+            }
+            case CITIZEN_CREATE -> createComplaint(citizen(complaint), random);
+            case ADMIN_LIST -> get("/admin/complaints/all?size=20&page=" + random.nextInt(10), admin(complaint));
+            case ADMIN_DETAIL -> get("/complaints/" + complaint.id(), admin(complaint));
+            case ADMIN_STATS -> get("/admin/complaints/stats", admin(complaint));
+            case SUPER_ADMIN_LIST -> get("/admin/complaints/all?size=20&page=" + random.nextInt(10),
+                    tokens.token(sample.superAdminId(), "SUPER_ADMIN"));
+        };
+    }
+
+    private HttpRequest get(String path, String token) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + token)
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest createComplaint(String token, SplittableRandom random) {
+        String type = COMPLAINT_TYPES[random.nextInt(COMPLAINT_TYPES.length)];
+        String json = String.format("{\"title\":\"Load test %s\",\"description\":\"Raised by the load test\","
+                + "\"complaintType\":\"%s\",\"latitude\":18.52,\"longitude\":73.85,"
+                + "\"locationText\":\"Load test street\"}", type, type);
+        String body = "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"complaint\"\r\n"
+                + "Content-Type: application/json\r\n\r\n"
+                + json + "\r\n"
+                + "--" + BOUNDARY + "--\r\n";
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/citizen/complaints/create"))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                .timeout(REQUEST_TIMEOUT)
+                .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8))
+                .build();
+    }
+
+    private String citizen(SampledComplaint complaint) {
+        return tokens.token(complaint.ownerId(), "CITIZEN");
+    }
+
+    /**
+     * The admin of the complaint's prabhag, so that detail requests pass the
+     * ward check.
+     */
+    private String admin(SampledComplaint complaint) {
+        UUID adminId = sample.admins().get(complaint.prabhagId());
+        return adminId != null ? tokens.token(adminId, "ADMIN") : tokens.token(sample.superAdminId(), "SUPER_ADMIN");
+    }
+
+    private static <T> T pick(List<T> items, SplittableRandom random) {
+        return items.get(random.nextInt(items.size()));
+    }
+
+    private static Operation[] weightedOperations(boolean attachments) {
+        return Arrays.stream(Operation.values())
+                .filter(operation -> attachments || operation != Operation.CITIZEN_ATTACHMENT)
+                .flatMap(operation -> Stream.generate(() -> operation).limit(operation.getWeight()))
+                .toArray(Operation[]::new);
+    }
+}
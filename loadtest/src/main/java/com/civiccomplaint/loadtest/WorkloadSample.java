@@ -0,0 +1,95 @@
+package com.civiccomplaint.loadtest;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * The seeded rows the workload picks from: the super admin, each prabhag's
+ * admin, and a sample of complaints whose owners are active. Read back from
+ * the database, so a run with --skip-seed works the same way.
+ *
+ * @param superAdminId              super admin user ID
+ * @param admins                    admin user ID by prabhag ID
+ * @param complaints                sampled complaints
+ * @param complaintsWithAttachments sampled complaints that have an attachment
+ */
+public record WorkloadSample(UUID superAdminId, Map<Integer, UUID> admins, List<SampledComplaint> complaints,
+        List<SampledComplaint> complaintsWithAttachments) {
+
+    /**
+     * Load the sample. Complaints are ordered by a hash of their ID and the
+     * seed, so the same data and seed give the same sample.
+     *
+     * @param connection connection to the test database
+     * @param size       complaints to sample
+     * @param seed       random seed
+     * @return sample
+     * @throws SQLException          on a database error
+     * @throws IllegalStateException if the database has no seeded data
+     */
+    public static WorkloadSample load(Connection connection, int size, long seed) throws SQLException {
+        UUID superAdminId = null;
+        Map<Integer, UUID> admins = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+                ResultSet rs = statement.executeQuery(
+                        "SELECT id, role, prabhag_id FROM users WHERE role IN ('ADMIN', 'SUPER_ADMIN')")) {
+            while (rs.next()) {
+                UUID id = rs.getObject(1, UUID.class);
+                if ("SUPER_ADMIN".equals(rs.getString(2))) {
+                    superAdminId = id;
+                } else {
+                    admins.putIfAbsent(rs.getInt(3), id);
+                }
+            }
+        }
+
+        List<SampledComplaint> complaints = new ArrayList<>(size);
+        List<SampledComplaint> withAttachments = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement("""
+                SELECT c.id, c.user_id, u.prabhag_id,
+                       (SELECT a.id FROM complaint_attachments a WHERE a.complaint_id = c.id LIMIT 1)
+                FROM complaints c
+                JOIN users u ON u.id = c.user_id
+                WHERE u.is_active
+                ORDER BY hashtext(c.id::text || ?)
+                LIMIT ?
+                """)) {
+            statement.setString(1, Long.toString(seed));
+            statement.setInt(2, size);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    SampledComplaint complaint = new SampledComplaint(rs.getObject(1, UUID.class),
+                            rs.getObject(2, UUID.class), rs.getInt(3), rs.getObject(4, UUID.class));
+                    complaints.add(complaint);
+                    if (complaint.attachmentId() != null) {
+                        withAttachments.add(complaint);
+                    }
+                }
+            }
+        }
+
+        if (superAdminId == null || admins.isEmpty() || complaints.isEmpty()) {
+            throw new IllegalStateException("No seeded data found; run without --skip-seed first");
+        }
+        return new WorkloadSample(superAdminId, admins, complaints, withAttachments);
+    }
+
+    /**
+     * A seeded complaint.
+     *
+     * @param id           complaint ID
+     * @param ownerId      citizen who raised it
+     * @param prabhagId    owner's prabhag
+     * @param attachmentId one of its attachments, or null
+     */
+    public record SampledComplaint(UUID id, UUID ownerId, int prabhagId, UUID attachmentId) {
+    }
+}
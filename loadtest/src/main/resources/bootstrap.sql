@@ -0,0 +1,35 @@
+-- ============================================================================
+-- Load test bootstrap: the objects Hibernate does not create.
+-- The application creates its tables on first start (ddl-auto=update).
+-- ============================================================================
+
+CREATE TYPE user_role AS ENUM ('CITIZEN', 'ADMIN', 'SUPER_ADMIN');
+
+CREATE TYPE complaint_status AS ENUM ('PENDING', 'IN_PROGRESS', 'RESOLVED');
+
+-- Every ComplaintType value, including those missing from scehma.sql
+CREATE TYPE complaint_type AS ENUM (
+    'ROAD_DAMAGE',
+    'STREET_LIGHT',
+    'GARBAGE_COLLECTION',
+    'WATER_SUPPLY',
+    'DRAINAGE',
+    'PUBLIC_TRANSPORT',
+    'NOISE_POLLUTION',
+    'ILLEGAL_CONSTRUCTION',
+    'PARK_MAINTENANCE',
+    'PUBLIC_PROPERTY_DAMAGE',
+    'OTHER'
+);
+
+-- Prabhag ids are integers in the entity mapping
+CREATE TABLE complaint_sequences (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    prabhag_id INT NOT NULL,
+    year INT NOT NULL,
+    current_value INT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT uk_sequences_prabhag_year UNIQUE (prabhag_id, year)
+);
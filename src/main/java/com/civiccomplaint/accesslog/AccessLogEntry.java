@@ -0,0 +1,21 @@
+package com.civiccomplaint.accesslog;
+
+import com.civiccomplaint.jdbc.QueryStatistics;
+
+/**
+ * One completed request, captured on the request thread and formatted later
+ * by the writer. Holds only references the request already owns, so
+ * capturing an entry allocates nothing but the entry itself.
+ *
+ * @param method        HTTP method
+ * @param uri           request URI, without the query string
+ * @param status        response status
+ * @param durationNanos time from entering the filter to completion
+ * @param role          authenticated role, or null for anonymous requests
+ * @param userId        authenticated user id, or null
+ * @param clientAddress remote address
+ * @param queries       statements the request executed, or null if not counted
+ */
+record AccessLogEntry(String method, String uri, int status, long durationNanos, Object role, Object userId,
+        String clientAddress, QueryStatistics queries) {
+}
@@ -0,0 +1,102 @@
+package com.civiccomplaint.accesslog;
+
+import com.civiccomplaint.auth.JwtAuthenticationFilter;
+import com.civiccomplaint.jdbc.QueryBudgetFilter;
+import com.civiccomplaint.jdbc.QueryStatistics;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Emits one access log line per request through {@link AccessLogWriter}.
+ * Runs ahead of the request concurrency limiter so that rejected requests
+ * are logged too. Streamed responses are logged when the async request
+ * completes rather than when the first dispatch returns.
+ */
+@Component
+@ConditionalOnProperty(name = "app.access-log.enabled", havingValue = "true", matchIfMissing = true)
+public class AccessLogFilter extends OncePerRequestFilter implements Ordered {
+
+    private final AccessLogWriter writer;
+
+    public AccessLogFilter(AccessLogWriter writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public int getOrder() {
+        // Ahead of RequestConcurrencyLimitFilter (-110) and Spring Security (-100)
+        return -120;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        if (!writer.isEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new CompletionListener(request, response, startedAt));
+            } else {
+                submit(request, response, startedAt);
+            }
+        }
+    }
+
+    private void submit(HttpServletRequest request, HttpServletResponse response, long startedAt) {
+        writer.submit(new AccessLogEntry(
+                request.getMethod(),
+                request.getRequestURI(),
+                response.getStatus(),
+                System.nanoTime() - startedAt,
+                request.getAttribute(JwtAuthenticationFilter.ROLE_ATTRIBUTE),
+                request.getAttribute(JwtAuthenticationFilter.USER_ID_ATTRIBUTE),
+                request.getRemoteAddr(),
+                (QueryStatistics) request.getAttribute(QueryBudgetFilter.STATISTICS_ATTRIBUTE)));
+    }
+
+    private final class CompletionListener implements AsyncListener {
+
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+        private final long startedAt;
+
+        CompletionListener(HttpServletRequest request, HttpServletResponse response, long startedAt) {
+            this.request = request;
+            this.response = response;
+            this.startedAt = startedAt;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            submit(request, response, startedAt);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.civiccomplaint.accesslog;
+
+import com.civiccomplaint.jdbc.QueryStatistics;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Writes access log lines on a single background thread.
+ * Request threads only offer an entry to a bounded queue and never touch an
+ * appender. When the queue is full the entry is dropped and counted; the
+ * writer reports drops in the log once per interval rather than per line.
+ * Lines go to the "access" logger, so they can be routed or silenced with
+ * logging.level.access.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.access-log.enabled", havingValue = "true", matchIfMissing = true)
+public class AccessLogWriter implements DisposableBean {
+
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("access");
+    private static final long DROP_REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final BlockingQueue<AccessLogEntry> queue;
+    private final int queueCapacity;
+    private final Thread thread;
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    private volatile boolean running = true;
+
+    public AccessLogWriter(MeterRegistry meterRegistry,
+            @Value("${app.access-log.queue-capacity:8192}") int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        FunctionCounter.builder("access.log.written", written, LongAdder::sum)
+                .description("Access log lines written")
+                .register(meterRegistry);
+        FunctionCounter.builder("access.log.dropped", dropped, LongAdder::sum)
+                .description("Access log lines dropped because the queue was full")
+                .register(meterRegistry);
+        Gauge.builder("access.log.queue.size", queue, BlockingQueue::size)
+                .description("Access log lines waiting to be written")
+                .register(meterRegistry);
+
+        this.thread = new Thread(this::run, "access-log");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Whether access lines would be written at all, so that the filter can
+     * skip capturing them.
+     *
+     * @return true if the access logger is enabled at INFO
+     */
+    public boolean isEnabled() {
+        return ACCESS_LOG.isInfoEnabled();
+    }
+
+    /**
+     * Queue an entry without blocking.
+     *
+     * @param entry completed request
+     */
+    void submit(AccessLogEntry entry) {
+        if (!queue.offer(entry)) {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * Get writer counters.
+     *
+     * @return writer statistics
+     */
+    public Statistics getStatistics() {
+        return new Statistics(queueCapacity, queue.size(), written.sum(), dropped.sum());
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        thread.interrupt();
+        thread.join(TimeUnit.SECONDS.toMillis(2));
+    }
+
+    private void run() {
+        long reportedDrops = 0;
+        long lastReport = System.nanoTime();
+        while (running) {
+            try {
+                AccessLogEntry entry = queue.poll(1, TimeUnit.SECONDS);
+                if (entry != null) {
+                    write(entry);
+                }
+            } catch (InterruptedException e) {
+                break;
+            } catch (RuntimeException e) {
+                log.warn("Failed to write access log line: {}", e.toString());
+            }
+
+            if (System.nanoTime() - lastReport >= DROP_REPORT_INTERVAL_NANOS) {
+                long drops = dropped.sum();
+                if (drops > reportedDrops) {
+                    log.warn("Dropped {} access log lines: queue of {} was full", drops - reportedDrops,
+                            queueCapacity);
+                    reportedDrops = drops;
+                }
+                lastReport = System.nanoTime();
+            }
+        }
+
+        // Flush what was queued before shutdown
+        AccessLogEntry entry;
+        while ((entry = queue.poll()) != null) {
+            write(entry);
+        }
+    }
+
+    private void write(AccessLogEntry entry) {
+        QueryStatistics queries = entry.queries();
+        ACCESS_LOG.info("method={} uri={} status={} durationMs={} queries={} dbMs={} role={} user={} client={}",
+                entry.method(), entry.uri(), entry.status(), Math.round(entry.durationNanos() / 1_000.0) / 1_000.0,
+                queries != null ? queries.getQueries() : "-",
+                queries != null ? Math.round(queries.getDbTimeMillis() * 1_000) / 1_000.0 : "-",
+                entry.role() != null ? entry.role() : "-", entry.userId() != null ? entry.userId() : "-",
+                entry.clientAddress());
+        written.increment();
+    }
+
+    /**
+     * Writer statistics.
+     *
+     * @param queueCapacity maximum lines waiting to be written
+     * @param queued        lines currently waiting
+     * @param written       lines written since startup
+     * @param dropped       lines dropped on a full queue since startup
+     */
+    public record Statistics(int queueCapacity, int queued, long written, long dropped) {
+    }
+}
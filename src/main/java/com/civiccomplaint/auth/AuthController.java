@@ -4,6 +4,7 @@ import com.civiccomplaint.auth.dto.AuthResponse;
 import com.civiccomplaint.auth.dto.LoginRequest;
 import com.civiccomplaint.auth.dto.RegisterRequest;
 import com.civiccomplaint.common.dto.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -32,7 +33,7 @@ public class AuthController {
     @PostMapping("/register")
     public ResponseEntity<ApiResponse<AuthResponse>> registerCitizen(
             @Valid @RequestBody RegisterRequest request) {
-        log.info("POST /auth/register - Registering new citizen");
+        log.debug("POST /auth/register - Registering new citizen");
         AuthResponse response = authService.registerCitizen(request);
         return ResponseEntity
                 .status(HttpStatus.CREATED)
@@ -42,28 +43,30 @@ public class AuthController {
     /**
      * Login for citizen.
      *
-     * @param request login request
+     * @param request     login request
+     * @param httpRequest HTTP request, used for the client address
      * @return authentication response with token
      */
     @PostMapping("/citizen/login")
     public ResponseEntity<ApiResponse<AuthResponse>> loginCitizen(
-            @Valid @RequestBody LoginRequest request) {
-        log.info("POST /auth/citizen/login - Citizen login attempt");
-        AuthResponse response = authService.loginCitizen(request);
+            @Valid @RequestBody LoginRequest request, HttpServletRequest httpRequest) {
+        log.debug("POST /auth/citizen/login - Citizen login attempt");
+        AuthResponse response = authService.loginCitizen(request, httpRequest.getRemoteAddr());
         return ResponseEntity.ok(ApiResponse.success("Login successful", response));
     }
 
     /**
      * Login for admin.
      *
-     * @param request login request
+     * @param request     login request
+     * @param httpRequest HTTP request, used for the client address
      * @return authentication response with token
      */
     @PostMapping("/admin/login")
     public ResponseEntity<ApiResponse<AuthResponse>> loginAdmin(
-            @Valid @RequestBody LoginRequest request) {
-        log.info("POST /auth/admin/login - Admin login attempt");
-        AuthResponse response = authService.loginAdmin(request);
+            @Valid @RequestBody LoginRequest request, HttpServletRequest httpRequest) {
+        log.debug("POST /auth/admin/login - Admin login attempt");
+        AuthResponse response = authService.loginAdmin(request, httpRequest.getRemoteAddr());
         return ResponseEntity.ok(ApiResponse.success("Login successful", response));
     }
 }
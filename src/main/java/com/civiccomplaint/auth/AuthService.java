@@ -4,15 +4,20 @@ import com.civiccomplaint.auth.dto.AuthResponse;
 import com.civiccomplaint.auth.dto.LoginRequest;
 import com.civiccomplaint.auth.dto.RegisterRequest;
 import com.civiccomplaint.exception.ResourceNotFoundException;
+import com.civiccomplaint.master.MasterDataCache;
+import com.civiccomplaint.master.Prabhag;
+import com.civiccomplaint.tenant.TenantContext;
+import com.civiccomplaint.tenant.TenantRegistry;
 import com.civiccomplaint.user.Role;
 import com.civiccomplaint.user.User;
+import com.civiccomplaint.user.UserConstraintViolations;
 import com.civiccomplaint.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Service for authentication operations.
@@ -24,32 +29,29 @@ import org.springframework.transaction.annotation.Transactional;
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final com.civiccomplaint.master.PrabhagRepository prabhagRepository; // Inject PrabhagRepository
-    private final PasswordEncoder passwordEncoder;
+    private final MasterDataCache masterDataCache;
     private final JwtUtil jwtUtil;
+    private final PasswordHashingService passwordHashingService;
+    private final LoginAttemptThrottle loginAttemptThrottle;
+    private final TenantRegistry tenantRegistry;
+    // Spring Boot's executor for application tasks, injected by name; runs
+    // the rehash update so that no hashing thread waits for a connection
+    private final AsyncTaskExecutor applicationTaskExecutor;
 
     /**
      * Register a new citizen.
+     * The prabhag is resolved from the master-data cache and the password is
+     * hashed before any database work, so registration is a single insert.
+     * Duplicate email or mobile number is detected from the unique constraints.
      *
      * @param request registration request
      * @return authentication response with token
      */
-    @Transactional
     public AuthResponse registerCitizen(RegisterRequest request) {
         log.info("Registering new citizen with email: {}", request.getEmail());
 
-        // Check if email already exists
-        if (userRepository.existsByEmail(request.getEmail())) {
-            throw new IllegalArgumentException("Email already registered");
-        }
-
-        // Check if mobile number already exists
-        if (userRepository.existsByMobileNumber(request.getMobileNumber())) {
-            throw new IllegalArgumentException("Mobile number already registered");
-        }
-
-        // Validate and fetch Prabhag
-        com.civiccomplaint.master.Prabhag prabhag = prabhagRepository.findById(request.getPrabhagId())
+        // Validate Prabhag against cached master data
+        Prabhag prabhag = masterDataCache.findPrabhag(request.getPrabhagId())
                 .orElseThrow(() -> new ResourceNotFoundException("Prabhag", "id", request.getPrabhagId()));
 
         // Create new user
@@ -60,16 +62,20 @@ public class AuthService {
                 .email(request.getEmail())
                 .address(request.getAddress())
                 .pinCode(request.getPinCode())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(passwordHashingService.encode(request.getPassword()))
                 .prabhag(prabhag) // Assign Prabhag
                 .isActive(true)
                 .build();
 
-        user = userRepository.save(user);
+        try {
+            user = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throw UserConstraintViolations.translate(e);
+        }
         log.info("Citizen registered successfully with ID: {}", user.getId());
 
         // Generate token
-        String token = jwtUtil.generateToken(user.getId(), user.getRole().name());
+        String token = jwtUtil.generateToken(user.getId(), user.getRole().name(), tenantClaim());
 
         return AuthResponse.builder()
                 .token(token)
@@ -83,43 +89,84 @@ public class AuthService {
 
     /**
      * Login for citizen.
+     * Not transactional so that no connection is held while the password is
+     * verified on the hashing executor.
      *
-     * @param request login request
+     * @param request  login request
+     * @param clientIp client IP address
      * @return authentication response with token
      */
-    @Transactional(readOnly = true)
-    public AuthResponse loginCitizen(LoginRequest request) {
-        log.info("Citizen login attempt with identifier: {}", request.getIdentifier());
-        return login(request, Role.CITIZEN);
+    public AuthResponse loginCitizen(LoginRequest request, String clientIp) {
+        log.debug("Citizen login attempt with identifier: {}", request.getIdentifier());
+        return login(request, clientIp, Role.CITIZEN);
     }
 
     /**
      * Login for admin.
      *
-     * @param request login request
+     * @param request  login request
+     * @param clientIp client IP address
      * @return authentication response with token
      */
+    public AuthResponse loginAdmin(LoginRequest request, String clientIp) {
+        log.debug("Admin login attempt with identifier: {}", request.getIdentifier());
+        // Allow both ADMIN and SUPER_ADMIN to use admin login
+        return login(request, clientIp, Role.ADMIN, Role.SUPER_ADMIN);
+    }
+
     /**
-     * Login for admin.
+     * Common login logic for both citizen and admin.
+     * Throttled attempts are rejected before any database or hashing work.
+     * Every attempt counts as a failed one until the password is verified.
      *
-     * @param request login request
+     * @param request      login request
+     * @param clientIp     client IP address
+     * @param allowedRoles allowed user roles
      * @return authentication response with token
      */
-    @Transactional(readOnly = true)
-    public AuthResponse loginAdmin(LoginRequest request) {
-        log.info("Admin login attempt with identifier: {}", request.getIdentifier());
-        // Allow both ADMIN and SUPER_ADMIN to use admin login
-        return login(request, Role.ADMIN, Role.SUPER_ADMIN);
+    private AuthResponse login(LoginRequest request, String clientIp, Role... allowedRoles) {
+        String throttleKey = throttleKey(request.getIdentifier());
+        loginAttemptThrottle.acquire(throttleKey, clientIp);
+
+        try {
+            AuthResponse response = authenticate(request, allowedRoles);
+            loginAttemptThrottle.recordSuccess(throttleKey);
+            return response;
+        } catch (BadCredentialsException | ResourceNotFoundException e) {
+            // The acquired attempt stays counted as a failure
+            throw e;
+        } catch (RuntimeException e) {
+            loginAttemptThrottle.release(throttleKey);
+            throw e;
+        }
     }
 
     /**
-     * Common login logic for both citizen and admin.
+     * Key failed attempts by tenant as well, since the same email or mobile
+     * number may belong to different users in different cities.
+     *
+     * @param identifier email or mobile number
+     * @return throttle key
+     */
+    private String throttleKey(String identifier) {
+        return tenantRegistry.isEnabled() ? tenantRegistry.getCurrentTenantId() + ":" + identifier : identifier;
+    }
+
+    /**
+     * @return tenant claim for issued tokens, null when tenancy is disabled
+     */
+    private String tenantClaim() {
+        return tenantRegistry.isEnabled() ? tenantRegistry.getCurrentTenantId() : null;
+    }
+
+    /**
+     * Verify credentials and issue a token.
      *
      * @param request      login request
      * @param allowedRoles allowed user roles
      * @return authentication response with token
      */
-    private AuthResponse login(LoginRequest request, Role... allowedRoles) {
+    private AuthResponse authenticate(LoginRequest request, Role... allowedRoles) {
         // Find user by email or mobile number
         User user = findUserByIdentifier(request.getIdentifier());
 
@@ -138,15 +185,17 @@ public class AuthService {
         }
 
         // Verify password
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (!passwordHashingService.matches(request.getPassword(), user.getPassword())) {
             log.warn("Invalid password for user: {}", user.getId());
             throw new BadCredentialsException("Invalid credentials");
         }
 
+        rehashIfNeeded(user, request.getPassword());
+
         log.info("User logged in successfully: {} with role: {}", user.getId(), user.getRole());
 
         // Generate token
-        String token = jwtUtil.generateToken(user.getId(), user.getRole().name());
+        String token = jwtUtil.generateToken(user.getId(), user.getRole().name(), tenantClaim());
 
         return AuthResponse.builder()
                 .token(token)
@@ -158,6 +207,41 @@ public class AuthService {
                 .build();
     }
 
+    /**
+     * Rehash the password in the background if it was hashed with a weaker
+     * BCrypt cost than currently configured. Best effort: skipped when the
+     * hashing executor is saturated, and the update only applies if the stored
+     * hash has not changed in the meantime. The hash is computed on the
+     * hashing executor and stored from the application task executor.
+     *
+     * @param user        authenticated user
+     * @param rawPassword verified raw password
+     */
+    private void rehashIfNeeded(User user, String rawPassword) {
+        String currentHash = user.getPassword();
+        if (!passwordHashingService.upgradeEncoding(currentHash)) {
+            return;
+        }
+
+        // The update runs on another thread, so it needs the tenant carried over
+        String tenantId = TenantContext.getTenantId();
+        passwordHashingService.encodeAsync(rawPassword).whenCompleteAsync((newHash, error) -> {
+            if (error != null) {
+                log.debug("Skipped password rehash for user {}: {}", user.getId(), error.getMessage());
+                return;
+            }
+            try {
+                int updated = TenantContext.callAs(tenantId,
+                        () -> userRepository.updatePasswordHash(user.getId(), currentHash, newHash));
+                if (updated > 0) {
+                    log.info("Rehashed password for user {} with current BCrypt cost", user.getId());
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to store rehashed password for user {}", user.getId(), e);
+            }
+        }, applicationTaskExecutor);
+    }
+
     /**
      * Find user by email or mobile number.
      *
@@ -1,12 +1,16 @@
 package com.civiccomplaint.auth;
 
+import com.civiccomplaint.tenant.TenantContext;
+import com.civiccomplaint.tenant.TenantFilter;
+import com.civiccomplaint.tenant.TenantRegistry;
 import com.civiccomplaint.user.User;
 import com.civiccomplaint.user.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -22,14 +26,41 @@ import java.util.UUID;
 /**
  * JWT authentication filter.
  * Intercepts requests and validates JWT tokens.
+ * Token verification, including the user lookup, is timed per outcome, and
+ * the authenticated role and user id are left on the request for the HTTP
+ * request metrics and the access log. With tenancy enabled, the request is
+ * bound to the tenant in the token before the user is looked up.
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    /**
+     * Request attribute holding the authenticated user's role name.
+     */
+    public static final String ROLE_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".role";
+
+    /**
+     * Request attribute holding the authenticated user's id.
+     */
+    public static final String USER_ID_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".userId";
+
     private final JwtUtil jwtUtil;
     private final UserRepository userRepository;
+    private final TenantRegistry tenantRegistry;
+    private final Timer verifiedTimer;
+    private final Timer rejectedTimer;
+    private final Timer invalidTimer;
+
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserRepository userRepository, TenantRegistry tenantRegistry,
+            MeterRegistry meterRegistry) {
+        this.jwtUtil = jwtUtil;
+        this.userRepository = userRepository;
+        this.tenantRegistry = tenantRegistry;
+        this.verifiedTimer = verificationTimer(meterRegistry, "verified");
+        this.rejectedTimer = verificationTimer(meterRegistry, "rejected");
+        this.invalidTimer = verificationTimer(meterRegistry, "invalid");
+    }
 
     @Override
     protected void doFilterInternal(
@@ -44,12 +75,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
+        Timer.Sample sample = Timer.start();
+        Timer outcome = rejectedTimer;
         try {
             final String jwt = authHeader.substring(7);
             final UUID userId = jwtUtil.extractUserId(jwt);
             final String role = jwtUtil.extractRole(jwt);
 
-            if (userId != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            if (userId != null && SecurityContextHolder.getContext().getAuthentication() == null
+                    && bindTenant(jwt, request)) {
                 User user = userRepository.findById(userId).orElse(null);
 
                 if (user != null && user.getIsActive() && jwtUtil.validateToken(jwt, userId)) {
@@ -62,14 +96,51 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
                     authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authToken);
+                    request.setAttribute(ROLE_ATTRIBUTE, user.getRole().name());
+                    request.setAttribute(USER_ID_ATTRIBUTE, userId);
+                    outcome = verifiedTimer;
 
-                    log.info("Authenticated user: {} with role: {}", userId, role);
+                    log.debug("Authenticated user: {} with role: {}", userId, role);
                 }
             }
         } catch (Exception e) {
+            outcome = invalidTimer;
             log.error("Cannot set user authentication: {}", e.getMessage());
         }
+        sample.stop(outcome);
 
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * Bind the request to the token's tenant. Tokens issued before tenancy
+     * was enabled belong to the default tenant.
+     *
+     * @return false if the token's tenant is unknown or differs from the
+     *         X-Tenant-ID header
+     */
+    private boolean bindTenant(String jwt, HttpServletRequest request) {
+        if (!tenantRegistry.isEnabled()) {
+            return true;
+        }
+        String tokenTenant = jwtUtil.extractTenant(jwt);
+        String tenantId = tokenTenant != null ? tokenTenant : tenantRegistry.getDefaultTenantId();
+        String header = request.getHeader(TenantFilter.TENANT_HEADER);
+        boolean headerMismatch = header != null && !header.isBlank() && !header.trim().equals(tenantId);
+        if (tenantRegistry.find(tenantId).isEmpty() || headerMismatch) {
+            log.warn("Rejected token for tenant {} on {} {}", tenantId, request.getMethod(),
+                    request.getRequestURI());
+            return false;
+        }
+        TenantContext.setTenantId(tenantId);
+        request.setAttribute(TenantFilter.TENANT_ATTRIBUTE, tenantId);
+        return true;
+    }
+
+    private static Timer verificationTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("auth.jwt.verification")
+                .description("Bearer token verification, including the user lookup")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
 }
@@ -44,9 +44,24 @@ public class JwtUtil {
      * @return JWT token
      */
     public String generateToken(UUID userId, String role) {
+        return generateToken(userId, role, null);
+    }
+
+    /**
+     * Generate JWT token for a user of a tenant.
+     *
+     * @param userId   the user ID
+     * @param role     the user role
+     * @param tenantId the user's tenant, or null when tenancy is disabled
+     * @return JWT token
+     */
+    public String generateToken(UUID userId, String role, String tenantId) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("userId", userId.toString());
         claims.put("role", role);
+        if (tenantId != null) {
+            claims.put("tenant", tenantId);
+        }
 
         return createToken(claims, userId.toString());
     }
@@ -102,6 +117,16 @@ public class JwtUtil {
         return extractClaim(token, claims -> claims.get("role", String.class));
     }
 
+    /**
+     * Extract tenant from token.
+     *
+     * @param token JWT token
+     * @return tenant ID, or null for tokens issued without tenancy
+     */
+    public String extractTenant(String token) {
+        return extractClaim(token, claims -> claims.get("tenant", String.class));
+    }
+
     /**
      * Extract expiration date from token.
      *
@@ -0,0 +1,278 @@
+package com.civiccomplaint.auth;
+
+import com.civiccomplaint.exception.TooManyRequestsException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory login throttle, consulted before any database or hashing work.
+ * Two sliding-window limits apply: every attempt counts against the client
+ * IP, and failed attempts count against the login identifier. An attempt is
+ * counted as a failure up front, so concurrent guesses cannot all pass the
+ * check before any of them fails; a successful login clears the
+ * identifier's failures. Once a limiter tracks its maximum number of keys,
+ * attempts for new keys are rejected until idle windows are evicted.
+ */
+@Slf4j
+@Component
+public class LoginAttemptThrottle {
+
+    private static final String REJECTION_MESSAGE = "Too many login attempts, please try again later";
+
+    private final SlidingWindowLimiter ipAttempts;
+    private final SlidingWindowLimiter identifierFailures;
+
+    public LoginAttemptThrottle(
+            @Value("${app.security.login-throttle.ip.max-attempts:30}") int ipMaxAttempts,
+            @Value("${app.security.login-throttle.ip.window:1m}") Duration ipWindow,
+            @Value("${app.security.login-throttle.identifier.max-failures:5}") int identifierMaxFailures,
+            @Value("${app.security.login-throttle.identifier.window:15m}") Duration identifierWindow,
+            @Value("${app.security.login-throttle.max-tracked-keys:100000}") int maxTrackedKeys) {
+        this.ipAttempts = new SlidingWindowLimiter("ip", ipMaxAttempts, ipWindow, maxTrackedKeys);
+        this.identifierFailures = new SlidingWindowLimiter("identifier", identifierMaxFailures, identifierWindow,
+                maxTrackedKeys);
+    }
+
+    /**
+     * Check both limits and count the attempt against the client IP and, as
+     * a failure until proven otherwise, against the identifier. Callers must
+     * follow up with {@link #recordSuccess} or {@link #release} unless the
+     * attempt failed.
+     *
+     * @param identifier login identifier
+     * @param clientIp   client IP address
+     * @throws TooManyRequestsException if either limit is exceeded
+     */
+    public void acquire(String identifier, String clientIp) {
+        long now = System.currentTimeMillis();
+        String key = normalize(identifier);
+
+        long identifierRetryAfter = identifierFailures.tryAcquire(key, now);
+        if (identifierRetryAfter > 0) {
+            log.warn("Login throttled for identifier {}", identifier);
+            throw new TooManyRequestsException(REJECTION_MESSAGE, identifierRetryAfter);
+        }
+
+        long ipRetryAfter = ipAttempts.tryAcquire(clientIp, now);
+        if (ipRetryAfter > 0) {
+            identifierFailures.refund(key, now);
+            log.warn("Login throttled for client {}", clientIp);
+            throw new TooManyRequestsException(REJECTION_MESSAGE, ipRetryAfter);
+        }
+    }
+
+    /**
+     * Give back an acquired attempt that ended neither in success nor in a
+     * failed credential check, e.g. because hashing was unavailable.
+     *
+     * @param identifier login identifier
+     */
+    public void release(String identifier) {
+        identifierFailures.refund(normalize(identifier), System.currentTimeMillis());
+    }
+
+    /**
+     * Clear recorded failures after a successful login.
+     *
+     * @param identifier login identifier
+     */
+    public void recordSuccess(String identifier) {
+        identifierFailures.reset(normalize(identifier));
+    }
+
+    /**
+     * Get throttle counters.
+     *
+     * @return throttle statistics
+     */
+    public Statistics getStatistics() {
+        return new Statistics(ipAttempts.statistics(), identifierFailures.statistics());
+    }
+
+    /**
+     * Drop windows that no longer carry any weight.
+     */
+    @Scheduled(fixedDelayString = "${app.security.login-throttle.cleanup-interval-ms:60000}")
+    public void evictIdle() {
+        long now = System.currentTimeMillis();
+        ipAttempts.evictIdle(now);
+        identifierFailures.evictIdle(now);
+    }
+
+    private static String normalize(String identifier) {
+        return identifier == null ? "" : identifier.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Counters for both limits.
+     */
+    public record Statistics(LimiterStatistics ip, LimiterStatistics identifier) {
+    }
+
+    /**
+     * Counters for a single limit.
+     */
+    public record LimiterStatistics(int limit, long windowSeconds, int trackedKeys, long rejected,
+            long overCapacity) {
+    }
+
+    /**
+     * Sliding-window counters keyed by string.
+     * The count in the current fixed window is combined with the previous
+     * window's count, weighted by how much of it still overlaps the sliding
+     * window. Each key's state is updated lock-free with compare-and-set.
+     */
+    private static final class SlidingWindowLimiter {
+
+        private final String name;
+        private final int limit;
+        private final long windowMillis;
+        private final int maxKeys;
+        private final ConcurrentHashMap<String, AtomicReference<Window>> windows = new ConcurrentHashMap<>();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder overCapacity = new LongAdder();
+        private final AtomicLong lastSweep = new AtomicLong();
+
+        SlidingWindowLimiter(String name, int limit, Duration window, int maxKeys) {
+            this.name = name;
+            this.limit = limit;
+            this.windowMillis = window.toMillis();
+            this.maxKeys = maxKeys;
+        }
+
+        /**
+         * Count an attempt if the key is under its limit.
+         *
+         * @return 0 if acquired, otherwise seconds until the next attempt may succeed
+         */
+        long tryAcquire(String key, long now) {
+            AtomicReference<Window> ref = windowFor(key, now);
+            if (ref == null) {
+                rejected.increment();
+                return Math.max(1, windowMillis / 1000);
+            }
+            while (true) {
+                Window current = ref.get();
+                Window rolled = current.roll(now, windowMillis);
+                if (rolled.estimate(now, windowMillis) + 1 > limit) {
+                    rejected.increment();
+                    return rolled.retryAfterSeconds(now, windowMillis);
+                }
+                if (ref.compareAndSet(current, rolled.increment())) {
+                    return 0;
+                }
+            }
+        }
+
+        /**
+         * Uncount an attempt acquired earlier.
+         */
+        void refund(String key, long now) {
+            AtomicReference<Window> ref = windows.get(key);
+            if (ref != null) {
+                ref.updateAndGet(current -> current.roll(now, windowMillis).decrement());
+            }
+        }
+
+        void reset(String key) {
+            windows.remove(key);
+        }
+
+        void evictIdle(long now) {
+            int before = windows.size();
+            windows.entrySet().removeIf(entry -> entry.getValue().get().isIdle(now, windowMillis));
+            int evicted = before - windows.size();
+            if (evicted > 0) {
+                log.debug("Evicted {} idle login throttle windows for {}", evicted, name);
+            }
+        }
+
+        LimiterStatistics statistics() {
+            return new LimiterStatistics(limit, windowMillis / 1000, windows.size(), rejected.sum(),
+                    overCapacity.sum());
+        }
+
+        /**
+         * Get or create the window for a key. Returns null once the key cap is
+         * reached and no idle window can be evicted, so a flood of distinct
+         * keys can neither exhaust memory nor switch the limit off: the
+         * caller rejects the attempt.
+         */
+        private AtomicReference<Window> windowFor(String key, long now) {
+            AtomicReference<Window> ref = windows.get(key);
+            if (ref != null) {
+                return ref;
+            }
+            if (windows.size() >= maxKeys) {
+                // At most one sweep per second, so a flood cannot make every attempt scan the map
+                long last = lastSweep.get();
+                if (now - last >= 1000 && lastSweep.compareAndSet(last, now)) {
+                    evictIdle(now);
+                    if (windows.size() >= maxKeys) {
+                        log.warn("Login throttle for {} is tracking {} keys; rejecting new keys", name, maxKeys);
+                    }
+                }
+                if (windows.size() >= maxKeys) {
+                    overCapacity.increment();
+                    return null;
+                }
+            }
+            return windows.computeIfAbsent(key, k -> new AtomicReference<>(new Window(now, 0, 0)));
+        }
+    }
+
+    /**
+     * Immutable state of a sliding window.
+     *
+     * @param start    start of the current fixed window, epoch millis
+     * @param current  count in the current fixed window
+     * @param previous count in the previous fixed window
+     */
+    private record Window(long start, int current, int previous) {
+
+        Window roll(long now, long windowMillis) {
+            long elapsed = now - start;
+            if (elapsed < windowMillis) {
+                return this;
+            }
+            if (elapsed < 2 * windowMillis) {
+                return new Window(start + windowMillis, 0, current);
+            }
+            return new Window(now - elapsed % windowMillis, 0, 0);
+        }
+
+        double estimate(long now, long windowMillis) {
+            double previousWeight = 1.0 - (double) (now - start) / windowMillis;
+            return previous * Math.max(previousWeight, 0) + current;
+        }
+
+        long retryAfterSeconds(long now, long windowMillis) {
+            return Math.max(1, (start + windowMillis - now + 999) / 1000);
+        }
+
+        boolean isIdle(long now, long windowMillis) {
+            return now - start >= 2 * windowMillis;
+        }
+
+        Window increment() {
+            return new Window(start, current + 1, previous);
+        }
+
+        Window decrement() {
+            if (current > 0) {
+                return new Window(start, current - 1, previous);
+            }
+            // Counted before the window rolled over
+            return previous > 0 ? new Window(start, 0, previous - 1) : this;
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.civiccomplaint.auth;
+
+import com.civiccomplaint.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs BCrypt hashing on a dedicated bounded executor.
+ * BCrypt is CPU bound by design; keeping it off the servlet threads stops a
+ * login storm from starving database-bound requests. When the executor queue
+ * is full, callers fail fast with 503 instead of piling up. Hashing time and
+ * queue wait are exported as auth.password.hashing timers per operation,
+ * alongside the executor's own meters.
+ */
+@Slf4j
+@Service
+public class PasswordHashingService implements DisposableBean {
+
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final int queueCapacity;
+
+    private final LatencyRecorder hashLatency = new LatencyRecorder();
+    private final LatencyRecorder queueWait = new LatencyRecorder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer queueWaitTimer;
+
+    public PasswordHashingService(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${app.security.password-hashing.pool-size:0}") int poolSize,
+            @Value("${app.security.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${app.security.password-hashing.timeout-ms:5000}") long timeoutMillis) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMillis = timeoutMillis;
+        this.queueCapacity = queueCapacity;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new HashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = hashingTimer(meterRegistry, "encode");
+        this.matchesTimer = hashingTimer(meterRegistry, "matches");
+        this.queueWaitTimer = Timer.builder("auth.password.hashing.queue.wait")
+                .description("Time a BCrypt task spent queued before a hashing thread picked it up")
+                .register(meterRegistry);
+        FunctionCounter.builder("auth.password.hashing.rejected", rejected, LongAdder::sum)
+                .description("BCrypt tasks rejected because the queue was full")
+                .register(meterRegistry);
+        FunctionCounter.builder("auth.password.hashing.timeouts", timedOut, LongAdder::sum)
+                .description("BCrypt tasks abandoned after the timeout")
+                .register(meterRegistry);
+        new ExecutorServiceMetrics(executor, "password-hash", Tags.empty()).bindTo(meterRegistry);
+
+        log.info("Password hashing executor started with {} threads and queue capacity {}", threads, queueCapacity);
+    }
+
+    /**
+     * Verify a raw password against a stored hash.
+     *
+     * @param rawPassword     raw password
+     * @param encodedPassword stored hash
+     * @return true if the password matches
+     * @throws ServiceUnavailableException if the executor is saturated or the check times out
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return await(submit(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    /**
+     * Hash a raw password.
+     *
+     * @param rawPassword raw password
+     * @return encoded password
+     * @throws ServiceUnavailableException if the executor is saturated or hashing times out
+     */
+    public String encode(CharSequence rawPassword) {
+        return await(submit(encodeTimer, () -> passwordEncoder.encode(rawPassword)));
+    }
+
+    /**
+     * Hash a raw password without waiting for the result.
+     * The returned future completes exceptionally with
+     * {@link ServiceUnavailableException} if the executor is saturated.
+     *
+     * @param rawPassword raw password
+     * @return future of the encoded password
+     */
+    public CompletableFuture<String> encodeAsync(CharSequence rawPassword) {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        try {
+            Callable<String> task = timed(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+            executor.execute(() -> {
+                try {
+                    result.complete(task.call());
+                } catch (Exception e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            result.completeExceptionally(saturated());
+        }
+        return result;
+    }
+
+    /**
+     * Check whether a stored hash was produced with weaker settings than the
+     * encoder is currently configured with.
+     *
+     * @param encodedPassword stored hash
+     * @return true if the password should be rehashed
+     */
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Get a snapshot of executor and latency statistics.
+     *
+     * @return hashing statistics
+     */
+    public Statistics getStatistics() {
+        return new Statistics(
+                executor.getMaximumPoolSize(),
+                executor.getActiveCount(),
+                executor.getQueue().size(),
+                queueCapacity,
+                executor.getCompletedTaskCount(),
+                rejected.sum(),
+                timedOut.sum(),
+                hashLatency.snapshot(),
+                queueWait.snapshot());
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private <T> Future<T> submit(Timer timer, Callable<T> task) {
+        try {
+            return executor.submit(timed(timer, task));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw saturated();
+        }
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timedOut.increment();
+            log.warn("Password hashing timed out after {} ms", timeoutMillis);
+            throw saturated();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw saturated();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    /**
+     * Wrap a task so that time spent queued and time spent hashing are recorded
+     * separately.
+     */
+    private <T> Callable<T> timed(Timer timer, Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        return () -> {
+            long startedAt = System.nanoTime();
+            queueWait.record(startedAt - submittedAt);
+            queueWaitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+            try {
+                return task.call();
+            } finally {
+                long elapsed = System.nanoTime() - startedAt;
+                hashLatency.record(elapsed);
+                timer.record(elapsed, TimeUnit.NANOSECONDS);
+            }
+        };
+    }
+
+    private static Timer hashingTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("auth.password.hashing")
+                .description("BCrypt hashing time, excluding queue wait")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    private ServiceUnavailableException saturated() {
+        return new ServiceUnavailableException("Server is busy, please try again shortly", RETRY_AFTER_SECONDS);
+    }
+
+    /**
+     * Executor and latency statistics.
+     */
+    public record Statistics(int poolSize, int activeThreads, int queuedTasks, int queueCapacity,
+            long completedTasks, long rejectedTasks, long timedOutTasks,
+            LatencySnapshot hashLatency, LatencySnapshot queueWait) {
+    }
+
+    /**
+     * Latency summary in milliseconds.
+     */
+    public record LatencySnapshot(long count, double meanMillis, double maxMillis) {
+    }
+
+    private static final class LatencyRecorder {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        LatencySnapshot snapshot() {
+            long samples = count.sum();
+            double mean = samples == 0 ? 0 : totalNanos.sum() / (double) samples / 1_000_000;
+            return new LatencySnapshot(samples, mean, maxNanos.get() / 1_000_000.0);
+        }
+    }
+
+    private static final class HashingThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hash-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -1,16 +1,24 @@
 package com.civiccomplaint.complaint;
 
 import com.civiccomplaint.common.dto.ApiResponse;
+import com.civiccomplaint.complaint.dto.BulkComplaintStatusUpdateRequest;
+import com.civiccomplaint.complaint.dto.BulkComplaintStatusUpdateResponse;
 import com.civiccomplaint.complaint.dto.ComplaintResponse;
+import com.civiccomplaint.complaint.dto.ComplaintSlaResponse;
 import com.civiccomplaint.complaint.dto.ComplaintStatsResponse;
 import com.civiccomplaint.complaint.dto.ComplaintStatusUpdateRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -36,6 +44,8 @@ public class AdminComplaintController {
          * @param page   page number (0-based)
          * @param size   page size
          * @param status optional status filter
+         * @param fields optional comma-separated fields to return, e.g.
+         *               id,complaintNumber,title,status,createdAt
          * @return paginated list of all complaints
          */
         @GetMapping("/all")
@@ -44,8 +54,9 @@ public class AdminComplaintController {
                         @RequestParam(defaultValue = "0") int page,
                         @RequestParam(defaultValue = "10") int size,
                         @RequestParam(required = false) String status,
+                        @RequestParam(required = false) String fields,
                         org.springframework.security.core.Authentication authentication) {
-                log.info("GET /admin/complaints/all - Admin access, Page: {}, Size: {}, Status: {}", page, size,
+                log.debug("GET /admin/complaints/all - Admin access, Page: {}, Size: {}, Status: {}", page, size,
                                 status);
 
                 com.civiccomplaint.auth.CustomUserDetails userDetails = (com.civiccomplaint.auth.CustomUserDetails) authentication
@@ -58,12 +69,12 @@ public class AdminComplaintController {
                         try {
                                 complaintStatus = ComplaintStatus.valueOf(status);
                         } catch (IllegalArgumentException e) {
-                                log.warn("Invalid status parameter: {}", status);
+                                log.debug("Invalid status parameter: {}", status);
                         }
                 }
 
                 PaginatedResponse<ComplaintResponse> complaints = complaintService.getAllComplaintsForAdmin(adminId,
-                                complaintStatus, pageable);
+                                complaintStatus, fields != null ? ComplaintField.parse(fields) : null, pageable);
 
                 return ResponseEntity.ok(ApiResponse.success(complaints));
         }
@@ -82,7 +93,7 @@ public class AdminComplaintController {
                         @PathVariable UUID complaintId,
                         @Valid @RequestBody ComplaintStatusUpdateRequest request,
                         org.springframework.security.core.Authentication authentication) {
-                log.info("PUT /admin/complaints/{}/status - Status: {}", complaintId, request.getStatus());
+                log.debug("PUT /admin/complaints/{}/status - Status: {}", complaintId, request.getStatus());
 
                 com.civiccomplaint.auth.CustomUserDetails userDetails = (com.civiccomplaint.auth.CustomUserDetails) authentication
                                 .getPrincipal();
@@ -92,6 +103,89 @@ public class AdminComplaintController {
                 return ResponseEntity.ok(ApiResponse.success("Complaint status updated successfully", response));
         }
 
+        /**
+         * Update the status of several complaints at once.
+         * Only accessible by admins. Each complaint is reported individually;
+         * complaints outside the admin's prabhag or that do not exist are
+         * skipped rather than failing the whole request.
+         *
+         * @param request bulk status update request
+         * @return per-complaint outcome
+         */
+        @PostMapping("/bulk-status")
+        @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN')")
+        public ResponseEntity<ApiResponse<BulkComplaintStatusUpdateResponse>> bulkUpdateComplaintStatus(
+                        @Valid @RequestBody BulkComplaintStatusUpdateRequest request,
+                        org.springframework.security.core.Authentication authentication) {
+                log.debug("POST /admin/complaints/bulk-status - {} complaints, Status: {}",
+                                request.getComplaintIds().size(), request.getStatus());
+
+                com.civiccomplaint.auth.CustomUserDetails userDetails = (com.civiccomplaint.auth.CustomUserDetails) authentication
+                                .getPrincipal();
+                BulkComplaintStatusUpdateResponse response = complaintService
+                                .bulkUpdateComplaintStatus(userDetails.getUser(), request);
+
+                return ResponseEntity.ok(ApiResponse.success("Complaint statuses updated", response));
+        }
+
+        /**
+         * Get median and 90th percentile resolution times from the status history.
+         * Only accessible by admins. An ADMIN only sees their own prabhag; a
+         * SUPER_ADMIN may filter by prabhag. Defaults to the last 30 days.
+         *
+         * @param from      inclusive start of the resolution window
+         * @param to        exclusive end of the resolution window
+         * @param prabhagId optional prabhag filter for SUPER_ADMIN
+         * @return resolution time statistics
+         */
+        @GetMapping("/sla")
+        @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN')")
+        public ResponseEntity<ApiResponse<ComplaintSlaResponse>> getResolutionSla(
+                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                        @RequestParam(required = false) Integer prabhagId,
+                        org.springframework.security.core.Authentication authentication) {
+                LocalDateTime windowEnd = to != null ? to : LocalDateTime.now();
+                LocalDateTime windowStart = from != null ? from : windowEnd.minusDays(30);
+                log.debug("GET /admin/complaints/sla - From: {}, To: {}, PrabhagId: {}", windowStart, windowEnd,
+                                prabhagId);
+
+                com.civiccomplaint.auth.CustomUserDetails userDetails = (com.civiccomplaint.auth.CustomUserDetails) authentication
+                                .getPrincipal();
+                ComplaintSlaResponse sla = complaintService.getResolutionSla(userDetails.getUser(), prabhagId,
+                                windowStart, windowEnd);
+                return ResponseEntity.ok(ApiResponse.success(sla));
+        }
+
+        /**
+         * Stream complaint creations and status changes as Server-Sent Events.
+         * Only accessible by admins. An ADMIN receives events for their own
+         * prabhag; a SUPER_ADMIN receives all events unless a prabhag is given.
+         * Events are named ComplaintCreated or ComplaintStatusChanged and carry
+         * the complaint summary as JSON; a comment is sent periodically as a
+         * heartbeat. Clients that fall behind are disconnected and should
+         * reload before reconnecting.
+         *
+         * @param prabhagId optional prabhag filter for SUPER_ADMIN
+         * @return event stream
+         */
+        @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+        @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN')")
+        public ResponseEntity<SseEmitter> streamComplaintUpdates(
+                        @RequestParam(required = false) Integer prabhagId,
+                        org.springframework.security.core.Authentication authentication) {
+                log.debug("GET /admin/complaints/stream - PrabhagId: {}", prabhagId);
+
+                com.civiccomplaint.auth.CustomUserDetails userDetails = (com.civiccomplaint.auth.CustomUserDetails) authentication
+                                .getPrincipal();
+                SseEmitter emitter = complaintService.subscribeToUpdates(userDetails.getUser(), prabhagId);
+                return ResponseEntity.ok()
+                                .cacheControl(CacheControl.noStore())
+                                // Stop reverse proxies from buffering the stream
+                                .header("X-Accel-Buffering", "no")
+                                .body(emitter);
+        }
+
         /**
          * Get complaint statistics.
          * Only accessible by admins.
@@ -102,7 +196,7 @@ public class AdminComplaintController {
         @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN')")
         public ResponseEntity<ApiResponse<ComplaintStatsResponse>> getComplaintStats(
                         org.springframework.security.core.Authentication authentication) {
-                log.info("GET /admin/complaints/stats - Admin access");
+                log.debug("GET /admin/complaints/stats - Admin access");
                 com.civiccomplaint.auth.CustomUserDetails userDetails = (com.civiccomplaint.auth.CustomUserDetails) authentication
                                 .getPrincipal();
                 UUID adminId = userDetails.getId();
@@ -0,0 +1,14 @@
+package com.civiccomplaint.complaint;
+
+import java.util.UUID;
+
+/**
+ * Minimal complaint view used to authorize bulk operations without loading
+ * full entities.
+ *
+ * @param id        complaint ID
+ * @param status    current status
+ * @param prabhagId prabhag of the citizen who raised the complaint, may be null
+ */
+public record ComplaintAccess(UUID id, ComplaintStatus status, Integer prabhagId) {
+}
@@ -23,6 +23,7 @@ public class ComplaintAttachmentController {
 
         private final ComplaintAttachmentRepository attachmentRepository;
         private final ComplaintRepository complaintRepository;
+        private final ComplaintAttachmentService attachmentService;
 
         /**
          * Get image attachment by ID.
@@ -39,7 +40,7 @@ public class ComplaintAttachmentController {
                         @PathVariable UUID attachmentId,
                         Authentication authentication) {
 
-                log.info("GET /complaints/attachments/{} - User: {}", attachmentId, authentication.getName());
+                log.debug("GET /complaints/attachments/{} - User: {}", attachmentId, authentication.getName());
 
                 ComplaintAttachment attachment = attachmentRepository.findById(attachmentId)
                                 .orElseThrow(() -> new ResourceNotFoundException("Attachment", "id", attachmentId));
@@ -62,6 +63,7 @@ public class ComplaintAttachmentController {
                 headers.setContentType(MediaType.parseMediaType(attachment.getContentType()));
                 headers.setContentDispositionFormData("inline", attachment.getFileName());
                 headers.setContentLength(attachment.getImageData().length);
+                attachmentService.recordServed(attachment);
 
                 return ResponseEntity.ok()
                                 .headers(headers)
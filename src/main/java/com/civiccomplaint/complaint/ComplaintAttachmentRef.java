@@ -0,0 +1,13 @@
+package com.civiccomplaint.complaint;
+
+import java.util.UUID;
+
+/**
+ * Attachment ID and the complaint it belongs to, used to build image URLs
+ * for a page of complaints without loading the attachments.
+ *
+ * @param complaintId complaint ID
+ * @param id          attachment ID
+ */
+public record ComplaintAttachmentRef(UUID complaintId, UUID id) {
+}
@@ -1,8 +1,12 @@
 package com.civiccomplaint.complaint;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -10,4 +14,15 @@ import java.util.UUID;
  */
 @Repository
 public interface ComplaintAttachmentRepository extends JpaRepository<ComplaintAttachment, UUID> {
+
+    /**
+     * Find the attachment IDs of several complaints in one query, without
+     * loading the image data.
+     *
+     * @param complaintIds complaint IDs
+     * @return attachment references, oldest first
+     */
+    @Query("SELECT new com.civiccomplaint.complaint.ComplaintAttachmentRef(a.complaint.id, a.id) "
+            + "FROM ComplaintAttachment a WHERE a.complaint.id IN :complaintIds ORDER BY a.createdAt")
+    List<ComplaintAttachmentRef> findRefsByComplaintIdIn(@Param("complaintIds") Collection<UUID> complaintIds);
 }
@@ -1,6 +1,7 @@
 package com.civiccomplaint.complaint;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,11 +16,19 @@ import java.util.List;
  * Service for handling complaint image attachments stored in database.
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class ComplaintAttachmentService {
 
     private final ComplaintAttachmentRepository attachmentRepository;
+    private final DistributionSummary uploadedBytes;
+    private final DistributionSummary servedBytes;
+
+    public ComplaintAttachmentService(ComplaintAttachmentRepository attachmentRepository,
+            MeterRegistry meterRegistry) {
+        this.attachmentRepository = attachmentRepository;
+        this.uploadedBytes = attachmentBytes(meterRegistry, "upload");
+        this.servedBytes = attachmentBytes(meterRegistry, "download");
+    }
 
     private static final long MAX_FILE_SIZE = 2 * 1024 * 1024; // 2MB
     private static final List<String> ALLOWED_CONTENT_TYPES = Arrays.asList(
@@ -55,8 +64,9 @@ public class ComplaintAttachmentService {
                 ComplaintAttachment saved = attachmentRepository.save(attachment);
                 attachments.add(saved);
                 complaint.addAttachment(saved);
+                uploadedBytes.record(saved.getFileSize());
 
-                log.info("Saved image attachment: {} for complaint: {}", saved.getId(), complaint.getId());
+                log.debug("Saved image attachment: {} for complaint: {}", saved.getId(), complaint.getId());
             } catch (IOException e) {
                 log.error("Failed to read file: {}", file.getOriginalFilename(), e);
                 throw new RuntimeException("Failed to process image file: " + file.getOriginalFilename(), e);
@@ -66,6 +76,15 @@ public class ComplaintAttachmentService {
         return attachments;
     }
 
+    /**
+     * Record an attachment served to a client.
+     *
+     * @param attachment the attachment being returned
+     */
+    public void recordServed(ComplaintAttachment attachment) {
+        servedBytes.record(attachment.getImageData().length);
+    }
+
     /**
      * Validate uploaded file.
      *
@@ -85,4 +104,12 @@ public class ComplaintAttachmentService {
             throw new IllegalArgumentException("Invalid file type. Only JPEG, PNG, and WebP images are allowed");
         }
     }
+
+    private static DistributionSummary attachmentBytes(MeterRegistry meterRegistry, String direction) {
+        return DistributionSummary.builder("complaint.attachment.size")
+                .description("Size of complaint image attachments uploaded and served")
+                .baseUnit("bytes")
+                .tag("direction", direction)
+                .register(meterRegistry);
+    }
 }
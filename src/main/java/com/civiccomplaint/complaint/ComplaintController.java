@@ -49,7 +49,7 @@ public class ComplaintController {
                                 .getPrincipal();
                 UUID userId = userDetails.getId();
 
-                log.info("POST /citizen/complaints/create - User: {}", userId);
+                log.debug("POST /citizen/complaints/create - User: {}", userId);
 
                 ComplaintResponse response = complaintService.createComplaint(request, userId, files);
 
@@ -64,6 +64,8 @@ public class ComplaintController {
          * @param page           page number (0-based)
          * @param size           page size
          * @param status         optional status filter
+         * @param fields         optional comma-separated fields to return, e.g.
+         *                       id,complaintNumber,title,status,createdAt
          * @param authentication Spring Security authentication object
          * @return paginated list of complaints
          */
@@ -73,16 +75,17 @@ public class ComplaintController {
                         @RequestParam(defaultValue = "0") int page,
                         @RequestParam(defaultValue = "10") int size,
                         @RequestParam(required = false) ComplaintStatus status,
+                        @RequestParam(required = false) String fields,
                         Authentication authentication) {
                 com.civiccomplaint.auth.CustomUserDetails userDetails = (com.civiccomplaint.auth.CustomUserDetails) authentication
                                 .getPrincipal();
                 UUID userId = userDetails.getId();
-                log.info("GET /citizen/complaints - User: {}, Page: {}, Size: {}, Status: {}", userId, page, size,
+                log.debug("GET /citizen/complaints - User: {}, Page: {}, Size: {}, Status: {}", userId, page, size,
                                 status);
 
                 Pageable pageable = PageRequest.of(page, size);
                 PaginatedResponse<ComplaintResponse> complaints = complaintService.getComplaintsForCitizen(userId,
-                                status, pageable);
+                                status, fields != null ? ComplaintField.parse(fields) : null, pageable);
 
                 return ResponseEntity.ok(ApiResponse.success(complaints));
         }
@@ -104,7 +107,7 @@ public class ComplaintController {
                 com.civiccomplaint.auth.CustomUserDetails userDetails = (com.civiccomplaint.auth.CustomUserDetails) authentication
                                 .getPrincipal();
                 UUID userId = userDetails.getId();
-                log.info("POST /citizen/complaints/{}/images - User: {}", complaintId, userId);
+                log.debug("POST /citizen/complaints/{}/images - User: {}", complaintId, userId);
 
                 List<String> imageUrls = complaintService.addImagesToComplaint(complaintId, userId, files);
 
@@ -0,0 +1,340 @@
+package com.civiccomplaint.complaint;
+
+import com.civiccomplaint.common.csv.CsvWriter;
+import com.civiccomplaint.exception.ServiceUnavailableException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Bulk export of complaints for reporting.
+ * Rows are read through a server-side cursor with a fixed fetch size and
+ * written to the response as they arrive, so memory use does not depend on
+ * the number of rows exported and the database never has to skip over
+ * earlier pages. Each running export holds one pooled connection for its
+ * whole duration, so the number of concurrent exports is capped.
+ */
+@Slf4j
+@Service
+public class ComplaintExportService {
+
+    static final List<String> COLUMNS = List.of(
+            "id", "complaintNumber", "createdAt", "updatedAt", "status", "complaintType", "prabhagId",
+            "prabhagCode", "title", "description", "latitude", "longitude", "locationText");
+
+    private static final String SELECT_SQL = """
+            SELECT c.id, c.complaint_number, c.created_at, c.updated_at, c.status, c.complaint_type,
+                   p.id AS prabhag_id, p.code AS prabhag_code, c.title, c.description,
+                   c.latitude, c.longitude, c.location_text
+            FROM complaints c
+            JOIN users u ON u.id = c.user_id
+            LEFT JOIN prabhags p ON p.id = u.prabhag_id
+            """;
+
+    /**
+     * Output formats of an export.
+     */
+    public enum Format {
+        CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv"),
+        NDJSON(new MediaType("application", "x-ndjson", StandardCharsets.UTF_8), "ndjson");
+
+        private final MediaType mediaType;
+        private final String extension;
+
+        Format(MediaType mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        /**
+         * Parse a format name, ignoring case.
+         *
+         * @param value "csv" or "ndjson"
+         * @return the format
+         */
+        public static Format parse(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unsupported export format: " + value);
+            }
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+    private final Semaphore exportPermits;
+
+    public ComplaintExportService(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            @Value("${app.export.complaints.fetch-size:1000}") int fetchSize,
+            @Value("${app.export.complaints.max-concurrent:2}") int maxConcurrent) {
+        this.jdbcTemplate = jdbcTemplate;
+        // PostgreSQL only keeps a cursor open inside a transaction; without
+        // one the driver reads the whole result into memory
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+        this.exportPermits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * Start a complaint export.
+     * Filters are checked on the calling thread so that a bad request fails
+     * with a normal error response; the query runs when the returned export
+     * is written. The export slot is taken here and held until the export
+     * has been written, or until it is cancelled before it starts.
+     *
+     * @param format        output format
+     * @param from          optional first creation date, inclusive
+     * @param to            optional last creation date, inclusive
+     * @param prabhagId     optional prabhag of the complainant
+     * @param status        optional status filter
+     * @param complaintType optional type filter
+     * @return export ordered by creation time
+     */
+    public Export export(Format format, LocalDate from, LocalDate to, Integer prabhagId,
+            ComplaintStatus status, ComplaintType complaintType) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+
+        List<String> conditions = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+        if (from != null) {
+            conditions.add("c.created_at >= ?");
+            args.add(Timestamp.valueOf(from.atStartOfDay()));
+        }
+        if (to != null) {
+            conditions.add("c.created_at < ?");
+            args.add(Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+        }
+        if (prabhagId != null) {
+            conditions.add("u.prabhag_id = ?");
+            args.add(prabhagId);
+        }
+        if (status != null) {
+            conditions.add("c.status = CAST(? AS complaint_status)");
+            args.add(status.name());
+        }
+        if (complaintType != null) {
+            conditions.add("c.complaint_type = CAST(? AS complaint_type)");
+            args.add(complaintType.name());
+        }
+        String sql = SELECT_SQL
+                + (conditions.isEmpty() ? "" : "WHERE " + String.join(" AND ", conditions) + "\n")
+                + "ORDER BY c.created_at, c.id";
+
+        if (!exportPermits.tryAcquire()) {
+            throw new ServiceUnavailableException("Too many complaint exports in progress", 30);
+        }
+        return new Export(format, sql, args);
+    }
+
+    /**
+     * A started export, holding one export slot. It is written at most once;
+     * the slot is given back when writing finishes, or on {@link #cancel()}
+     * if writing never started.
+     */
+    public final class Export {
+
+        private final Format format;
+        private final String sql;
+        private final List<Object> args;
+        private final AtomicBoolean started = new AtomicBoolean();
+
+        private Export(Format format, String sql, List<Object> args) {
+            this.format = format;
+            this.sql = sql;
+            this.args = args;
+        }
+
+        /**
+         * Run the query and write the rows.
+         *
+         * @param out stream to write to; not closed
+         * @throws IOException if writing fails
+         */
+        public void writeTo(OutputStream out) throws IOException {
+            if (!started.compareAndSet(false, true)) {
+                throw new IllegalStateException("Export already written or cancelled");
+            }
+            try {
+                long startedAt = System.currentTimeMillis();
+                long rows = write(format, sql, args, out);
+                log.info("Exported {} complaints as {} in {} ms", rows, format,
+                        System.currentTimeMillis() - startedAt);
+            } finally {
+                exportPermits.release();
+            }
+        }
+
+        /**
+         * Give back the export slot if writing has not started. Has no effect
+         * once it has: the slot is then given back when writing finishes.
+         */
+        public void cancel() {
+            if (started.compareAndSet(false, true)) {
+                exportPermits.release();
+            }
+        }
+    }
+
+    private long write(Format format, String sql, List<Object> args, OutputStream out) throws IOException {
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        RowWriter rowWriter = format == Format.CSV ? new CsvRowWriter(writer) : new NdjsonRowWriter(writer);
+        try {
+            Long rows = transactionTemplate.execute(tx -> {
+                long[] count = {0};
+                jdbcTemplate.query(connection -> {
+                    PreparedStatement statement = connection.prepareStatement(sql,
+                            ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(fetchSize);
+                    for (int i = 0; i < args.size(); i++) {
+                        statement.setObject(i + 1, args.get(i));
+                    }
+                    return statement;
+                }, (RowCallbackHandler) rs -> {
+                    try {
+                        rowWriter.write(rs);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    count[0]++;
+                });
+                return count[0];
+            });
+            rowWriter.finish();
+            return rows;
+        } catch (UncheckedIOException e) {
+            // Usually the client went away; the transaction has been rolled back
+            throw e.getCause();
+        }
+    }
+
+    private interface RowWriter {
+
+        void write(ResultSet rs) throws SQLException, IOException;
+
+        void finish() throws IOException;
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final CsvWriter csv;
+
+        CsvRowWriter(BufferedWriter writer) throws IOException {
+            this.csv = new CsvWriter(writer);
+            csv.writeRecord(COLUMNS.toArray());
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            csv.writeRecord(
+                    rs.getString("id"),
+                    rs.getString("complaint_number"),
+                    rs.getTimestamp("created_at").toLocalDateTime(),
+                    rs.getTimestamp("updated_at").toLocalDateTime(),
+                    rs.getString("status"),
+                    rs.getString("complaint_type"),
+                    rs.getObject("prabhag_id"),
+                    rs.getString("prabhag_code"),
+                    rs.getString("title"),
+                    rs.getString("description"),
+                    rs.getBigDecimal("latitude"),
+                    rs.getBigDecimal("longitude"),
+                    rs.getString("location_text"));
+        }
+
+        @Override
+        public void finish() throws IOException {
+            csv.flush();
+        }
+    }
+
+    private final class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator json;
+
+        NdjsonRowWriter(BufferedWriter writer) throws IOException {
+            this.json = objectMapper.getFactory().createGenerator(writer);
+            json.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            json.writeStartObject();
+            json.writeStringField("id", rs.getString("id"));
+            json.writeStringField("complaintNumber", rs.getString("complaint_number"));
+            json.writeStringField("createdAt", rs.getTimestamp("created_at").toLocalDateTime().toString());
+            json.writeStringField("updatedAt", rs.getTimestamp("updated_at").toLocalDateTime().toString());
+            json.writeStringField("status", rs.getString("status"));
+            json.writeStringField("complaintType", rs.getString("complaint_type"));
+            int prabhagId = rs.getInt("prabhag_id");
+            if (rs.wasNull()) {
+                json.writeNullField("prabhagId");
+            } else {
+                json.writeNumberField("prabhagId", prabhagId);
+            }
+            json.writeStringField("prabhagCode", rs.getString("prabhag_code"));
+            json.writeStringField("title", rs.getString("title"));
+            json.writeStringField("description", rs.getString("description"));
+            writeDecimal("latitude", rs.getBigDecimal("latitude"));
+            writeDecimal("longitude", rs.getBigDecimal("longitude"));
+            json.writeStringField("locationText", rs.getString("location_text"));
+            json.writeEndObject();
+            json.writeRaw('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            json.flush();
+        }
+
+        private void writeDecimal(String name, BigDecimal value) throws IOException {
+            if (value == null) {
+                json.writeNullField(name);
+            } else {
+                json.writeNumberField(name, value);
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.civiccomplaint.complaint;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Fields of {@link com.civiccomplaint.complaint.dto.ComplaintResponse} that
+ * list endpoints can be asked for with the "fields" parameter. Only the
+ * columns of the requested fields are selected.
+ */
+public enum ComplaintField {
+
+    ID("id"),
+    COMPLAINT_NUMBER("complaintNumber"),
+    TITLE("title"),
+    DESCRIPTION("description"),
+    COMPLAINT_TYPE("complaintType"),
+    STATUS("status"),
+    LATITUDE("latitude"),
+    LONGITUDE("longitude"),
+    LOCATION_TEXT("locationText"),
+    CREATED_AT("createdAt"),
+    /**
+     * Not a column: loaded with one attachment query per page.
+     */
+    IMAGE_URLS("imageUrls");
+
+    private final String name;
+
+    ComplaintField(String name) {
+        this.name = name;
+    }
+
+    /**
+     * @return JSON property name, which is also the entity attribute name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Parse a comma-separated list of JSON property names. The ID is always
+     * included.
+     *
+     * @param fields e.g. "id,complaintNumber,title,status,createdAt"
+     * @return requested fields
+     * @throws IllegalArgumentException if a name is not a complaint field
+     */
+    public static Set<ComplaintField> parse(String fields) {
+        Set<ComplaintField> parsed = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            parsed.add(Arrays.stream(values())
+                    .filter(field -> field.name.equals(trimmed))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown complaint field '" + trimmed
+                            + "'; expected any of " + Arrays.stream(values()).map(ComplaintField::getName)
+                                    .collect(Collectors.joining(", ")))));
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,28 @@
+package com.civiccomplaint.complaint;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Outbox payload for complaint creation and status changes.
+ * The same shape is produced by the bulk status update SQL, so field names
+ * must stay in sync with {@link ComplaintRepository#updateStatusWithEventsByIdIn}.
+ *
+ * @param complaintId     complaint ID
+ * @param complaintNumber human-readable complaint number
+ * @param citizenId       ID of the citizen who filed the complaint
+ * @param prabhagId       the citizen's prabhag, null if unassigned
+ * @param complaintType   complaint type
+ * @param fromStatus      previous status, null on creation
+ * @param toStatus        new status
+ * @param changedBy       ID of the acting user
+ * @param occurredAt      time of the change
+ */
+public record ComplaintLifecycleEvent(UUID complaintId, String complaintNumber, UUID citizenId, Integer prabhagId,
+        ComplaintType complaintType, ComplaintStatus fromStatus, ComplaintStatus toStatus, UUID changedBy,
+        LocalDateTime occurredAt) {
+
+    public static final String AGGREGATE_TYPE = "Complaint";
+    public static final String CREATED = "ComplaintCreated";
+    public static final String STATUS_CHANGED = "ComplaintStatusChanged";
+}
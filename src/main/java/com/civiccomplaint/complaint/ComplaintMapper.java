@@ -0,0 +1,116 @@
+package com.civiccomplaint.complaint;
+
+import com.civiccomplaint.complaint.dto.ComplaintDetailResponse;
+import com.civiccomplaint.complaint.dto.ComplaintResponse;
+import com.civiccomplaint.master.Prabhag;
+import com.civiccomplaint.user.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Maps complaint entities to response DTOs.
+ * Depends on nothing but the public base URL, so it can be built directly,
+ * e.g. by the mapping benchmark.
+ */
+@Component
+public class ComplaintMapper {
+
+    private final String baseUrl;
+
+    public ComplaintMapper(@Value("${app.base-url:http://localhost:8080}") String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    /**
+     * Map Complaint entity to ComplaintResponse DTO.
+     *
+     * @param complaint complaint entity
+     * @return complaint response DTO
+     */
+    public ComplaintResponse toResponse(Complaint complaint) {
+        return ComplaintResponse.builder()
+                .id(complaint.getId())
+                .complaintNumber(complaint.getComplaintNumber())
+                .title(complaint.getTitle())
+                .description(complaint.getDescription())
+                .complaintType(complaint.getComplaintType())
+                .status(complaint.getStatus())
+                .latitude(complaint.getLatitude())
+                .longitude(complaint.getLongitude())
+                .locationText(complaint.getLocationText())
+                .createdAt(complaint.getCreatedAt())
+                .imageUrls(complaint.getAttachments().stream()
+                        .map(att -> attachmentUrl(att.getId()))
+                        .toList())
+                .build();
+    }
+
+    /**
+     * Map Complaint entity to the detail view, including the citizen who
+     * raised it and its prabhag.
+     *
+     * @param complaint complaint entity with its citizen
+     * @return complaint detail response DTO
+     */
+    public ComplaintDetailResponse toDetailResponse(Complaint complaint) {
+        User citizen = complaint.getUser();
+        Prabhag prabhag = citizen.getPrabhag();
+
+        // Citizen Info
+        var raisedBy = ComplaintDetailResponse.CitizenInfo.builder()
+                .id(citizen.getId())
+                .fullName(citizen.getFullName())
+                .mobileNumber(citizen.getMobileNumber())
+                .email(citizen.getEmail())
+                .address(citizen.getAddress())
+                .pinCode(citizen.getPinCode())
+                .prabhagName(prabhag != null ? prabhag.getName() : "N/A")
+                .build();
+
+        // Admin Info (Prabhag context)
+        var adminInfo = ComplaintDetailResponse.AdminInfo.builder()
+                .prabhagId(prabhag != null ? prabhag.getId() : null)
+                .prabhagName(prabhag != null ? prabhag.getName() : "Unassigned")
+                .build();
+
+        // Location Info
+        var locationInfo = ComplaintDetailResponse.LocationInfo.builder()
+                .latitude(complaint.getLatitude())
+                .longitude(complaint.getLongitude())
+                .locationText(complaint.getLocationText())
+                .build();
+
+        // Attachments
+        var attachmentInfos = complaint.getAttachments().stream()
+                .map(att -> ComplaintDetailResponse.AttachmentInfo.builder()
+                        .id(att.getId())
+                        .url(attachmentUrl(att.getId()))
+                        .contentType(att.getContentType())
+                        .build())
+                .toList();
+
+        return ComplaintDetailResponse.builder()
+                .id(complaint.getId())
+                .complaintNumber(complaint.getComplaintNumber())
+                .title(complaint.getTitle())
+                .description(complaint.getDescription())
+                .complaintType(complaint.getComplaintType())
+                .status(complaint.getStatus())
+                .createdAt(complaint.getCreatedAt())
+                .raisedBy(raisedBy)
+                .adminInfo(adminInfo)
+                .location(locationInfo)
+                .attachments(attachmentInfos)
+                .build();
+    }
+
+    /**
+     * @param attachmentId attachment ID
+     * @return public URL serving the attachment
+     */
+    public String attachmentUrl(UUID attachmentId) {
+        return baseUrl + "/api/complaints/attachments/" + attachmentId;
+    }
+}
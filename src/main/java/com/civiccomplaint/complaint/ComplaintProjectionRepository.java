@@ -0,0 +1,30 @@
+package com.civiccomplaint.complaint;
+
+import com.civiccomplaint.complaint.dto.ComplaintResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Complaint list queries that select only requested columns. Mixed into
+ * {@link ComplaintRepository}.
+ */
+public interface ComplaintProjectionRepository {
+
+    /**
+     * Find complaints, newest first, selecting only the given fields.
+     * Every filter is optional.
+     *
+     * @param fields    fields to select; {@link ComplaintField#IMAGE_URLS} is ignored
+     * @param userId    only complaints of this citizen
+     * @param prabhagId only complaints of citizens in this prabhag
+     * @param status    only complaints in this status
+     * @param pageable  pagination information
+     * @return page of {@link com.civiccomplaint.complaint.dto.PartialComplaintResponse}s with the
+     *         unselected fields left null
+     */
+    Page<ComplaintResponse> findProjected(Set<ComplaintField> fields, UUID userId, Integer prabhagId,
+            ComplaintStatus status, Pageable pageable);
+}
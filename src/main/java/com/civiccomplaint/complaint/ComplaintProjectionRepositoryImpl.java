@@ -0,0 +1,102 @@
+package com.civiccomplaint.complaint;
+
+import com.civiccomplaint.complaint.dto.ComplaintResponse;
+import com.civiccomplaint.complaint.dto.PartialComplaintResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Criteria implementation of {@link ComplaintProjectionRepository}. Builds
+ * a tuple query over the requested attributes, so unrequested columns such
+ * as the description are never read.
+ */
+class ComplaintProjectionRepositoryImpl implements ComplaintProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<ComplaintResponse> findProjected(Set<ComplaintField> fields, UUID userId, Integer prabhagId,
+            ComplaintStatus status, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Complaint> complaint = query.from(Complaint.class);
+        List<Selection<?>> selections = new ArrayList<>();
+        for (ComplaintField field : fields) {
+            if (field != ComplaintField.IMAGE_URLS) {
+                selections.add(complaint.get(field.getName()).alias(field.getName()));
+            }
+        }
+        query.multiselect(selections)
+                .where(filters(cb, complaint, userId, prabhagId, status))
+                .orderBy(cb.desc(complaint.get("createdAt")));
+        List<ComplaintResponse> content = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList()
+                .stream()
+                .map(tuple -> toResponse(tuple, fields))
+                .toList();
+
+        CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
+        Root<Complaint> counted = countQuery.from(Complaint.class);
+        countQuery.select(cb.count(counted)).where(filters(cb, counted, userId, prabhagId, status));
+        long total = entityManager.createQuery(countQuery).getSingleResult();
+
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private static Predicate[] filters(CriteriaBuilder cb, Root<Complaint> complaint, UUID userId,
+            Integer prabhagId, ComplaintStatus status) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (userId != null) {
+            predicates.add(cb.equal(complaint.get("user").get("id"), userId));
+        }
+        if (prabhagId != null) {
+            predicates.add(cb.equal(complaint.get("user").get("prabhag").get("id"), prabhagId));
+        }
+        if (status != null) {
+            predicates.add(cb.equal(complaint.get("status"), status));
+        }
+        return predicates.toArray(Predicate[]::new);
+    }
+
+    private static ComplaintResponse toResponse(Tuple tuple, Set<ComplaintField> fields) {
+        PartialComplaintResponse response = new PartialComplaintResponse();
+        for (ComplaintField field : fields) {
+            switch (field) {
+                case ID -> response.setId(tuple.get(field.getName(), UUID.class));
+                case COMPLAINT_NUMBER -> response.setComplaintNumber(tuple.get(field.getName(), String.class));
+                case TITLE -> response.setTitle(tuple.get(field.getName(), String.class));
+                case DESCRIPTION -> response.setDescription(tuple.get(field.getName(), String.class));
+                case COMPLAINT_TYPE -> response.setComplaintType(tuple.get(field.getName(), ComplaintType.class));
+                case STATUS -> response.setStatus(tuple.get(field.getName(), ComplaintStatus.class));
+                case LATITUDE -> response.setLatitude(tuple.get(field.getName(), BigDecimal.class));
+                case LONGITUDE -> response.setLongitude(tuple.get(field.getName(), BigDecimal.class));
+                case LOCATION_TEXT -> response.setLocationText(tuple.get(field.getName(), String.class));
+                case CREATED_AT -> response.setCreatedAt(tuple.get(field.getName(), LocalDateTime.class));
+                case IMAGE_URLS -> {
+                    // Filled in by the service
+                }
+            }
+        }
+        return response;
+    }
+}
@@ -1,12 +1,17 @@
 package com.civiccomplaint.complaint;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -15,7 +20,7 @@ import java.util.UUID;
  * Provides CRUD operations and custom query methods.
  */
 @Repository
-public interface ComplaintRepository extends JpaRepository<Complaint, UUID> {
+public interface ComplaintRepository extends JpaRepository<Complaint, UUID>, ComplaintProjectionRepository {
 
     /**
      * Find all complaints by user ID.
@@ -172,4 +177,74 @@ public interface ComplaintRepository extends JpaRepository<Complaint, UUID> {
      */
     Page<Complaint> findByUserPrabhagIdAndStatusOrderByCreatedAtDesc(Integer prabhagId, ComplaintStatus status,
             Pageable pageable);
+
+    /**
+     * Find and lock the status and prabhag of several complaints in one query.
+     * Complaints that do not exist are absent from the result. The complaint
+     * rows stay locked until the transaction ends, so their status cannot
+     * change between the check and a following bulk update; rows are locked
+     * in ID order so that overlapping bulk updates cannot deadlock. The
+     * prabhag is read in a subquery so that the citizens are not locked.
+     *
+     * @param ids complaint IDs
+     * @return access views of the existing complaints
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new com.civiccomplaint.complaint.ComplaintAccess(c.id, c.status, "
+            + "(SELECT u.prabhag.id FROM User u WHERE u = c.user)) "
+            + "FROM Complaint c WHERE c.id IN :ids ORDER BY c.id")
+    List<ComplaintAccess> lockAccessByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Set the status of several complaints in a single statement, recording a
+     * status event and queueing a status-changed outbox event for each
+     * complaint actually changed. Complaints already in the target status are
+     * left untouched. The events are written from the same locked row set as
+     * the UPDATE, so they always carry the status that was replaced. The
+     * outbox payload matches {@link ComplaintLifecycleEvent}.
+     *
+     * @param ids       complaint IDs
+     * @param toStatus  new status name
+     * @param changedBy ID of the acting user
+     * @param updatedAt modification and event timestamp
+     * @return number of updated complaints
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            WITH changed AS (
+                SELECT c.id, c.status, c.complaint_number, c.user_id, c.complaint_type, u.prabhag_id
+                FROM complaints c
+                JOIN users u ON u.id = c.user_id
+                WHERE c.id IN (:ids) AND c.status <> CAST(:toStatus AS complaint_status)
+                FOR NO KEY UPDATE OF c
+            ), status_events AS (
+                INSERT INTO complaint_status_events
+                    (id, complaint_id, from_status, to_status, changed_by, prabhag_id, complaint_type, created_at)
+                SELECT gen_random_uuid(), id, status, CAST(:toStatus AS complaint_status), :changedBy,
+                       prabhag_id, complaint_type, :updatedAt
+                FROM changed
+            ), outbox AS (
+                INSERT INTO outbox_events
+                    (aggregate_type, aggregate_id, event_type, payload, created_at, available_at, attempts)
+                SELECT 'Complaint', id, 'ComplaintStatusChanged',
+                       jsonb_build_object(
+                           'complaintId', id,
+                           'complaintNumber', complaint_number,
+                           'citizenId', user_id,
+                           'prabhagId', prabhag_id,
+                           'complaintType', CAST(complaint_type AS text),
+                           'fromStatus', CAST(status AS text),
+                           'toStatus', :toStatus,
+                           'changedBy', CAST(:changedBy AS uuid),
+                           'occurredAt', CAST(:updatedAt AS timestamp)),
+                       :updatedAt, :updatedAt, 0
+                FROM changed
+            )
+            UPDATE complaints c
+            SET status = CAST(:toStatus AS complaint_status), updated_at = :updatedAt
+            FROM changed
+            WHERE c.id = changed.id
+            """, nativeQuery = true)
+    int updateStatusWithEventsByIdIn(@Param("ids") Collection<UUID> ids, @Param("toStatus") String toStatus,
+            @Param("changedBy") UUID changedBy, @Param("updatedAt") LocalDateTime updatedAt);
 }
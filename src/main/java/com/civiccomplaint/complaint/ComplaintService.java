@@ -1,11 +1,16 @@
 package com.civiccomplaint.complaint;
 
 import com.civiccomplaint.common.dto.ApiResponse;
+import com.civiccomplaint.complaint.dto.BulkComplaintStatusUpdateRequest;
+import com.civiccomplaint.complaint.dto.BulkComplaintStatusUpdateResponse;
 import com.civiccomplaint.complaint.dto.ComplaintCreateRequest;
 import com.civiccomplaint.complaint.dto.ComplaintResponse;
+import com.civiccomplaint.complaint.dto.ComplaintSlaResponse;
 import com.civiccomplaint.complaint.dto.ComplaintStatsResponse;
+import com.civiccomplaint.complaint.dto.ComplaintStatusEventResponse;
 import com.civiccomplaint.complaint.dto.ComplaintStatusUpdateRequest;
 import com.civiccomplaint.exception.ResourceNotFoundException;
+import com.civiccomplaint.reporting.dto.ReportLevel;
 import com.civiccomplaint.user.Role;
 import com.civiccomplaint.user.User;
 import com.civiccomplaint.user.UserRepository;
@@ -16,8 +21,15 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -34,10 +46,14 @@ public class ComplaintService {
     private final ComplaintRepository complaintRepository;
     private final UserRepository userRepository;
     private final ComplaintAttachmentService complaintAttachmentService;
+    private final ComplaintAttachmentRepository complaintAttachmentRepository;
     private final ComplaintSequenceRepository complaintSequenceRepository;
-
-    @org.springframework.beans.factory.annotation.Value("${app.base-url:http://localhost:8080}")
-    private String baseUrl;
+    private final ComplaintStatusEventRepository complaintStatusEventRepository;
+    private final com.civiccomplaint.master.MasterDataCache masterDataCache;
+    private final com.civiccomplaint.outbox.OutboxPublisher outboxPublisher;
+    private final ComplaintUpdateHub complaintUpdateHub;
+    private final com.civiccomplaint.tenant.TenantRegistry tenantRegistry;
+    private final ComplaintMapper complaintMapper;
 
     /**
      * Create a new complaint.
@@ -51,7 +67,7 @@ public class ComplaintService {
     @Transactional
     public ComplaintResponse createComplaint(ComplaintCreateRequest request, UUID userId,
             java.util.List<org.springframework.web.multipart.MultipartFile> files) {
-        log.info("Creating complaint for user: {}", userId);
+        log.debug("Creating complaint for user: {}", userId);
 
         // Fetch user
         User user = userRepository.findById(userId)
@@ -87,21 +103,23 @@ public class ComplaintService {
 
         // Save complaint
         complaint = complaintRepository.save(complaint);
+        recordStatusChange(complaint, null, user);
         log.info("Complaint created successfully with ID: {} and Number: {}", complaint.getId(), complaintNumber);
 
         // Upload images if any
         if (files != null && !files.isEmpty()) {
-            log.info("Uploading {} images for complaint {}", files.size(), complaint.getId());
+            log.debug("Uploading {} images for complaint {}", files.size(), complaint.getId());
             complaintAttachmentService.uploadImages(complaint, files);
         }
 
         // Return response
-        return mapToResponse(complaint);
+        return complaintMapper.toResponse(complaint);
     }
 
     private String generateComplaintNumber(User user) {
         // Format: CMP-{PRABHAG_CODE}-{YYYY}-{SEQUENCE}
         // Example: CMP-NOR-2024-0001
+        // With tenancy, prefixed by the city code: CMP-PUN-NOR-2024-0001
 
         com.civiccomplaint.master.Prabhag prabhag = user.getPrabhag();
         String prabhagCode = "GEN"; // Default if not assigned
@@ -142,31 +160,37 @@ public class ComplaintService {
         int year = java.time.Year.now().getValue();
         int sequence = complaintSequenceRepository.getNextSequenceValue(prabhagId, year);
 
+        if (tenantRegistry.isEnabled()) {
+            // Sequences are per tenant schema, so the city code keeps numbers unique across cities
+            return formatComplaintNumber(tenantRegistry.getCurrentTenant().code(), prabhagCode, year, sequence);
+        }
+        return formatComplaintNumber(prabhagCode, year, sequence);
+    }
+
+    /**
+     * Format a complaint number, e.g. CMP-NOR-2024-0001.
+     * Also used by the synthetic data generator and the benchmarks module.
+     *
+     * @param prabhagCode prabhag code
+     * @param year        year the complaint was raised
+     * @param sequence    per-prabhag sequence value for the year
+     * @return complaint number
+     */
+    public static String formatComplaintNumber(String prabhagCode, int year, int sequence) {
         return String.format("CMP-%s-%d-%04d", prabhagCode, year, sequence);
     }
 
     /**
-     * Map Complaint entity to ComplaintResponse DTO.
+     * Format a complaint number of a city, e.g. CMP-PUN-NOR-2024-0001.
      *
-     * @param complaint complaint entity
-     * @return complaint response DTO
+     * @param cityCode    tenant's city code
+     * @param prabhagCode prabhag code
+     * @param year        year the complaint was raised
+     * @param sequence    per-prabhag sequence value for the year
+     * @return complaint number
      */
-    private ComplaintResponse mapToResponse(Complaint complaint) {
-        return ComplaintResponse.builder()
-                .id(complaint.getId())
-                .complaintNumber(complaint.getComplaintNumber())
-                .title(complaint.getTitle())
-                .description(complaint.getDescription())
-                .complaintType(complaint.getComplaintType())
-                .status(complaint.getStatus())
-                .latitude(complaint.getLatitude())
-                .longitude(complaint.getLongitude())
-                .locationText(complaint.getLocationText())
-                .createdAt(complaint.getCreatedAt())
-                .imageUrls(complaint.getAttachments().stream()
-                        .map(att -> baseUrl + "/api/complaints/attachments/" + att.getId())
-                        .toList())
-                .build();
+    public static String formatComplaintNumber(String cityCode, String prabhagCode, int year, int sequence) {
+        return String.format("CMP-%s-%s-%d-%04d", cityCode, prabhagCode, year, sequence);
     }
 
     /**
@@ -174,12 +198,17 @@ public class ComplaintService {
      *
      * @param userId   the user ID
      * @param status   optional status filter
+     * @param fields   fields to return, or null for all
      * @param pageable pagination information
      * @return paginated list of complaints
      */
     @Transactional(readOnly = true)
     public PaginatedResponse<ComplaintResponse> getComplaintsForCitizen(UUID userId, ComplaintStatus status,
-            Pageable pageable) {
+            Set<ComplaintField> fields, Pageable pageable) {
+        if (fields != null) {
+            return findProjected(fields, userId, null, status, pageable);
+        }
+
         Page<Complaint> page;
 
         if (status != null) {
@@ -190,7 +219,7 @@ public class ComplaintService {
             page = complaintRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
         }
 
-        List<ComplaintResponse> content = page.map(this::mapToResponse).getContent();
+        List<ComplaintResponse> content = page.map(complaintMapper::toResponse).getContent();
 
         return PaginatedResponse.<ComplaintResponse>builder()
                 .content(content)
@@ -209,15 +238,23 @@ public class ComplaintService {
      *
      * @param adminId  ID of the admin user
      * @param status   optional status filter
+     * @param fields   fields to return, or null for all
      * @param pageable pagination information
      * @return paginated list of complaints
      */
     @Transactional(readOnly = true)
     public PaginatedResponse<ComplaintResponse> getAllComplaintsForAdmin(UUID adminId, ComplaintStatus status,
-            Pageable pageable) {
+            Set<ComplaintField> fields, Pageable pageable) {
         User admin = userRepository.findById(adminId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", adminId));
 
+        if (fields != null && admin.getRole() == Role.SUPER_ADMIN) {
+            return findProjected(fields, null, null, status, pageable);
+        }
+        if (fields != null && admin.getRole() == Role.ADMIN && admin.getPrabhag() != null) {
+            return findProjected(fields, null, admin.getPrabhag().getId(), status, pageable);
+        }
+
         Page<Complaint> page;
 
         if (admin.getRole() == Role.SUPER_ADMIN) {
@@ -243,7 +280,7 @@ public class ComplaintService {
             throw new AccessDeniedException("Unauthorized access");
         }
 
-        List<ComplaintResponse> content = page.map(this::mapToResponse).getContent();
+        List<ComplaintResponse> content = page.map(complaintMapper::toResponse).getContent();
 
         return PaginatedResponse.<ComplaintResponse>builder()
                 .content(content)
@@ -266,7 +303,7 @@ public class ComplaintService {
     @Transactional
     public ComplaintResponse updateComplaintStatus(UUID complaintId, UUID adminId,
             ComplaintStatusUpdateRequest request) {
-        log.info("Updating status for complaint: {} by admin: {}", complaintId, adminId);
+        log.debug("Updating status for complaint: {} by admin: {}", complaintId, adminId);
 
         User admin = userRepository.findById(adminId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", adminId));
@@ -289,11 +326,232 @@ public class ComplaintService {
             throw new AccessDeniedException("Unauthorized access");
         }
 
+        ComplaintStatus previousStatus = complaint.getStatus();
         complaint.setStatus(request.getStatus());
         complaint = complaintRepository.save(complaint);
+        if (previousStatus != request.getStatus()) {
+            recordStatusChange(complaint, previousStatus, admin);
+        }
 
         log.info("Complaint {} status updated to {}", complaintId, request.getStatus());
-        return mapToResponse(complaint);
+        return complaintMapper.toResponse(complaint);
+    }
+
+    /**
+     * Update the status of several complaints at once.
+     * Access to all requested complaints is checked in one query, which locks
+     * the complaints for the rest of the transaction, and the change
+     * is applied with a single set-based UPDATE. An ADMIN may only update
+     * complaints in their own prabhag; a SUPER_ADMIN may update any complaint.
+     *
+     * @param admin   authenticated admin user
+     * @param request bulk status update request
+     * @return per-complaint outcome
+     */
+    @Transactional
+    public BulkComplaintStatusUpdateResponse bulkUpdateComplaintStatus(User admin,
+            BulkComplaintStatusUpdateRequest request) {
+        Set<UUID> complaintIds = new LinkedHashSet<>(request.getComplaintIds());
+        ComplaintStatus targetStatus = request.getStatus();
+        log.info("Bulk updating {} complaints to {} by admin: {}", complaintIds.size(), targetStatus, admin.getId());
+
+        Integer adminPrabhagId = null;
+        if (admin.getRole() == Role.ADMIN) {
+            if (admin.getPrabhag() == null) {
+                throw new AccessDeniedException("Admin is not assigned to any Prabhag");
+            }
+            adminPrabhagId = admin.getPrabhag().getId();
+        } else if (admin.getRole() != Role.SUPER_ADMIN) {
+            throw new AccessDeniedException("Unauthorized access");
+        }
+
+        Map<UUID, ComplaintAccess> accessById = complaintRepository.lockAccessByIdIn(complaintIds).stream()
+                .collect(Collectors.toMap(ComplaintAccess::id, Function.identity()));
+
+        List<BulkComplaintStatusUpdateResponse.Result> results = new ArrayList<>(complaintIds.size());
+        List<UUID> toUpdate = new ArrayList<>();
+        for (UUID complaintId : complaintIds) {
+            ComplaintAccess access = accessById.get(complaintId);
+            BulkComplaintStatusUpdateResponse.Outcome outcome;
+            String message = null;
+            if (access == null) {
+                outcome = BulkComplaintStatusUpdateResponse.Outcome.NOT_FOUND;
+                message = "Complaint not found";
+            } else if (adminPrabhagId != null && !adminPrabhagId.equals(access.prabhagId())) {
+                outcome = BulkComplaintStatusUpdateResponse.Outcome.FORBIDDEN;
+                message = "You can only update complaints within your assigned Prabhag";
+            } else if (access.status() == targetStatus) {
+                outcome = BulkComplaintStatusUpdateResponse.Outcome.UNCHANGED;
+            } else {
+                outcome = BulkComplaintStatusUpdateResponse.Outcome.UPDATED;
+                toUpdate.add(complaintId);
+            }
+            results.add(BulkComplaintStatusUpdateResponse.Result.builder()
+                    .complaintId(complaintId)
+                    .outcome(outcome)
+                    .message(message)
+                    .build());
+        }
+
+        int updated = 0;
+        if (!toUpdate.isEmpty()) {
+            updated = complaintRepository.updateStatusWithEventsByIdIn(toUpdate, targetStatus.name(), admin.getId(),
+                    LocalDateTime.now());
+        }
+        if (updated != toUpdate.size()) {
+            log.warn("Bulk status update changed {} of {} eligible complaints; others changed concurrently",
+                    updated, toUpdate.size());
+        }
+
+        int failed = (int) results.stream()
+                .filter(result -> result.getOutcome() == BulkComplaintStatusUpdateResponse.Outcome.NOT_FOUND
+                        || result.getOutcome() == BulkComplaintStatusUpdateResponse.Outcome.FORBIDDEN)
+                .count();
+        log.info("Bulk status update to {} complete: {} updated, {} failed", targetStatus, updated, failed);
+
+        return BulkComplaintStatusUpdateResponse.builder()
+                .status(targetStatus)
+                .requested(complaintIds.size())
+                .updated(updated)
+                .failed(failed)
+                .results(results)
+                .build();
+    }
+
+    /**
+     * Get the status history of a complaint, oldest first.
+     * Visible to the same users who can view the complaint.
+     *
+     * @param complaintId    the complaint ID
+     * @param requestingUser authenticated user
+     * @return status events
+     */
+    @Transactional(readOnly = true)
+    public List<ComplaintStatusEventResponse> getComplaintHistory(UUID complaintId, User requestingUser) {
+        Complaint complaint = complaintRepository.findById(complaintId)
+                .orElseThrow(() -> new ResourceNotFoundException("Complaint", "id", complaintId));
+        checkViewAccess(complaint, requestingUser);
+
+        return complaintStatusEventRepository.findByComplaintIdOrderByCreatedAtAsc(complaintId).stream()
+                .map(event -> ComplaintStatusEventResponse.builder()
+                        .fromStatus(event.getFromStatus())
+                        .toStatus(event.getToStatus())
+                        .changedById(event.getChangedBy() != null ? event.getChangedBy().getId() : null)
+                        .changedByName(event.getChangedBy() != null ? event.getChangedBy().getFullName() : null)
+                        .createdAt(event.getCreatedAt())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Get median and 90th percentile time from creation to resolution for
+     * complaints resolved within a time range, per prabhag and complaint type.
+     * An ADMIN only sees their own prabhag.
+     *
+     * @param admin     authenticated admin user
+     * @param prabhagId optional prabhag filter, only honoured for SUPER_ADMIN
+     * @param from      inclusive lower bound of the resolution time
+     * @param to        exclusive upper bound of the resolution time
+     * @return resolution time statistics
+     */
+    @Transactional(readOnly = true)
+    public ComplaintSlaResponse getResolutionSla(User admin, Integer prabhagId, LocalDateTime from,
+            LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+
+        Integer scopePrabhagId = prabhagId;
+        if (admin.getRole() == Role.ADMIN) {
+            if (admin.getPrabhag() == null) {
+                throw new AccessDeniedException("Admin is not assigned to any Prabhag");
+            }
+            scopePrabhagId = admin.getPrabhag().getId();
+        } else if (admin.getRole() != Role.SUPER_ADMIN) {
+            throw new AccessDeniedException("Unauthorized access");
+        }
+
+        List<ComplaintSlaResponse.Entry> entries = complaintStatusEventRepository
+                .findResolutionSla(scopePrabhagId, from, to).stream()
+                .map(row -> ComplaintSlaResponse.Entry.builder()
+                        .level(ReportLevel.fromGrouping(row.getGroupingLevel()))
+                        .prabhagId(row.getPrabhagId())
+                        .prabhagName(masterDataCache.findPrabhag(row.getPrabhagId())
+                                .map(com.civiccomplaint.master.Prabhag::getName)
+                                .orElse(null))
+                        .complaintType(row.getComplaintType() != null
+                                ? ComplaintType.valueOf(row.getComplaintType())
+                                : null)
+                        .resolvedCount(row.getResolvedCount())
+                        .medianHours(toHours(row.getMedianSeconds()))
+                        .p90Hours(toHours(row.getP90Seconds()))
+                        .build())
+                .toList();
+
+        return ComplaintSlaResponse.builder()
+                .from(from)
+                .to(to)
+                .entries(entries)
+                .build();
+    }
+
+    private static Double toHours(Double seconds) {
+        return seconds != null ? Math.round(seconds / 36.0) / 100.0 : null;
+    }
+
+    /**
+     * Open a live stream of complaint creations and status changes.
+     * An ADMIN receives events for their own prabhag only; a SUPER_ADMIN
+     * receives all events, or those of one prabhag when a filter is given.
+     *
+     * @param admin     authenticated admin user
+     * @param prabhagId optional prabhag filter for SUPER_ADMIN
+     * @return SSE emitter
+     */
+    public org.springframework.web.servlet.mvc.method.annotation.SseEmitter subscribeToUpdates(User admin,
+            Integer prabhagId) {
+        Integer scope;
+        if (admin.getRole() == Role.ADMIN) {
+            if (admin.getPrabhag() == null) {
+                throw new AccessDeniedException("Admin is not assigned to any Prabhag");
+            }
+            scope = admin.getPrabhag().getId();
+        } else if (admin.getRole() == Role.SUPER_ADMIN) {
+            if (prabhagId != null && masterDataCache.findPrabhag(prabhagId).isEmpty()) {
+                throw new ResourceNotFoundException("Prabhag", "id", prabhagId);
+            }
+            scope = prabhagId;
+        } else {
+            throw new AccessDeniedException("Unauthorized access");
+        }
+        return complaintUpdateHub.subscribe(scope);
+    }
+
+    /**
+     * Append a status event for a complaint and queue the matching outbox
+     * event, both in the current transaction.
+     *
+     * @param complaint  complaint, already carrying its new status
+     * @param fromStatus previous status, null when the complaint is created
+     * @param actor      user making the change
+     */
+    private void recordStatusChange(Complaint complaint, ComplaintStatus fromStatus, User actor) {
+        User citizen = complaint.getUser();
+        Integer prabhagId = citizen.getPrabhag() != null ? citizen.getPrabhag().getId() : null;
+        ComplaintStatusEvent event = complaintStatusEventRepository.save(ComplaintStatusEvent.builder()
+                .complaint(complaint)
+                .fromStatus(fromStatus)
+                .toStatus(complaint.getStatus())
+                .changedBy(actor)
+                .prabhagId(prabhagId)
+                .complaintType(complaint.getComplaintType())
+                .build());
+
+        outboxPublisher.publish(ComplaintLifecycleEvent.AGGREGATE_TYPE, complaint.getId(),
+                fromStatus == null ? ComplaintLifecycleEvent.CREATED : ComplaintLifecycleEvent.STATUS_CHANGED,
+                new ComplaintLifecycleEvent(complaint.getId(), complaint.getComplaintNumber(), citizen.getId(),
+                        prabhagId, complaint.getComplaintType(), fromStatus, complaint.getStatus(), actor.getId(),
+                        event.getCreatedAt()));
     }
 
     /**
@@ -350,7 +608,7 @@ public class ComplaintService {
     @Transactional
     public List<String> addImagesToComplaint(UUID complaintId, UUID userId,
             List<org.springframework.web.multipart.MultipartFile> files) {
-        log.info("Adding images to complaint: {}", complaintId);
+        log.debug("Adding images to complaint: {}", complaintId);
 
         Complaint complaint = complaintRepository.findById(complaintId)
                 .orElseThrow(() -> new ResourceNotFoundException("Complaint", "id", complaintId));
@@ -368,7 +626,7 @@ public class ComplaintService {
         List<ComplaintAttachment> attachments = complaintAttachmentService.uploadImages(complaint, files);
 
         return attachments.stream()
-                .map(att -> baseUrl + "/api/complaints/attachments/" + att.getId())
+                .map(att -> complaintMapper.attachmentUrl(att.getId()))
                 .toList();
     }
 
@@ -378,23 +636,15 @@ public class ComplaintService {
      * @param adminId   optional admin ID filter
      * @param prabhagId optional prabhag ID filter
      * @param status    optional status filter
+     * @param fields    fields to return, or null for all
      * @param pageable  pagination information
      * @return paginated list of complaints
      */
     @Transactional(readOnly = true)
     public PaginatedResponse<ComplaintResponse> getComplaintsForSuperAdmin(UUID adminId, Integer prabhagId,
-            ComplaintStatus status, Pageable pageable) {
-        Page<Complaint> page;
-
-        if (prabhagId != null) {
-            // Filter by specific Prabhag ID
-            if (status != null) {
-                page = complaintRepository.findByUserPrabhagIdAndStatusOrderByCreatedAtDesc(prabhagId, status,
-                        pageable);
-            } else {
-                page = complaintRepository.findByUserPrabhagIdOrderByCreatedAtDesc(prabhagId, pageable);
-            }
-        } else if (adminId != null) {
+            ComplaintStatus status, Set<ComplaintField> fields, Pageable pageable) {
+        Integer scopePrabhagId = prabhagId;
+        if (scopePrabhagId == null && adminId != null) {
             // Filter by Admin's Prabhag
             User admin = userRepository.findById(adminId)
                     .orElseThrow(() -> new ResourceNotFoundException("User", "id", adminId));
@@ -404,15 +654,22 @@ public class ComplaintService {
             }
 
             if (admin.getPrabhag() == null) {
-                page = Page.empty(pageable);
+                return toPaginatedResponse(Page.empty(pageable));
+            }
+            scopePrabhagId = admin.getPrabhag().getId();
+        }
+
+        if (fields != null) {
+            return findProjected(fields, null, scopePrabhagId, status, pageable);
+        }
+
+        Page<Complaint> page;
+        if (scopePrabhagId != null) {
+            if (status != null) {
+                page = complaintRepository.findByUserPrabhagIdAndStatusOrderByCreatedAtDesc(scopePrabhagId, status,
+                        pageable);
             } else {
-                if (status != null) {
-                    page = complaintRepository.findByUserPrabhagIdAndStatusOrderByCreatedAtDesc(
-                            admin.getPrabhag().getId(), status, pageable);
-                } else {
-                    page = complaintRepository.findByUserPrabhagIdOrderByCreatedAtDesc(admin.getPrabhag().getId(),
-                            pageable);
-                }
+                page = complaintRepository.findByUserPrabhagIdOrderByCreatedAtDesc(scopePrabhagId, pageable);
             }
         } else {
             // Global fetch
@@ -423,10 +680,41 @@ public class ComplaintService {
             }
         }
 
-        List<ComplaintResponse> content = page.map(this::mapToResponse).getContent();
+        return toPaginatedResponse(page.map(complaintMapper::toResponse));
+    }
+
+    /**
+     * List complaints selecting only the requested columns. Image URLs, if
+     * requested, come from one attachment ID query for the whole page.
+     *
+     * @param fields    fields to return
+     * @param userId    optional citizen filter
+     * @param prabhagId optional prabhag filter
+     * @param status    optional status filter
+     * @param pageable  pagination information
+     * @return paginated list of complaints with the other fields left null
+     */
+    private PaginatedResponse<ComplaintResponse> findProjected(Set<ComplaintField> fields, UUID userId,
+            Integer prabhagId, ComplaintStatus status, Pageable pageable) {
+        Page<ComplaintResponse> page = complaintRepository.findProjected(fields, userId, prabhagId, status,
+                pageable);
+
+        if (fields.contains(ComplaintField.IMAGE_URLS) && page.hasContent()) {
+            Map<UUID, List<String>> imageUrls = complaintAttachmentRepository
+                    .findRefsByComplaintIdIn(page.map(ComplaintResponse::getId).getContent())
+                    .stream()
+                    .collect(Collectors.groupingBy(ComplaintAttachmentRef::complaintId,
+                            Collectors.mapping(ref -> complaintMapper.attachmentUrl(ref.id()),
+                                    Collectors.toList())));
+            page.forEach(response -> response.setImageUrls(imageUrls.getOrDefault(response.getId(), List.of())));
+        }
+
+        return toPaginatedResponse(page);
+    }
 
+    private static PaginatedResponse<ComplaintResponse> toPaginatedResponse(Page<ComplaintResponse> page) {
         return PaginatedResponse.<ComplaintResponse>builder()
-                .content(content)
+                .content(page.getContent())
                 .page(page.getNumber())
                 .size(page.getSize())
                 .totalElements(page.getTotalElements())
@@ -451,10 +739,24 @@ public class ComplaintService {
         User requestingUser = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
 
+        checkViewAccess(complaint, requestingUser);
+
+        // Map to Detail Response
+        return complaintMapper.toDetailResponse(complaint);
+    }
+
+    /**
+     * Check that a user may view a complaint.
+     *
+     * @param complaint      the complaint
+     * @param requestingUser the user requesting access
+     * @throws AccessDeniedException if the user may not view the complaint
+     */
+    private void checkViewAccess(Complaint complaint, User requestingUser) {
         // Role-based Access Control
         if (requestingUser.getRole() == Role.CITIZEN) {
             // Citizen can only view their own complaints
-            if (!complaint.getUser().getId().equals(userId)) {
+            if (!complaint.getUser().getId().equals(requestingUser.getId())) {
                 throw new AccessDeniedException("You are not authorized to view this complaint");
             }
         } else if (requestingUser.getRole() == Role.ADMIN) {
@@ -471,60 +773,5 @@ public class ComplaintService {
         } else {
             throw new AccessDeniedException("Unauthorized role");
         }
-
-        // Map to Detail Response
-        return mapToDetailResponse(complaint);
-    }
-
-    private com.civiccomplaint.complaint.dto.ComplaintDetailResponse mapToDetailResponse(Complaint complaint) {
-        User citizen = complaint.getUser();
-        com.civiccomplaint.master.Prabhag prabhag = citizen.getPrabhag();
-
-        // Citizen Info
-        var raisedBy = com.civiccomplaint.complaint.dto.ComplaintDetailResponse.CitizenInfo.builder()
-                .id(citizen.getId())
-                .fullName(citizen.getFullName())
-                .mobileNumber(citizen.getMobileNumber())
-                .email(citizen.getEmail())
-                .address(citizen.getAddress())
-                .pinCode(citizen.getPinCode())
-                .prabhagName(prabhag != null ? prabhag.getName() : "N/A")
-                .build();
-
-        // Admin Info (Prabhag context)
-        var adminInfo = com.civiccomplaint.complaint.dto.ComplaintDetailResponse.AdminInfo.builder()
-                .prabhagId(prabhag != null ? prabhag.getId() : null)
-                .prabhagName(prabhag != null ? prabhag.getName() : "Unassigned")
-                .build();
-
-        // Location Info
-        var locationInfo = com.civiccomplaint.complaint.dto.ComplaintDetailResponse.LocationInfo.builder()
-                .latitude(complaint.getLatitude())
-                .longitude(complaint.getLongitude())
-                .locationText(complaint.getLocationText())
-                .build();
-
-        // Attachments
-        var attachmentInfos = complaint.getAttachments().stream()
-                .map(att -> com.civiccomplaint.complaint.dto.ComplaintDetailResponse.AttachmentInfo.builder()
-                        .id(att.getId())
-                        .url(baseUrl + "/api/complaints/attachments/" + att.getId())
-                        .contentType(att.getContentType())
-                        .build())
-                .toList();
-
-        return com.civiccomplaint.complaint.dto.ComplaintDetailResponse.builder()
-                .id(complaint.getId())
-                .complaintNumber(complaint.getComplaintNumber())
-                .title(complaint.getTitle())
-                .description(complaint.getDescription())
-                .complaintType(complaint.getComplaintType())
-                .status(complaint.getStatus())
-                .createdAt(complaint.getCreatedAt())
-                .raisedBy(raisedBy)
-                .adminInfo(adminInfo)
-                .location(locationInfo)
-                .attachments(attachmentInfos)
-                .build();
     }
 }
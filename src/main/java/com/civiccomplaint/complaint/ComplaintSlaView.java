@@ -0,0 +1,21 @@
+package com.civiccomplaint.complaint;
+
+/**
+ * Row of the complaint resolution SLA aggregate.
+ * The grouping level tells which columns the row aggregates over; a null
+ * prabhag ID on a detail or prabhag row stands for events without one.
+ */
+public interface ComplaintSlaView {
+
+    int getGroupingLevel();
+
+    Integer getPrabhagId();
+
+    String getComplaintType();
+
+    long getResolvedCount();
+
+    Double getMedianSeconds();
+
+    Double getP90Seconds();
+}
@@ -0,0 +1,68 @@
+package com.civiccomplaint.complaint;
+
+import com.civiccomplaint.user.User;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Append-only record of a complaint status change.
+ * The prabhag and complaint type are copied from the complaint at the time of
+ * the change so that analytics can aggregate events without joins.
+ */
+@Entity
+@Immutable
+@Table(name = "complaint_status_events", indexes = {
+        @Index(name = "idx_status_events_complaint_created", columnList = "complaint_id, created_at"),
+        @Index(name = "idx_status_events_to_status_created", columnList = "to_status, created_at")
+})
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ComplaintStatusEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "id", nullable = false, updatable = false)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "complaint_id", nullable = false, foreignKey = @ForeignKey(name = "fk_status_events_complaint"))
+    private Complaint complaint;
+
+    /**
+     * Previous status; null for the event recorded when the complaint is created.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_status", columnDefinition = "complaint_status")
+    @org.hibernate.annotations.Type(com.civiccomplaint.common.type.PostgreSQLEnumType.class)
+    private ComplaintStatus fromStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_status", nullable = false, columnDefinition = "complaint_status")
+    @org.hibernate.annotations.Type(com.civiccomplaint.common.type.PostgreSQLEnumType.class)
+    private ComplaintStatus toStatus;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "changed_by", foreignKey = @ForeignKey(name = "fk_status_events_user"))
+    private User changedBy;
+
+    @Column(name = "prabhag_id")
+    private Integer prabhagId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "complaint_type", nullable = false, columnDefinition = "complaint_type")
+    @org.hibernate.annotations.Type(com.civiccomplaint.common.type.PostgreSQLEnumType.class)
+    private ComplaintType complaintType;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
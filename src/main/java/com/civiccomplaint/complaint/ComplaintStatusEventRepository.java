@@ -0,0 +1,74 @@
+package com.civiccomplaint.complaint;
+
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository interface for ComplaintStatusEvent entity.
+ * Events are only ever inserted.
+ */
+@Repository
+public interface ComplaintStatusEventRepository extends JpaRepository<ComplaintStatusEvent, UUID> {
+
+    /**
+     * Find the status timeline of a complaint, oldest first.
+     *
+     * @param complaintId the complaint ID
+     * @return status events with the acting user loaded
+     */
+    @EntityGraph(attributePaths = "changedBy")
+    List<ComplaintStatusEvent> findByComplaintIdOrderByCreatedAtAsc(UUID complaintId);
+
+    /**
+     * Compute median and 90th percentile time from creation to first
+     * resolution, for complaints first resolved within a time range.
+     * Aggregated per prabhag and complaint type, per prabhag, and overall,
+     * each row marked with its GROUPING(prabhag_id, complaint_type) level.
+     * Creation time is taken from the complaint's creation event (the one
+     * without a previous status), so only the events table is read.
+     *
+     * @param prabhagId optional prabhag filter, null for all prabhags
+     * @param from      inclusive lower bound of the resolution time
+     * @param to        exclusive upper bound of the resolution time
+     * @return aggregate rows
+     */
+    @Query(value = """
+            WITH first_resolution AS (
+                SELECT DISTINCT ON (e.complaint_id)
+                       e.complaint_id, e.prabhag_id, e.complaint_type, e.created_at AS resolved_at
+                FROM complaint_status_events e
+                WHERE e.to_status = 'RESOLVED'
+                  AND e.created_at >= :from AND e.created_at < :to
+                  AND (CAST(:prabhagId AS integer) IS NULL OR e.prabhag_id = CAST(:prabhagId AS integer))
+                  AND NOT EXISTS (
+                      SELECT 1 FROM complaint_status_events earlier
+                      WHERE earlier.complaint_id = e.complaint_id
+                        AND earlier.to_status = 'RESOLVED'
+                        AND earlier.created_at < :from)
+                ORDER BY e.complaint_id, e.created_at
+            )
+            SELECT GROUPING(r.prabhag_id, r.complaint_type) AS groupingLevel,
+                   r.prabhag_id AS prabhagId,
+                   CAST(r.complaint_type AS text) AS complaintType,
+                   count(*) AS resolvedCount,
+                   percentile_cont(0.5) WITHIN GROUP (ORDER BY EXTRACT(EPOCH FROM r.resolved_at - o.created_at))
+                       AS medianSeconds,
+                   percentile_cont(0.9) WITHIN GROUP (ORDER BY EXTRACT(EPOCH FROM r.resolved_at - o.created_at))
+                       AS p90Seconds
+            FROM first_resolution r
+            JOIN complaint_status_events o ON o.complaint_id = r.complaint_id AND o.from_status IS NULL
+            GROUP BY GROUPING SETS ((r.prabhag_id, r.complaint_type), (r.prabhag_id), ())
+            HAVING count(*) > 0
+            ORDER BY GROUPING(r.prabhag_id), r.prabhag_id NULLS LAST, GROUPING(r.complaint_type),
+                     r.complaint_type NULLS LAST
+            """, nativeQuery = true)
+    List<ComplaintSlaView> findResolutionSla(@Param("prabhagId") Integer prabhagId,
+            @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
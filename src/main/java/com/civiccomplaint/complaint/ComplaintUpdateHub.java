@@ -0,0 +1,285 @@
+package com.civiccomplaint.complaint;
+
+import com.civiccomplaint.exception.ServiceUnavailableException;
+import com.civiccomplaint.outbox.OutboxEventHandler;
+import com.civiccomplaint.outbox.OutboxMessage;
+import com.civiccomplaint.tenant.TenantRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fans complaint lifecycle events out to admin dashboards over Server-Sent
+ * Events. The outbox relay hands each event to one instance only, so the hub
+ * rebroadcasts it with PostgreSQL NOTIFY; every instance's
+ * {@link ComplaintUpdateListener} passes it back to {@link #broadcast}.
+ * There each event is encoded once, then queued per subscriber and written
+ * by a small sender pool, so a slow browser never delays the listener or
+ * other subscribers. A subscriber whose queue overflows is disconnected and
+ * is expected to reload and reconnect. Subscribers only receive events of
+ * the tenant they subscribed in.
+ */
+@Slf4j
+@Component
+public class ComplaintUpdateHub implements OutboxEventHandler {
+
+    static final String CHANNEL = "complaint_updates";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final TenantRegistry tenantRegistry;
+    private final int maxSubscribers;
+    private final int queueCapacity;
+    private final long emitterTimeoutMillis;
+    private final ExecutorService sender;
+    private final ConcurrentHashMap<UUID, Subscriber> subscribers = new ConcurrentHashMap<>();
+
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public ComplaintUpdateHub(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, TenantRegistry tenantRegistry,
+            @Value("${app.complaint-stream.max-subscribers:1000}") int maxSubscribers,
+            @Value("${app.complaint-stream.queue-capacity:64}") int queueCapacity,
+            @Value("${app.complaint-stream.timeout:30m}") Duration timeout,
+            @Value("${app.complaint-stream.sender-threads:2}") int senderThreads) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.tenantRegistry = tenantRegistry;
+        this.maxSubscribers = maxSubscribers;
+        this.queueCapacity = queueCapacity;
+        this.emitterTimeoutMillis = timeout.toMillis();
+        this.sender = Executors.newFixedThreadPool(senderThreads, new SenderThreadFactory());
+    }
+
+    /**
+     * Open a stream of complaint events of the current tenant.
+     *
+     * @param prabhagId prabhag to receive events for, or null for all prabhags
+     * @return emitter to return from the controller
+     * @throws ServiceUnavailableException if the subscriber limit is reached
+     */
+    public SseEmitter subscribe(Integer prabhagId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        Subscriber subscriber = new Subscriber(UUID.randomUUID(), tenantRegistry.getCurrentTenantId(), prabhagId,
+                emitter, new ArrayBlockingQueue<>(queueCapacity));
+
+        // Size check and insert are not atomic; the limit may be exceeded by a
+        // few concurrent subscriptions, which is harmless
+        if (subscribers.size() >= maxSubscribers) {
+            rejected.increment();
+            throw new ServiceUnavailableException("Too many open complaint streams, please try again later", 30);
+        }
+        subscribers.put(subscriber.id(), subscriber);
+
+        emitter.onCompletion(() -> subscribers.remove(subscriber.id()));
+        emitter.onTimeout(() -> subscribers.remove(subscriber.id()));
+        emitter.onError(error -> subscribers.remove(subscriber.id()));
+
+        // Flush the response headers right away so that the browser sees an
+        // open stream before the first update
+        enqueue(subscriber, SseEmitter.event().comment("connected").build());
+        log.info("Complaint stream {} opened for prabhag {}, {} open", subscriber.id(),
+                prabhagId != null ? prabhagId : "ALL", subscribers.size());
+        return emitter;
+    }
+
+    @Override
+    public boolean supports(OutboxMessage message) {
+        return ComplaintLifecycleEvent.AGGREGATE_TYPE.equals(message.aggregateType());
+    }
+
+    /**
+     * Sends NOTIFY on the relay's own connection: it needs no second
+     * connection while the batch holds its row locks, and it is delivered
+     * when the batch commits, along with the event being marked published.
+     */
+    @Override
+    public boolean joinsBatchTransaction() {
+        return true;
+    }
+
+    /**
+     * Rebroadcast an event to every instance. A failure leaves the event to
+     * be retried by the relay.
+     */
+    @Override
+    public void handle(OutboxMessage message) throws IOException {
+        // The relay drains one tenant's outbox at a time
+        String notification = objectMapper.writeValueAsString(new Notification(tenantRegistry.getCurrentTenantId(),
+                message.id(), message.eventType(), message.payload()));
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> {
+        }, CHANNEL, notification);
+    }
+
+    /**
+     * Queue an event received from {@link #CHANNEL} for the matching
+     * subscribers on this instance.
+     *
+     * @param payload notification payload written by {@link #handle}
+     * @throws IOException if the payload cannot be parsed
+     */
+    void broadcast(String payload) throws IOException {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        Notification notification = objectMapper.readValue(payload, Notification.class);
+        ComplaintLifecycleEvent event = objectMapper.readValue(notification.payload(), ComplaintLifecycleEvent.class);
+        Set<ResponseBodyEmitter.DataWithMediaType> frame = SseEmitter.event()
+                .id(String.valueOf(notification.id()))
+                .name(notification.eventType())
+                .data(notification.payload(), MediaType.APPLICATION_JSON)
+                .build();
+
+        for (Subscriber subscriber : subscribers.values()) {
+            if (!subscriber.tenantId().equals(notification.tenantId())) {
+                continue;
+            }
+            if (subscriber.prabhagId() == null || subscriber.prabhagId().equals(event.prabhagId())) {
+                enqueue(subscriber, frame);
+            }
+        }
+    }
+
+    /**
+     * Send a comment to every subscriber so that proxies keep idle streams
+     * open and closed connections are detected.
+     */
+    @Scheduled(fixedDelayString = "${app.complaint-stream.heartbeat-interval-ms:20000}")
+    public void heartbeat() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Set<ResponseBodyEmitter.DataWithMediaType> frame = SseEmitter.event().comment("heartbeat").build();
+        for (Subscriber subscriber : subscribers.values()) {
+            enqueue(subscriber, frame);
+        }
+    }
+
+    /**
+     * Get stream counters.
+     *
+     * @return hub statistics
+     */
+    public Statistics getStatistics() {
+        return new Statistics(subscribers.size(), delivered.sum(), evicted.sum(), rejected.sum());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        sender.shutdownNow();
+        for (Subscriber subscriber : subscribers.values()) {
+            subscriber.emitter().complete();
+        }
+        subscribers.clear();
+    }
+
+    private void enqueue(Subscriber subscriber, Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+        if (!subscriber.queue().offer(frame)) {
+            evict(subscriber);
+            return;
+        }
+        if (subscriber.draining().compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        while (true) {
+            Set<ResponseBodyEmitter.DataWithMediaType> frame;
+            while ((frame = subscriber.queue().poll()) != null) {
+                try {
+                    subscriber.emitter().send(frame);
+                    delivered.increment();
+                } catch (IOException | IllegalStateException e) {
+                    // Client went away or the emitter already completed
+                    subscribers.remove(subscriber.id());
+                    subscriber.queue().clear();
+                    log.debug("Complaint stream {} closed: {}", subscriber.id(), e.toString());
+                    break;
+                }
+            }
+            subscriber.draining().set(false);
+            // Re-check after releasing the flag so that a frame queued in between is not stranded
+            if (subscriber.queue().isEmpty() || !subscriber.draining().compareAndSet(false, true)) {
+                return;
+            }
+        }
+    }
+
+    private void evict(Subscriber subscriber) {
+        if (subscribers.remove(subscriber.id()) == null) {
+            return;
+        }
+        evicted.increment();
+        subscriber.queue().clear();
+        log.warn("Complaint stream {} evicted: {} events behind", subscriber.id(), queueCapacity);
+        // Completing waits for an in-flight send, so keep it off the caller's thread
+        sender.execute(subscriber.emitter()::complete);
+    }
+
+    /**
+     * Hub statistics.
+     *
+     * @param subscribers open streams
+     * @param delivered   frames written since startup, including heartbeats
+     * @param evicted     streams closed for falling behind since startup
+     * @param rejected    subscriptions refused at the subscriber limit since startup
+     */
+    public record Statistics(int subscribers, long delivered, long evicted, long rejected) {
+    }
+
+    /**
+     * Event as sent over {@link #CHANNEL}.
+     *
+     * @param tenantId  tenant whose outbox the event came from
+     * @param id        outbox event ID
+     * @param eventType event name
+     * @param payload   event body as JSON
+     */
+    record Notification(String tenantId, Long id, String eventType, String payload) {
+    }
+
+    private record Subscriber(UUID id, String tenantId, Integer prabhagId, SseEmitter emitter,
+            BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> queue, AtomicBoolean draining) {
+
+        Subscriber(UUID id, String tenantId, Integer prabhagId, SseEmitter emitter,
+                BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> queue) {
+            this(id, tenantId, prabhagId, emitter, queue, new AtomicBoolean());
+        }
+    }
+
+    private static final class SenderThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "complaint-stream-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
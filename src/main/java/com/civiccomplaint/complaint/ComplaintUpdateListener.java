@@ -0,0 +1,105 @@
+package com.civiccomplaint.complaint;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Receives complaint events broadcast by any instance's
+ * {@link ComplaintUpdateHub} and hands them to this instance's hub.
+ * Listens on a dedicated connection opened from spring.datasource, outside
+ * the pools, since it is held for the lifetime of the application.
+ * Events sent while the connection is being re-established are missed;
+ * dashboards reload on reconnect, so nothing is replayed.
+ */
+@Slf4j
+@Component
+public class ComplaintUpdateListener implements SmartLifecycle {
+
+    private static final int POLL_TIMEOUT_MILLIS = 1000;
+
+    private final DataSourceProperties properties;
+    private final ComplaintUpdateHub hub;
+    private final Duration reconnectDelay;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    public ComplaintUpdateListener(DataSourceProperties properties, ComplaintUpdateHub hub,
+            @Value("${app.complaint-stream.listener-reconnect-delay:5s}") Duration reconnectDelay) {
+        this.properties = properties;
+        this.hub = hub;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        thread = new Thread(this::listen, "complaint-stream-listener");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        thread.interrupt();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(properties.determineUrl(),
+                    properties.determineUsername(), properties.determinePassword());
+                    Statement statement = connection.createStatement()) {
+                statement.execute("LISTEN " + ComplaintUpdateHub.CHANNEL);
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                log.info("Listening for complaint updates on channel {}", ComplaintUpdateHub.CHANNEL);
+
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        deliver(notification.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Complaint update listener disconnected, reconnecting in {} s: {}",
+                        reconnectDelay.toSeconds(), e.toString());
+                try {
+                    Thread.sleep(reconnectDelay.toMillis());
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void deliver(String payload) {
+        try {
+            hub.broadcast(payload);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Dropped malformed complaint update notification", e);
+        }
+    }
+}
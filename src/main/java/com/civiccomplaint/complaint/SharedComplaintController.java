@@ -2,6 +2,7 @@ package com.civiccomplaint.complaint;
 
 import com.civiccomplaint.common.dto.ApiResponse;
 import com.civiccomplaint.complaint.dto.ComplaintDetailResponse;
+import com.civiccomplaint.complaint.dto.ComplaintStatusEventResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -12,6 +13,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
 import java.util.UUID;
 
 @Slf4j
@@ -41,9 +43,33 @@ public class SharedComplaintController {
                 .getPrincipal();
         UUID userId = userDetails.getId();
 
-        log.info("GET /api/complaints/{} - User: {}", complaintId, userId);
+        log.debug("GET /api/complaints/{} - User: {}", complaintId, userId);
 
         ComplaintDetailResponse response = complaintService.getComplaintDetails(complaintId, userId);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
+
+    /**
+     * Get the status history of a complaint, oldest first.
+     * Visible to the same users who can view the complaint.
+     *
+     * @param complaintId    the complaint ID
+     * @param authentication authenticated user
+     * @return status events
+     */
+    @GetMapping("/{complaintId}/history")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<List<ComplaintStatusEventResponse>>> getComplaintHistory(
+            @PathVariable UUID complaintId,
+            Authentication authentication) {
+
+        com.civiccomplaint.auth.CustomUserDetails userDetails = (com.civiccomplaint.auth.CustomUserDetails) authentication
+                .getPrincipal();
+
+        log.debug("GET /api/complaints/{}/history - User: {}", complaintId, userDetails.getId());
+
+        List<ComplaintStatusEventResponse> history = complaintService.getComplaintHistory(complaintId,
+                userDetails.getUser());
+        return ResponseEntity.ok(ApiResponse.success(history));
+    }
 }
@@ -0,0 +1,32 @@
+package com.civiccomplaint.complaint.dto;
+
+import com.civiccomplaint.complaint.ComplaintStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO for updating the status of several complaints at once.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkComplaintStatusUpdateRequest {
+
+    public static final int MAX_COMPLAINTS = 500;
+
+    @NotEmpty(message = "At least one complaint ID is required")
+    @Size(max = MAX_COMPLAINTS, message = "At most " + MAX_COMPLAINTS + " complaints can be updated at once")
+    private List<@NotNull(message = "Complaint ID must not be null") UUID> complaintIds;
+
+    @NotNull(message = "Status is required")
+    private ComplaintStatus status;
+}
@@ -0,0 +1,43 @@
+package com.civiccomplaint.complaint.dto;
+
+import com.civiccomplaint.complaint.ComplaintStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO for the outcome of a bulk complaint status update.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkComplaintStatusUpdateResponse {
+
+    private ComplaintStatus status;
+    private int requested;
+    private int updated;
+    private int failed;
+    private List<Result> results;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Result {
+        private UUID complaintId;
+        private Outcome outcome;
+        private String message;
+    }
+
+    public enum Outcome {
+        UPDATED,
+        UNCHANGED,
+        NOT_FOUND,
+        FORBIDDEN
+    }
+}
@@ -13,6 +13,8 @@ import java.util.UUID;
 
 /**
  * DTO for complaint response.
+ * List endpoints called with a "fields" parameter return a
+ * {@link PartialComplaintResponse} instead.
  */
 @Data
 @Builder
@@ -0,0 +1,44 @@
+package com.civiccomplaint.complaint.dto;
+
+import com.civiccomplaint.complaint.ComplaintType;
+import com.civiccomplaint.reporting.dto.ReportLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for complaint resolution time statistics.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ComplaintSlaResponse {
+
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private List<Entry> entries;
+
+    /**
+     * Resolution times for one group. The level tells totals apart from
+     * details; a null prabhag on a DETAIL or PRABHAG entry stands for
+     * complaints that were not assigned to one.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+        private ReportLevel level;
+        private Integer prabhagId;
+        private String prabhagName;
+        private ComplaintType complaintType;
+        private long resolvedCount;
+        private Double medianHours;
+        private Double p90Hours;
+    }
+}
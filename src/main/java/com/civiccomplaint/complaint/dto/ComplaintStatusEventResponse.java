@@ -0,0 +1,26 @@
+package com.civiccomplaint.complaint.dto;
+
+import com.civiccomplaint.complaint.ComplaintStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO for a single entry of a complaint's status history.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ComplaintStatusEventResponse {
+
+    private ComplaintStatus fromStatus;
+    private ComplaintStatus toStatus;
+    private UUID changedById;
+    private String changedByName;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,12 @@
+package com.civiccomplaint.complaint.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Complaint response built for a list request with a "fields" parameter.
+ * Only the requested fields are set, and the others are left out of the
+ * response instead of being written as null.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PartialComplaintResponse extends ComplaintResponse {
+}
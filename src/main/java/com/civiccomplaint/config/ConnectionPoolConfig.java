@@ -0,0 +1,92 @@
+package com.civiccomplaint.config;
+
+import com.civiccomplaint.monitoring.ConnectionPoolMetrics;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Connection pool instrumentation.
+ * Registers {@link ConnectionPoolMetrics} with the Hikari pool before it
+ * starts, chaining Hikari's Micrometer tracker behind it, and checks the pool size against the request thread count once
+ * the application is ready.
+ */
+@Slf4j
+@Configuration
+public class ConnectionPoolConfig {
+
+    /**
+     * Request threads per pooled connection above which a warning is logged.
+     */
+    private static final int THREADS_PER_CONNECTION_WARNING = 4;
+
+    /**
+     * Pool metrics for the monitoring endpoint. Also feeds the hikaricp_*
+     * meters, which Spring Boot would otherwise register itself but skips
+     * once a tracker factory is set.
+     */
+    @Bean
+    public ConnectionPoolMetrics connectionPoolMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        return new ConnectionPoolMetrics(registry != null ? new MicrometerMetricsTrackerFactory(registry) : null);
+    }
+
+    @Bean
+    public static BeanPostProcessor connectionPoolMetricsRegistrar(ObjectProvider<ConnectionPoolMetrics> metrics) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    hikari.setMetricsTrackerFactory(metrics.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Warn when far more Tomcat threads can issue queries than there are
+     * pooled connections. The surplus threads block in getConnection() and
+     * time out under load instead of being rejected early. Not applicable
+     * with virtual threads, where the request concurrency limiter bounds
+     * concurrency instead.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkPoolSizing(ApplicationReadyEvent event) {
+        DataSource dataSource = event.getApplicationContext().getBean(DataSource.class);
+        boolean virtualThreads = event.getApplicationContext().getEnvironment()
+                .getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        int tomcatMaxThreads = event.getApplicationContext().getEnvironment()
+                .getProperty("server.tomcat.threads.max", Integer.class, 200);
+
+        HikariDataSource hikari;
+        try {
+            if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+                return;
+            }
+            hikari = dataSource.unwrap(HikariDataSource.class);
+        } catch (SQLException e) {
+            return;
+        }
+
+        int poolSize = hikari.getMaximumPoolSize();
+        log.info("Connection pool '{}': maximum {} connections, {} ms connection timeout",
+                hikari.getPoolName(), poolSize, hikari.getConnectionTimeout());
+        if (!virtualThreads && tomcatMaxThreads > poolSize * THREADS_PER_CONNECTION_WARNING) {
+            log.warn("server.tomcat.threads.max ({}) is more than {}x the connection pool size ({}); "
+                    + "under load most request threads will wait in getConnection(). "
+                    + "Lower the thread count or raise spring.datasource.hikari.maximum-pool-size",
+                    tomcatMaxThreads, THREADS_PER_CONNECTION_WARNING, poolSize);
+        }
+    }
+}
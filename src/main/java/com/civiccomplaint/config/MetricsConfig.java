@@ -0,0 +1,40 @@
+package com.civiccomplaint.config;
+
+import com.civiccomplaint.auth.JwtAuthenticationFilter;
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
+
+/**
+ * Micrometer customisation.
+ * Endpoint timers (http.server.requests) and repository timers
+ * (spring.data.repository.invocations) are registered by Spring Boot; their
+ * histograms and the Prometheus endpoint are configured under management.*.
+ */
+@Configuration
+public class MetricsConfig {
+
+    private static final String ANONYMOUS = "ANONYMOUS";
+
+    /**
+     * Adds the caller's role to the HTTP request metrics, next to the default
+     * method, uri, status and outcome tags. The role is read from a request
+     * attribute because the security context is already cleared when the
+     * request observation stops.
+     */
+    @Bean
+    public ServerRequestObservationConvention roleTaggingServerRequestObservationConvention() {
+        return new DefaultServerRequestObservationConvention() {
+            @Override
+            public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+                Object role = context.getCarrier().getAttribute(JwtAuthenticationFilter.ROLE_ATTRIBUTE);
+                return super.getLowCardinalityKeyValues(context)
+                        .and(KeyValue.of("role", role != null ? role.toString() : ANONYMOUS));
+            }
+        };
+    }
+}
@@ -0,0 +1,65 @@
+package com.civiccomplaint.config;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which users committed a write recently, so that their reads are
+ * served by the primary until the replica has had time to catch up.
+ * Entries expire after a window that should be at least the maximum
+ * tolerated replica lag.
+ */
+public class ReadYourWritesTracker {
+
+    private final long windowNanos;
+    private final ConcurrentHashMap<UUID, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    /**
+     * Record that a user just committed a write.
+     *
+     * @param userId user ID
+     */
+    public void recordWrite(UUID userId) {
+        pinnedUntil.put(userId, System.nanoTime() + windowNanos);
+    }
+
+    /**
+     * Whether a user's reads must go to the primary.
+     *
+     * @param userId user ID
+     * @return true if the user wrote within the window
+     */
+    public boolean requiresPrimary(UUID userId) {
+        Long until = pinnedUntil.get(userId);
+        if (until == null) {
+            return false;
+        }
+        if (until - System.nanoTime() > 0) {
+            return true;
+        }
+        pinnedUntil.remove(userId, until);
+        return false;
+    }
+
+    /**
+     * Drop expired entries.
+     */
+    public void evictExpired() {
+        long now = System.nanoTime();
+        pinnedUntil.values().removeIf(until -> until - now <= 0);
+    }
+
+    /**
+     * Get the number of users currently pinned to the primary.
+     *
+     * @return tracked users
+     */
+    public int size() {
+        return pinnedUntil.size();
+    }
+}
@@ -0,0 +1,129 @@
+package com.civiccomplaint.config;
+
+import com.civiccomplaint.monitoring.ConnectionPoolMetrics;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Read replica routing, enabled with app.datasource.replica.enabled.
+ * Replaces the auto-configured DataSource with a lazy proxy over a
+ * {@link ReplicaRoutingDataSource}: the primary pool is configured from
+ * spring.datasource as usual, the replica pool from app.datasource.replica.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${app.datasource.replica.read-your-writes-window:10s}") Duration window) {
+        return new ReadYourWritesTracker(window);
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties properties, Environment environment,
+            ConnectionPoolMetrics connectionPoolMetrics, ReadYourWritesTracker readYourWritesTracker,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${app.datasource.replica.url}") String replicaUrl,
+            @Value("${app.datasource.replica.username:${spring.datasource.username}}") String replicaUsername,
+            @Value("${app.datasource.replica.password:${spring.datasource.password}}") String replicaPassword,
+            @Value("${app.datasource.replica.max-lag:5s}") Duration maxLag,
+            @Value("${app.datasource.replica.lag-query}") String lagQuery) {
+        Binder binder = Binder.get(environment);
+
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setMetricsTrackerFactory(connectionPoolMetrics);
+
+        HikariDataSource replica = new HikariDataSource();
+        binder.bind("app.datasource.replica.hikari", Bindable.ofInstance(replica));
+        replica.setJdbcUrl(replicaUrl);
+        replica.setUsername(replicaUsername);
+        replica.setPassword(replicaPassword);
+        replica.setReadOnly(true);
+        if (replica.getPoolName() == null) {
+            replica.setPoolName("replica");
+        }
+        // Not a bean of its own, so Spring Boot's pool metrics never see it
+        meterRegistry.ifAvailable(registry -> replica.setMetricsTrackerFactory(
+                new MicrometerMetricsTrackerFactory(registry)));
+
+        ReplicaLagMonitor lagMonitor = new ReplicaLagMonitor(replica, lagQuery, maxLag);
+        lagMonitor.check();
+        log.info("Read replica routing enabled: {} (max lag {} s)", replicaUrl, maxLag.toSeconds());
+        return new ReplicaRoutingDataSource(primary, replica, lagMonitor, readYourWritesTracker);
+    }
+
+    /**
+     * Application DataSource. Defers connection lookup to the first statement,
+     * when the transaction's read-only flag is already set.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    /**
+     * Release the JDBC connection at the end of each transaction rather than
+     * holding it for the whole request, so that a read-only transaction's
+     * replica connection is never reused by a later read-write transaction
+     * in the same open session.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer replicaConnectionHandlingCustomizer() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    @Bean
+    public ReplicaMaintenance replicaMaintenance(ReplicaRoutingDataSource replicaRoutingDataSource,
+            ReadYourWritesTracker readYourWritesTracker) {
+        return new ReplicaMaintenance(replicaRoutingDataSource, readYourWritesTracker);
+    }
+
+    /**
+     * Scheduled lag checks and read-your-writes cleanup.
+     */
+    public static class ReplicaMaintenance {
+
+        private final ReplicaRoutingDataSource routingDataSource;
+        private final ReadYourWritesTracker readYourWritesTracker;
+
+        ReplicaMaintenance(ReplicaRoutingDataSource routingDataSource, ReadYourWritesTracker readYourWritesTracker) {
+            this.routingDataSource = routingDataSource;
+            this.readYourWritesTracker = readYourWritesTracker;
+        }
+
+        @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval-ms:2000}")
+        public void checkLag() {
+            routingDataSource.checkLag();
+        }
+
+        @Scheduled(fixedDelayString = "${app.datasource.replica.read-your-writes-cleanup-interval-ms:60000}")
+        public void evictExpired() {
+            readYourWritesTracker.evictExpired();
+        }
+    }
+}
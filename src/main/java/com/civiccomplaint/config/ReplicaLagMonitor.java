@@ -0,0 +1,80 @@
+package com.civiccomplaint.config;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Periodically measures how far the read replica is behind the primary.
+ * The replica is considered usable only while the last check succeeded and
+ * the measured lag is within the configured maximum.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final double maxLagSeconds;
+
+    private volatile boolean available;
+    private volatile double lagSeconds = -1;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, Duration maxLag) {
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+    }
+
+    /**
+     * Run the lag query against the replica and update availability.
+     */
+    public void check() {
+        try (Connection connection = replica.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            double lag = resultSet.next() ? resultSet.getDouble(1) : 0;
+            lagSeconds = lag;
+            update(lag <= maxLagSeconds, "lag {} s (max {} s)", lag, maxLagSeconds);
+        } catch (Exception e) {
+            lagSeconds = -1;
+            update(false, "check failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Take the replica out of rotation until the next successful check,
+     * e.g. after a failed connection attempt.
+     *
+     * @param cause failure
+     */
+    public void markUnavailable(Exception cause) {
+        update(false, "connection failed: {}", cause.getMessage());
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * Get the last measured lag.
+     *
+     * @return lag in seconds, or -1 if the last check failed
+     */
+    public double getLagSeconds() {
+        return lagSeconds;
+    }
+
+    private void update(boolean nowAvailable, String reason, Object... args) {
+        boolean wasAvailable = available;
+        available = nowAvailable;
+        if (wasAvailable && !nowAvailable) {
+            log.warn("Read replica taken out of rotation, " + reason, args);
+        } else if (!wasAvailable && nowAvailable) {
+            log.info("Read replica in rotation, " + reason, args);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.civiccomplaint.config;
+
+import com.civiccomplaint.auth.CustomUserDetails;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Routes connections between the primary and a read replica.
+ * A connection goes to the replica only when it is requested inside a
+ * read-only transaction, the replica is within its lag budget, and the
+ * current user has not written recently. Everything else, including reads
+ * outside a transaction, goes to the primary.
+ * Must be wrapped in a LazyConnectionDataSourceProxy so that the connection
+ * is requested after the transaction's read-only flag is known.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    private final HikariDataSource primary;
+    private final HikariDataSource replica;
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    private final LongAdder replicaReads = new LongAdder();
+    private final LongAdder primaryReads = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, HikariDataSource replica,
+            ReplicaLagMonitor lagMonitor, ReadYourWritesTracker readYourWritesTracker) {
+        this.primary = primary;
+        this.replica = replica;
+        this.lagMonitor = lagMonitor;
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    /**
+     * Routed like {@link #getConnection()}; the chosen pool decides whether
+     * it accepts per-call credentials.
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(pool -> pool.getConnection(username, password));
+    }
+
+    /**
+     * Unwrapping resolves against the primary pool, so pool-aware components
+     * size themselves from the primary.
+     */
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        return primary.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || primary.isWrapperFor(iface);
+    }
+
+    /**
+     * Re-measure replica lag and update its availability.
+     */
+    public void checkLag() {
+        lagMonitor.check();
+    }
+
+    @Override
+    public void close() {
+        replica.close();
+        primary.close();
+    }
+
+    /**
+     * Get routing counters.
+     *
+     * @return routing statistics
+     */
+    public Statistics getStatistics() {
+        return new Statistics(lagMonitor.isAvailable(), lagMonitor.getLagSeconds(), replicaReads.sum(),
+                primaryReads.sum(), fallbacks.sum(), readYourWritesTracker.size());
+    }
+
+    private Connection route(ConnectionSource source) throws SQLException {
+        UUID userId = currentUserId();
+        boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+
+        if (!readOnly) {
+            trackWrite(userId);
+            return source.connect(primary);
+        }
+
+        if (!lagMonitor.isAvailable() || (userId != null && readYourWritesTracker.requiresPrimary(userId))) {
+            primaryReads.increment();
+            return source.connect(primary);
+        }
+
+        try {
+            Connection connection = source.connect(replica);
+            replicaReads.increment();
+            return connection;
+        } catch (SQLFeatureNotSupportedException e) {
+            // Says nothing about the replica's health
+            throw e;
+        } catch (SQLException e) {
+            lagMonitor.markUnavailable(e);
+            fallbacks.increment();
+            primaryReads.increment();
+            return source.connect(primary);
+        }
+    }
+
+    /**
+     * Pin the user's reads to the primary once the current read-write
+     * transaction commits.
+     */
+    private void trackWrite(UUID userId) {
+        if (userId == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesTracker.recordWrite(userId);
+            }
+        });
+    }
+
+    private static UUID currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getId();
+        }
+        return null;
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection connect(DataSource pool) throws SQLException;
+    }
+
+    /**
+     * Routing statistics.
+     *
+     * @param replicaAvailable whether the replica is in rotation
+     * @param replicaLagSeconds last measured lag, -1 if unknown
+     * @param replicaReads     read-only connections served by the replica
+     * @param primaryReads     read-only connections served by the primary
+     * @param fallbacks        replica connection failures that fell back to the primary
+     * @param pinnedUsers      users currently reading from the primary after a write
+     */
+    public record Statistics(boolean replicaAvailable, double replicaLagSeconds, long replicaReads,
+            long primaryReads, long fallbacks, int pinnedUsers) {
+    }
+}
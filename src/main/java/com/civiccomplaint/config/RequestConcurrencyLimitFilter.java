@@ -0,0 +1,201 @@
+package com.civiccomplaint.config;
+
+import com.civiccomplaint.auth.JwtUtil;
+import com.civiccomplaint.common.dto.ApiResponse;
+import com.civiccomplaint.tenant.TenantRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caps the number of requests processed at once when requests run on
+ * virtual threads. Tomcat's worker pool no longer bounds concurrency in that
+ * mode, so without a cap a burst would queue thousands of threads on the
+ * connection pool until they time out. Each tenant has its own cap,
+ * derived from the size of its own pool, so a burst on one city cannot take
+ * the slots of another; requests that cannot get a permit in time fail fast
+ * with 503. Runs before Spring Security because authentication itself loads
+ * the user, so the tenant of a bearer token is read here as well.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class RequestConcurrencyLimitFilter extends OncePerRequestFilter implements Ordered {
+
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final ObjectMapper objectMapper;
+    private final TenantRegistry tenantRegistry;
+    private final JwtUtil jwtUtil;
+    private final Map<String, Limiter> limiters;
+    private final long acquireTimeoutMillis;
+    private final List<String> excludedPaths;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public RequestConcurrencyLimitFilter(DataSource dataSource, ObjectMapper objectMapper,
+            TenantRegistry tenantRegistry, JwtUtil jwtUtil,
+            @Value("${app.concurrency-limit.max-concurrent-requests:0}") int maxConcurrentRequests,
+            @Value("${app.concurrency-limit.pool-multiplier:2}") int poolMultiplier,
+            @Value("${app.concurrency-limit.acquire-timeout:1s}") Duration acquireTimeout,
+            @Value("${app.concurrency-limit.excluded-paths:/admin/complaints/stream}") List<String> excludedPaths) {
+        this.objectMapper = objectMapper;
+        this.tenantRegistry = tenantRegistry;
+        this.jwtUtil = jwtUtil;
+        this.acquireTimeoutMillis = acquireTimeout.toMillis();
+        this.excludedPaths = List.copyOf(excludedPaths);
+
+        Map<String, Limiter> limiters = new LinkedHashMap<>();
+        for (TenantRegistry.Tenant tenant : tenantRegistry.getTenants()) {
+            // Without tenancy the single default tenant uses the regular pool
+            int poolSize = tenantRegistry.isEnabled() ? tenant.maxPoolSize() : maximumPoolSize(dataSource);
+            int limit = maxConcurrentRequests > 0 ? maxConcurrentRequests : poolMultiplier * poolSize;
+            limiters.put(tenant.id(), new Limiter(limit));
+        }
+        this.limiters = Collections.unmodifiableMap(limiters);
+        log.info("Request concurrency limited per tenant to {} (acquire timeout {} ms)",
+                limiters.entrySet().stream().map(entry -> entry.getKey() + "=" + entry.getValue().limit).toList(),
+                acquireTimeoutMillis);
+    }
+
+    @Override
+    public int getOrder() {
+        // Ahead of the Spring Security filter chain (-100)
+        return -110;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getServletPath();
+        return excludedPaths.stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        String tenantId = tenantId(request);
+        Limiter limiter = limiters.get(tenantId);
+        boolean acquired;
+        try {
+            acquired = limiter.permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            limiter.rejected.increment();
+            log.warn("Rejected {} {}: {} requests already in progress for tenant {}", request.getMethod(),
+                    request.getRequestURI(), limiter.limit, tenantId);
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(RETRY_AFTER_SECONDS));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(),
+                    ApiResponse.error("Server is busy, please try again shortly"));
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            limiter.permits.release();
+        }
+    }
+
+    /**
+     * Get limiter counters.
+     *
+     * @return limiter statistics per tenant, in configuration order
+     */
+    public List<Statistics> getStatistics() {
+        return limiters.entrySet().stream()
+                .map(entry -> {
+                    Limiter limiter = entry.getValue();
+                    return new Statistics(entry.getKey(), limiter.limit,
+                            limiter.limit - limiter.permits.availablePermits(), limiter.permits.getQueueLength(),
+                            limiter.rejected.sum());
+                })
+                .toList();
+    }
+
+    /**
+     * Resolve the tenant the request will run as. The tenant filter has
+     * bound the X-Tenant-ID header or the default tenant; a bearer token's
+     * tenant takes precedence, as it will once the JWT filter rebinds the
+     * request. Tokens that cannot be read, or name an unknown tenant, are
+     * rejected by the JWT filter and count against the bound tenant.
+     */
+    private String tenantId(HttpServletRequest request) {
+        String tenantId = tenantRegistry.getCurrentTenantId();
+        String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (!tenantRegistry.isEnabled() || authHeader == null || !authHeader.startsWith("Bearer ")) {
+            return limiters.containsKey(tenantId) ? tenantId : tenantRegistry.getDefaultTenantId();
+        }
+        try {
+            String tokenTenant = jwtUtil.extractTenant(authHeader.substring(7));
+            tenantId = tokenTenant != null ? tokenTenant : tenantRegistry.getDefaultTenantId();
+        } catch (RuntimeException e) {
+            // Left to the JWT filter to reject
+        }
+        return limiters.containsKey(tenantId) ? tenantId : tenantRegistry.getCurrentTenantId();
+    }
+
+    private static int maximumPoolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            log.warn("Could not determine connection pool size: {}", e.getMessage());
+        }
+        return 10; // Hikari default
+    }
+
+    private static final class Limiter {
+
+        private final int limit;
+        private final Semaphore permits;
+        private final LongAdder rejected = new LongAdder();
+
+        private Limiter(int limit) {
+            this.limit = limit;
+            this.permits = new Semaphore(limit, true);
+        }
+    }
+
+    /**
+     * Limiter statistics of one tenant.
+     *
+     * @param tenant   tenant ID
+     * @param limit    maximum concurrent requests
+     * @param active   requests currently holding a permit
+     * @param waiting  requests currently waiting for a permit
+     * @param rejected requests rejected since startup
+     */
+    public record Statistics(String tenant, int limit, int active, int waiting, long rejected) {
+    }
+}
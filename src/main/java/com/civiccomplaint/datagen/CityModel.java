@@ -0,0 +1,210 @@
+package com.civiccomplaint.datagen;
+
+import com.civiccomplaint.complaint.ComplaintType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * The statistical shape of the synthetic city: how citizens and complaints
+ * spread over prabhags, which complaint types are common, when complaints
+ * are raised and how long they take to resolve. Every draw takes the
+ * caller's random generator, so the output depends only on the seed.
+ */
+class CityModel {
+
+    /**
+     * Share of complaints by type, roughly as reported by municipal grievance
+     * portals: roads, garbage and street lights dominate.
+     */
+    static final Map<ComplaintType, Double> TYPE_WEIGHTS = Map.of(
+            ComplaintType.ROAD_DAMAGE, 22.0,
+            ComplaintType.GARBAGE_COLLECTION, 20.0,
+            ComplaintType.STREET_LIGHT, 15.0,
+            ComplaintType.WATER_SUPPLY, 12.0,
+            ComplaintType.DRAINAGE, 11.0,
+            ComplaintType.OTHER, 6.0,
+            ComplaintType.ILLEGAL_CONSTRUCTION, 5.0,
+            ComplaintType.NOISE_POLLUTION, 5.0,
+            ComplaintType.PUBLIC_PROPERTY_DAMAGE, 4.0);
+
+    /**
+     * Complaints raised per hour of the day, relative: few at night, peaks
+     * in the morning and the early evening.
+     */
+    private static final double[] HOUR_WEIGHTS = {
+            1, 0.5, 0.3, 0.3, 0.5, 1, 3, 6, 9, 11, 11, 10,
+            8, 7, 7, 7, 8, 9, 10, 9, 7, 5, 3, 2
+    };
+
+    /**
+     * Complaints raised per day of the week, Monday first, relative.
+     */
+    private static final double[] WEEKDAY_WEIGHTS = {1.25, 1.1, 1.05, 1.0, 0.95, 0.8, 0.7};
+
+    /**
+     * Complaints that no one ever picks up, whatever their age.
+     */
+    private static final double NEVER_ASSIGNED = 0.04;
+
+    /**
+     * Median time until an admin starts work, and until resolution, in hours.
+     */
+    private static final double MEDIAN_HOURS_TO_START = 20;
+    private static final double MEDIAN_HOURS_TO_RESOLVE = 6 * 24;
+
+    private static final double[] HOUR_CDF = cumulative(HOUR_WEIGHTS);
+
+    private final double[] populationCdf;
+    private final double[] complaintCdf;
+    private final double[] resolutionFactor;
+    private final double[] latitude;
+    private final double[] longitude;
+    private final ComplaintType[] types;
+    private final double[] typeCdf;
+
+    /**
+     * @param prabhags number of prabhags
+     * @param types    complaint types the database accepts
+     * @param random   seeded generator
+     */
+    CityModel(int prabhags, List<ComplaintType> types, SplittableRandom random) {
+        double[] population = new double[prabhags];
+        double[] complaints = new double[prabhags];
+        resolutionFactor = new double[prabhags];
+        latitude = new double[prabhags];
+        longitude = new double[prabhags];
+        for (int i = 0; i < prabhags; i++) {
+            // Ward sizes are skewed: a few large wards, many small ones
+            population[i] = logNormal(random, 1, 0.6);
+            // Some wards complain more per resident than others
+            complaints[i] = population[i] * logNormal(random, 1, 0.3);
+            // Some ward offices are faster than others
+            resolutionFactor[i] = 0.6 + random.nextDouble() * 0.8;
+            // Ward centres spread over a Pune-sized area
+            latitude[i] = 18.45 + random.nextDouble() * 0.17;
+            longitude[i] = 73.75 + random.nextDouble() * 0.23;
+        }
+        populationCdf = cumulative(population);
+        complaintCdf = cumulative(complaints);
+
+        this.types = types.toArray(ComplaintType[]::new);
+        double[] typeWeights = new double[this.types.length];
+        for (int i = 0; i < typeWeights.length; i++) {
+            typeWeights[i] = TYPE_WEIGHTS.getOrDefault(this.types[i], 1.0);
+        }
+        typeCdf = cumulative(typeWeights);
+    }
+
+    /**
+     * @return index of the prabhag a new citizen lives in
+     */
+    int citizenPrabhag(SplittableRandom random) {
+        return pick(populationCdf, random);
+    }
+
+    /**
+     * @return index of the prabhag a complaint is raised in
+     */
+    int complaintPrabhag(SplittableRandom random) {
+        return pick(complaintCdf, random);
+    }
+
+    /**
+     * Pick which of a prabhag's citizens raises a complaint. Skewed so that
+     * a small share of residents raise most complaints.
+     *
+     * @param citizens number of citizens in the prabhag
+     * @return index among them
+     */
+    int complainant(int citizens, SplittableRandom random) {
+        return (int) (citizens * Math.pow(random.nextDouble(), 2.5));
+    }
+
+    ComplaintType type(SplittableRandom random) {
+        return types[pick(typeCdf, random)];
+    }
+
+    /**
+     * Relative complaint volume of a day. Volume grows over the period as
+     * adoption of the portal grows, and varies by weekday.
+     *
+     * @param dayIndex  day within the period, 0 being the oldest
+     * @param days      length of the period
+     * @param dayOfWeek 1 for Monday to 7 for Sunday
+     * @return relative weight
+     */
+    double dayWeight(int dayIndex, int days, int dayOfWeek) {
+        double growth = 0.6 + 0.4 * dayIndex / Math.max(1, days - 1);
+        return growth * WEEKDAY_WEIGHTS[dayOfWeek - 1];
+    }
+
+    /**
+     * @return seconds after midnight at which a complaint is raised
+     */
+    int secondOfDay(SplittableRandom random) {
+        return pick(HOUR_CDF, random) * 3600 + random.nextInt(3600);
+    }
+
+    /**
+     * Draw how long a complaint takes to be started and resolved.
+     *
+     * @param prabhag prabhag index
+     * @return hours to start and hours to resolve, or null if it is never picked up
+     */
+    double[] handlingHours(int prabhag, SplittableRandom random) {
+        if (random.nextDouble() < NEVER_ASSIGNED) {
+            return null;
+        }
+        double factor = resolutionFactor[prabhag];
+        double toStart = logNormal(random, MEDIAN_HOURS_TO_START * factor, 1.0);
+        double toResolve = toStart + logNormal(random, MEDIAN_HOURS_TO_RESOLVE * factor, 0.9);
+        return new double[] {toStart, toResolve};
+    }
+
+    double latitude(int prabhag, SplittableRandom random) {
+        return latitude[prabhag] + gaussian(random) * 0.006;
+    }
+
+    double longitude(int prabhag, SplittableRandom random) {
+        return longitude[prabhag] + gaussian(random) * 0.006;
+    }
+
+    private static double logNormal(SplittableRandom random, double median, double sigma) {
+        return median * Math.exp(sigma * gaussian(random));
+    }
+
+    /**
+     * Standard normal draw (Box-Muller), from the caller's generator.
+     */
+    private static double gaussian(SplittableRandom random) {
+        double u = 1.0 - random.nextDouble();
+        return Math.sqrt(-2 * Math.log(u)) * Math.cos(2 * Math.PI * random.nextDouble());
+    }
+
+    private static int pick(double[] cdf, SplittableRandom random) {
+        double target = random.nextDouble() * cdf[cdf.length - 1];
+        int low = 0;
+        int high = cdf.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cdf[mid] <= target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static double[] cumulative(double[] weights) {
+        double[] cdf = new double[weights.length];
+        double sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            cdf[i] = sum;
+        }
+        return cdf;
+    }
+}
@@ -0,0 +1,123 @@
+package com.civiccomplaint.datagen;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+
+/**
+ * Streams rows to a COPY ... FROM STDIN in PostgreSQL's text format,
+ * buffering them into large writes.
+ */
+class CopyWriter implements AutoCloseable {
+
+    private static final int FLUSH_CHARS = 1 << 20;
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final CopyIn copy;
+    private final StringBuilder buffer = new StringBuilder(FLUSH_CHARS + 64 * 1024);
+    private long rows;
+
+    /**
+     * @param connection connection to copy over
+     * @param table      table and column list, e.g. "users (id, email)"
+     * @throws SQLException if the COPY cannot start
+     */
+    CopyWriter(Connection connection, String table) throws SQLException {
+        this.copy = connection.unwrap(PGConnection.class).getCopyAPI().copyIn("COPY " + table + " FROM STDIN");
+    }
+
+    /**
+     * Append a column value. Null is written as NULL and timestamps in ISO
+     * format; anything else as its escaped string form.
+     */
+    CopyWriter field(Object value) {
+        append(value);
+        buffer.append('\t');
+        return this;
+    }
+
+    /**
+     * Append a column value that is already in COPY text format, such as a
+     * precomputed bytea literal, without escaping it again.
+     */
+    CopyWriter raw(String value) {
+        buffer.append(value).append('\t');
+        return this;
+    }
+
+    /**
+     * Append the last column value and end the row.
+     */
+    void last(Object value) throws SQLException {
+        append(value);
+        buffer.append('\n');
+        rows++;
+        if (buffer.length() >= FLUSH_CHARS) {
+            flush();
+        }
+    }
+
+    long getRows() {
+        return rows;
+    }
+
+    /**
+     * Encode bytes as a bytea literal in COPY text format.
+     */
+    static String bytea(byte[] bytes) {
+        return "\\\\x" + HexFormat.of().formatHex(bytes);
+    }
+
+    private void append(Object value) {
+        if (value == null) {
+            buffer.append("\\N");
+        } else if (value instanceof LocalDateTime timestamp) {
+            TIMESTAMP.formatTo(timestamp, buffer);
+        } else {
+            String text = value.toString();
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                switch (c) {
+                    case '\\' -> buffer.append("\\\\");
+                    case '\t' -> buffer.append("\\t");
+                    case '\n' -> buffer.append("\\n");
+                    case '\r' -> buffer.append("\\r");
+                    default -> buffer.append(c);
+                }
+            }
+        }
+    }
+
+    private void flush() throws SQLException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copy.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    /**
+     * Send the remaining rows and finish the COPY.
+     */
+    @Override
+    public void close() throws SQLException {
+        if (!copy.isActive()) {
+            return;
+        }
+        try {
+            flush();
+            copy.endCopy();
+        } finally {
+            if (copy.isActive()) {
+                copy.cancelCopy();
+            }
+        }
+    }
+}
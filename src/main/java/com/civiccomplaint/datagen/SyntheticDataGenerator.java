@@ -0,0 +1,792 @@
+package com.civiccomplaint.datagen;
+
+import com.civiccomplaint.complaint.ComplaintService;
+import com.civiccomplaint.complaint.ComplaintStatus;
+import com.civiccomplaint.complaint.ComplaintType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.sql.DataSource;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Fills the database with a synthetic city for performance work: prabhags,
+ * staff, citizens, complaints with their status history, and image
+ * attachments. Runs instead of the web application when the "datagen"
+ * profile is active, then exits.
+ * <p>
+ * Rows are streamed with COPY FROM STDIN over several connections, with the
+ * tables' secondary indexes dropped during the load and rebuilt afterwards.
+ * The output depends only on the seed, the sizes and app.datagen.as-of:
+ * complaints are generated day by day in time order on one thread, and only
+ * the formatting and loading run in parallel.
+ */
+@Slf4j
+@Component
+@Profile("datagen")
+public class SyntheticDataGenerator implements ApplicationRunner {
+
+    private static final List<String> LOADED_TABLES = List.of(
+            "users", "complaints", "complaint_attachments", "complaint_status_events");
+
+    private static final Pattern CREATE_INDEX = Pattern.compile("^CREATE (UNIQUE )?INDEX ");
+
+    private static final String USER_COLUMNS = "users (id, role, full_name, email, mobile_number, password_hash,"
+            + " address, pin_code, is_active, prabhag_id, created_at, updated_at)";
+
+    private static final long KIND_STAFF = 1;
+    private static final long KIND_CITIZEN = 2;
+    private static final long KIND_COMPLAINT = 3;
+    private static final long KIND_ATTACHMENT = 4;
+    private static final long KIND_EVENT = 5;
+
+    private static final int CITIZEN_CHUNK = 50_000;
+    private static final int COMPLAINT_CHUNK = 20_000;
+    private static final int IMAGE_VARIANTS = 8;
+
+    private final DataSource dataSource;
+    private final PasswordEncoder passwordEncoder;
+    private final ConfigurableApplicationContext context;
+    private final long seed;
+    private final int prabhagCount;
+    private final int citizenCount;
+    private final int complaintCount;
+    private final int days;
+    private final LocalDateTime asOf;
+    private final double attachmentRatio;
+    private final int imageSize;
+    private final boolean statusEvents;
+    private final int threads;
+    private final String password;
+    private final boolean truncate;
+    private final boolean deferIndexes;
+
+    public SyntheticDataGenerator(
+            DataSource dataSource,
+            PasswordEncoder passwordEncoder,
+            ConfigurableApplicationContext context,
+            @Value("${app.datagen.seed:42}") long seed,
+            @Value("${app.datagen.prabhags:50}") int prabhagCount,
+            @Value("${app.datagen.citizens:500000}") int citizenCount,
+            @Value("${app.datagen.complaints:5000000}") int complaintCount,
+            @Value("${app.datagen.days:730}") int days,
+            @Value("${app.datagen.as-of:}") String asOf,
+            @Value("${app.datagen.attachment-ratio:0.3}") double attachmentRatio,
+            @Value("${app.datagen.image-size:64}") int imageSize,
+            @Value("${app.datagen.status-events:true}") boolean statusEvents,
+            @Value("${app.datagen.threads:4}") int threads,
+            @Value("${app.datagen.password:Citizen@123}") String password,
+            @Value("${app.datagen.truncate:false}") boolean truncate,
+            @Value("${app.datagen.defer-indexes:true}") boolean deferIndexes) {
+        if (citizenCount <= 0 || prabhagCount <= 0 || days <= 0 || threads <= 0 || complaintCount < 0) {
+            throw new IllegalArgumentException("app.datagen sizes must be positive");
+        }
+        this.dataSource = dataSource;
+        this.passwordEncoder = passwordEncoder;
+        this.context = context;
+        this.seed = seed;
+        this.prabhagCount = prabhagCount;
+        this.citizenCount = citizenCount;
+        this.complaintCount = complaintCount;
+        this.days = days;
+        this.asOf = asOf.isBlank() ? LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS) : LocalDateTime.parse(asOf);
+        this.attachmentRatio = attachmentRatio;
+        this.imageSize = imageSize;
+        this.statusEvents = statusEvents;
+        this.threads = threads;
+        this.password = password;
+        this.truncate = truncate;
+        this.deferIndexes = deferIndexes;
+    }
+
+    /**
+     * Generate the data, then shut the application down.
+     */
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        generate();
+        System.exit(SpringApplication.exit(context));
+    }
+
+    /**
+     * Generate and load all rows.
+     *
+     * @throws SQLException          on a database error
+     * @throws IllegalStateException if the tables already hold citizens or
+     *                               complaints and app.datagen.truncate is off
+     */
+    public void generate() throws SQLException, InterruptedException, ExecutionException {
+        long start = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(seed);
+        String passwordHash = passwordEncoder.encode(password);
+
+        City city;
+        Map<String, String> deferredIndexes;
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            prepareTables(connection);
+            List<ComplaintType> types = complaintTypes(connection);
+            city = new City(loadOrCreatePrabhags(connection), new CityModel(prabhagCount, types, random));
+            createStaff(connection, city, passwordHash);
+            deferredIndexes = deferIndexes ? dropIndexes(connection) : Map.of();
+        }
+        log.info("Generating {} citizens and {} complaints over {} days up to {} in {} prabhags (seed {})",
+                citizenCount, complaintCount, days, asOf, city.prabhagIds.length, seed);
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads, new NamedThreadFactory("datagen"));
+        boolean indexesRebuilt = false;
+        try {
+            Loader loader = new Loader(pool, threads * 2);
+            loadCitizens(loader, city, random, passwordHash);
+            loader.awaitAll();
+            log.info("Loaded {} citizens", citizenCount);
+
+            int[][] sequences = loadComplaints(loader, city, random);
+            loader.awaitAll();
+            log.info("Loaded {} complaints, {} attachments and {} status events", loader.complaints.get(),
+                    loader.attachments.get(), loader.events.get());
+
+            try (Connection connection = dataSource.getConnection()) {
+                saveSequences(connection, city, sequences);
+            }
+            rebuildIndexes(loader, deferredIndexes);
+            loader.awaitAll();
+            indexesRebuilt = true;
+        } finally {
+            pool.shutdownNow();
+            if (!indexesRebuilt) {
+                restoreIndexes(deferredIndexes);
+            }
+        }
+
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            connection.setAutoCommit(true);
+            for (String table : LOADED_TABLES) {
+                statement.execute("VACUUM ANALYZE " + table);
+            }
+        }
+        log.info("Synthetic data generated in {} s", Duration.ofNanos(System.nanoTime() - start).toSeconds());
+    }
+
+    private void prepareTables(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            if (truncate) {
+                log.info("Truncating users, complaints and their dependent tables");
+                statement.execute("TRUNCATE complaint_status_events, complaint_attachments, complaints,"
+                        + " complaint_sequences, users CASCADE");
+                return;
+            }
+            try (ResultSet rs = statement.executeQuery("SELECT EXISTS (SELECT 1 FROM complaints)"
+                    + " OR EXISTS (SELECT 1 FROM users WHERE role = 'CITIZEN')")) {
+                rs.next();
+                if (rs.getBoolean(1)) {
+                    throw new IllegalStateException("The database already has citizens or complaints;"
+                            + " set app.datagen.truncate=true to replace them");
+                }
+            }
+        }
+    }
+
+    /**
+     * Complaint types known to both the application and the database enum,
+     * which may lag behind it.
+     */
+    private List<ComplaintType> complaintTypes(Connection connection) throws SQLException {
+        List<ComplaintType> types = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+                ResultSet rs = statement.executeQuery("SELECT unnest(enum_range(NULL::complaint_type))::text")) {
+            while (rs.next()) {
+                String label = rs.getString(1);
+                Arrays.stream(ComplaintType.values())
+                        .filter(type -> type.name().equals(label))
+                        .findFirst()
+                        .ifPresent(types::add);
+            }
+        }
+        types.sort(null);
+        return types;
+    }
+
+    /**
+     * Reuse existing prabhags as master data; create them only in an empty table.
+     */
+    private List<Prabhag> loadOrCreatePrabhags(Connection connection) throws SQLException {
+        List<Prabhag> prabhags = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+                ResultSet rs = statement.executeQuery("SELECT id, code FROM prabhags ORDER BY id")) {
+            while (rs.next()) {
+                prabhags.add(new Prabhag(rs.getInt(1), rs.getString(2)));
+            }
+        }
+        if (!prabhags.isEmpty()) {
+            log.info("Using the {} existing prabhags", prabhags.size());
+            return prabhags;
+        }
+
+        LocalDateTime createdAt = asOf.minusDays(days + 30L);
+        try (CopyWriter out = new CopyWriter(connection,
+                "prabhags (id, name, code, description, created_at, updated_at)")) {
+            for (int i = 0; i < prabhagCount; i++) {
+                Prabhag prabhag = new Prabhag(i + 1, String.format("P%03d", i + 1));
+                prabhags.add(prabhag);
+                out.field(prabhag.id()).field("Prabhag " + prabhag.id() + " " + SyntheticText.locality(i))
+                        .field(prabhag.code()).field("Ward office for " + SyntheticText.locality(i))
+                        .field(createdAt).last(createdAt);
+            }
+        }
+        // Explicit ids do not advance the identity sequence
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SELECT setval(pg_get_serial_sequence('prabhags', 'id'), " + prabhagCount + ")");
+        }
+        return prabhags;
+    }
+
+    /**
+     * A super admin and one admin per prabhag, unless they already exist.
+     * Admins are recorded as the author of status changes.
+     */
+    private void createStaff(Connection connection, City city, String passwordHash) throws SQLException {
+        Map<Integer, UUID> existingAdmins = new HashMap<>();
+        boolean superAdminExists = false;
+        try (Statement statement = connection.createStatement();
+                ResultSet rs = statement.executeQuery(
+                        "SELECT id, role, prabhag_id FROM users WHERE role IN ('ADMIN', 'SUPER_ADMIN')")) {
+            while (rs.next()) {
+                if ("SUPER_ADMIN".equals(rs.getString(2))) {
+                    superAdminExists = true;
+                } else {
+                    existingAdmins.putIfAbsent(rs.getInt(3), rs.getObject(1, UUID.class));
+                }
+            }
+        }
+
+        LocalDateTime createdAt = asOf.minusDays(days + 30L);
+        try (CopyWriter out = new CopyWriter(connection, USER_COLUMNS)) {
+            if (!superAdminExists) {
+                user(out, uuid(KIND_STAFF, 0), "SUPER_ADMIN", "Municipal Commissioner", "superadmin@datagen.local",
+                        "8000000000", "Municipal Corporation Building, Shivajinagar, Pune", "411005", true, null,
+                        passwordHash, createdAt);
+            }
+            for (int i = 0; i < city.prabhagIds.length; i++) {
+                UUID adminId = existingAdmins.get(city.prabhagIds[i]);
+                if (adminId == null) {
+                    adminId = uuid(KIND_STAFF, i + 1L);
+                    user(out, adminId, "ADMIN", "Ward Officer " + SyntheticText.locality(i),
+                            String.format("admin.%s@datagen.local", city.prabhagCodes[i].toLowerCase(Locale.ROOT)),
+                            String.format("8%09d", i + 1), "Ward Office, " + SyntheticText.locality(i) + ", Pune",
+                            pinCode(i), true, city.prabhagIds[i], passwordHash, createdAt);
+                }
+                city.adminIds[i] = adminId;
+            }
+        }
+    }
+
+    private void loadCitizens(Loader loader, City city, SplittableRandom random, String passwordHash)
+            throws InterruptedException {
+        // Assigned up front on this thread, so complaints can pick citizens by prabhag
+        int[] counts = new int[city.prabhagIds.length];
+        for (int i = 0; i < citizenCount; i++) {
+            city.citizenPrabhag[i] = city.model.citizenPrabhag(random);
+            counts[city.citizenPrabhag[i]]++;
+        }
+        for (int p = 0; p < counts.length; p++) {
+            city.citizensByPrabhag[p] = new int[counts[p]];
+            counts[p] = 0;
+        }
+        for (int i = 0; i < citizenCount; i++) {
+            int p = city.citizenPrabhag[i];
+            city.citizensByPrabhag[p][counts[p]++] = i;
+        }
+
+        LocalDateTime registeredFrom = asOf.minusDays(days + 30L);
+        for (int from = 0; from < citizenCount; from += CITIZEN_CHUNK) {
+            int first = from;
+            int last = Math.min(citizenCount, from + CITIZEN_CHUNK);
+            SplittableRandom chunkRandom = random.split();
+            loader.submit(connection -> {
+                try (CopyWriter out = new CopyWriter(connection, USER_COLUMNS)) {
+                    for (int i = first; i < last; i++) {
+                        int p = city.citizenPrabhag[i];
+                        String firstName = SyntheticText.firstName(chunkRandom);
+                        String lastName = SyntheticText.lastName(chunkRandom);
+                        LocalDateTime createdAt = registeredFrom.plusSeconds(chunkRandom.nextLong(30L * 24 * 3600));
+                        user(out, uuid(KIND_CITIZEN, i), "CITIZEN", firstName + " " + lastName,
+                                (firstName + "." + lastName + "." + i + "@example.com").toLowerCase(Locale.ROOT),
+                                String.format("9%09d", i), SyntheticText.address(p, chunkRandom), pinCode(p),
+                                chunkRandom.nextDouble() >= 0.02, city.prabhagIds[p], passwordHash, createdAt);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Generate complaints day by day, oldest first, so that complaint numbers
+     * follow creation order within each prabhag and year.
+     *
+     * @return complaints per prabhag index and year offset from the first year
+     */
+    private int[][] loadComplaints(Loader loader, City city, SplittableRandom random) throws InterruptedException {
+        LocalDate firstDay = firstDay();
+        int firstYear = firstDay.getYear();
+        int[][] sequences = new int[city.prabhagIds.length][asOf.getYear() - firstYear + 1];
+        String[] images = renderImages(random.split());
+
+        double[] dayWeights = new double[days];
+        double totalWeight = 0;
+        for (int d = 0; d < days; d++) {
+            dayWeights[d] = city.model.dayWeight(d, days, firstDay.plusDays(d).getDayOfWeek().getValue());
+            totalWeight += dayWeights[d];
+        }
+
+        List<ComplaintRow> batch = new ArrayList<>(COMPLAINT_CHUNK + 1024);
+        long generated = 0;
+        double cumulative = 0;
+        long nextProgress = complaintCount / 10;
+        for (int d = 0; d < days; d++) {
+            // Exact total: each day gets the rounded share of the cumulative weight
+            cumulative += dayWeights[d];
+            long upTo = Math.round(complaintCount * cumulative / totalWeight);
+            int today = (int) (upTo - generated);
+            LocalDateTime dayStart = firstDay.plusDays(d).atStartOfDay();
+
+            int[] seconds = new int[today];
+            for (int i = 0; i < today; i++) {
+                seconds[i] = city.model.secondOfDay(random);
+            }
+            Arrays.sort(seconds);
+
+            for (int i = 0; i < today; i++) {
+                LocalDateTime createdAt = dayStart.plusSeconds(seconds[i]);
+                int p = city.model.complaintPrabhag(random);
+                int[] residents = city.citizensByPrabhag[p];
+                if (residents.length == 0) {
+                    // Prabhag without citizens: the complaint goes to a neighbour
+                    p = city.citizenPrabhag[random.nextInt(citizenCount)];
+                    residents = city.citizensByPrabhag[p];
+                }
+                int citizen = residents[city.model.complainant(residents.length, random)];
+                ComplaintType type = city.model.type(random);
+                int sequence = ++sequences[p][createdAt.getYear() - firstYear];
+                batch.add(new ComplaintRow(generated + i, citizen, p, type, createdAt,
+                        city.model.handlingHours(p, random),
+                        ComplaintService.formatComplaintNumber(city.prabhagCodes[p], createdAt.getYear(), sequence),
+                        random.nextLong()));
+            }
+            generated = upTo;
+
+            if (batch.size() >= COMPLAINT_CHUNK || d == days - 1) {
+                List<ComplaintRow> rows = batch;
+                loader.submit(connection -> writeComplaints(connection, loader, city, rows, images));
+                batch = new ArrayList<>(COMPLAINT_CHUNK + 1024);
+            }
+            if (generated >= nextProgress && nextProgress > 0) {
+                log.info("Generated {} of {} complaints", generated, complaintCount);
+                nextProgress += complaintCount / 10;
+            }
+        }
+        return sequences;
+    }
+
+    private void writeComplaints(Connection connection, Loader loader, City city, List<ComplaintRow> rows,
+            String[] images) throws SQLException {
+        List<Attachment> attachments = new ArrayList<>();
+        List<Event> events = new ArrayList<>();
+
+        try (CopyWriter out = new CopyWriter(connection, "complaints (id, user_id, complaint_number, title,"
+                + " description, complaint_type, status, latitude, longitude, location_text, created_at,"
+                + " updated_at)")) {
+            for (ComplaintRow row : rows) {
+                SplittableRandom random = new SplittableRandom(row.rowSeed());
+                UUID id = uuid(KIND_COMPLAINT, row.index());
+                UUID citizenId = uuid(KIND_CITIZEN, row.citizen());
+                String[] text = SyntheticText.complaint(row.type(), random);
+
+                ComplaintStatus status = ComplaintStatus.PENDING;
+                LocalDateTime updatedAt = row.createdAt();
+                events.add(new Event(id, 0, null, ComplaintStatus.PENDING, citizenId, row, row.createdAt()));
+                double[] hours = row.handlingHours();
+                long ageSeconds = ChronoUnit.SECONDS.between(row.createdAt(), asOf);
+                if (hours != null && hours[0] * 3600 <= ageSeconds) {
+                    status = ComplaintStatus.IN_PROGRESS;
+                    updatedAt = row.createdAt().plusSeconds((long) (hours[0] * 3600));
+                    events.add(new Event(id, 1, ComplaintStatus.PENDING, status, city.adminIds[row.prabhag()], row,
+                            updatedAt));
+                    if (hours[1] * 3600 <= ageSeconds) {
+                        status = ComplaintStatus.RESOLVED;
+                        updatedAt = row.createdAt().plusSeconds((long) (hours[1] * 3600));
+                        events.add(new Event(id, 2, ComplaintStatus.IN_PROGRESS, status,
+                                city.adminIds[row.prabhag()], row, updatedAt));
+                    }
+                }
+
+                out.field(id).field(citizenId).field(row.complaintNumber()).field(text[0]).field(text[1])
+                        .field(row.type().name()).field(status.name())
+                        .field(String.format(Locale.ROOT, "%.8f", city.model.latitude(row.prabhag(), random)))
+                        .field(String.format(Locale.ROOT, "%.8f", city.model.longitude(row.prabhag(), random)))
+                        .field(SyntheticText.location(row.prabhag(), random))
+                        .field(row.createdAt()).last(updatedAt);
+
+                if (random.nextDouble() < attachmentRatio) {
+                    double more = random.nextDouble();
+                    int count = more < 0.08 ? 3 : more < 0.25 ? 2 : 1;
+                    for (int a = 0; a < count; a++) {
+                        attachments.add(new Attachment(id, row.index() * 4 + a, random.nextInt(images.length),
+                                row.createdAt()));
+                    }
+                }
+            }
+        }
+
+        if (!attachments.isEmpty()) {
+            try (CopyWriter out = new CopyWriter(connection, "complaint_attachments (id, complaint_id, image_data,"
+                    + " content_type, file_name, file_size, created_at)")) {
+                for (Attachment attachment : attachments) {
+                    String image = images[attachment.variant()];
+                    out.field(uuid(KIND_ATTACHMENT, attachment.index())).field(attachment.complaintId())
+                            .raw(image).field("image/png")
+                            .field("IMG_" + (attachment.index() % 100_000) + ".png")
+                            .field((image.length() - 3) / 2).last(attachment.createdAt());
+                }
+            }
+        }
+
+        if (statusEvents) {
+            try (CopyWriter out = new CopyWriter(connection, "complaint_status_events (id, complaint_id,"
+                    + " from_status, to_status, changed_by, prabhag_id, complaint_type, created_at)")) {
+                for (Event event : events) {
+                    out.field(uuid(KIND_EVENT, event.row().index() * 4 + event.step())).field(event.complaintId())
+                            .field(event.from() != null ? event.from().name() : null).field(event.to().name())
+                            .field(event.changedBy()).field(city.prabhagIds[event.row().prabhag()])
+                            .field(event.row().type().name()).last(event.createdAt());
+                }
+            }
+        }
+
+        loader.complaints.addAndGet(rows.size());
+        loader.attachments.addAndGet(attachments.size());
+        loader.events.addAndGet(statusEvents ? events.size() : 0);
+    }
+
+    /**
+     * First day of the period. The period is whole days and ends the day
+     * before as-of, so every complaint is older than as-of.
+     */
+    private LocalDate firstDay() {
+        return asOf.toLocalDate().minusDays(days);
+    }
+
+    /**
+     * Continue the complaint number sequences after the generated complaints.
+     */
+    private void saveSequences(Connection connection, City city, int[][] sequences) throws SQLException {
+        int firstYear = firstDay().getYear();
+        try (PreparedStatement statement = connection.prepareStatement("""
+                INSERT INTO complaint_sequences (prabhag_id, year, current_value)
+                VALUES (?, ?, ?)
+                ON CONFLICT (prabhag_id, year)
+                DO UPDATE SET current_value = GREATEST(complaint_sequences.current_value, EXCLUDED.current_value)
+                """)) {
+            for (int p = 0; p < sequences.length; p++) {
+                for (int y = 0; y < sequences[p].length; y++) {
+                    if (sequences[p][y] > 0) {
+                        statement.setInt(1, city.prabhagIds[p]);
+                        statement.setInt(2, firstYear + y);
+                        statement.setInt(3, sequences[p][y]);
+                        statement.addBatch();
+                    }
+                }
+            }
+            statement.executeBatch();
+        }
+    }
+
+    /**
+     * Drop the secondary indexes of the loaded tables. Primary keys and
+     * unique constraints stay, so duplicates are still rejected.
+     *
+     * @return index definitions by name, for rebuilding
+     */
+    private Map<String, String> dropIndexes(Connection connection) throws SQLException {
+        Map<String, String> indexes = new LinkedHashMap<>();
+        try (PreparedStatement statement = connection.prepareStatement("""
+                SELECT i.indexrelid::regclass::text, pg_get_indexdef(i.indexrelid)
+                FROM pg_index i
+                JOIN pg_class t ON t.oid = i.indrelid
+                WHERE t.relname = ANY (?)
+                  AND pg_table_is_visible(t.oid)
+                  AND NOT EXISTS (SELECT 1 FROM pg_constraint c WHERE c.conindid = i.indexrelid)
+                """)) {
+            Array tables = connection.createArrayOf("text", LOADED_TABLES.toArray());
+            statement.setArray(1, tables);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    indexes.put(rs.getString(1), rs.getString(2));
+                }
+            }
+        }
+        // All or none, so that a failure leaves nothing to restore
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            for (String index : indexes.keySet()) {
+                statement.execute("DROP INDEX " + index);
+            }
+            connection.commit();
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+        log.info("Dropped {} secondary indexes for the load", indexes.size());
+        return indexes;
+    }
+
+    private void rebuildIndexes(Loader loader, Map<String, String> indexes) throws InterruptedException {
+        if (indexes.isEmpty()) {
+            return;
+        }
+        log.info("Rebuilding {} secondary indexes", indexes.size());
+        for (String definition : indexes.values()) {
+            loader.submit(connection -> {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SET maintenance_work_mem = '256MB'");
+                    statement.execute(definition);
+                }
+            });
+        }
+    }
+
+    /**
+     * Recreate the dropped indexes after a failed load, one at a time on a
+     * fresh connection, skipping those the parallel rebuild already created.
+     * Errors are logged rather than thrown so that they do not mask the
+     * failure of the load.
+     */
+    private void restoreIndexes(Map<String, String> indexes) {
+        if (indexes.isEmpty()) {
+            return;
+        }
+        log.warn("Load failed, recreating {} dropped secondary indexes", indexes.size());
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            connection.setAutoCommit(true);
+            statement.execute("SET maintenance_work_mem = '256MB'");
+            for (Map.Entry<String, String> index : indexes.entrySet()) {
+                try {
+                    statement.execute(CREATE_INDEX.matcher(index.getValue())
+                            .replaceFirst("CREATE $1INDEX IF NOT EXISTS "));
+                } catch (SQLException e) {
+                    log.error("Could not recreate index {}; recreate it with: {}", index.getKey(),
+                            index.getValue(), e);
+                }
+            }
+        } catch (SQLException e) {
+            log.error("Could not recreate the dropped indexes; recreate them with: {}", indexes.values(), e);
+        }
+    }
+
+    /**
+     * A few distinct PNG images, encoded once as COPY bytea literals and
+     * shared by all attachments.
+     */
+    private String[] renderImages(SplittableRandom random) {
+        String[] images = new String[IMAGE_VARIANTS];
+        for (int v = 0; v < images.length; v++) {
+            BufferedImage image = new BufferedImage(imageSize, imageSize, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = image.createGraphics();
+            graphics.setPaint(new GradientPaint(0, 0, new Color(random.nextInt(0x1000000)), imageSize, imageSize,
+                    new Color(random.nextInt(0x1000000))));
+            graphics.fillRect(0, 0, imageSize, imageSize);
+            graphics.dispose();
+            // Sensor-like noise, so that the images do not compress to nothing
+            for (int y = 0; y < imageSize; y++) {
+                for (int x = 0; x < imageSize; x++) {
+                    int rgb = image.getRGB(x, y);
+                    image.setRGB(x, y, rgb ^ random.nextInt(8) ^ (random.nextInt(8) << 8) ^ (random.nextInt(8) << 16));
+                }
+            }
+            ByteArrayOutputStream png = new ByteArrayOutputStream();
+            try {
+                ImageIO.write(image, "png", png);
+            } catch (IOException e) {
+                throw new IllegalStateException("Cannot encode synthetic image", e);
+            }
+            images[v] = CopyWriter.bytea(png.toByteArray());
+        }
+        return images;
+    }
+
+    private static void user(CopyWriter out, UUID id, String role, String fullName, String email, String mobile,
+            String address, String pinCode, boolean active, Integer prabhagId, String passwordHash,
+            LocalDateTime createdAt) throws SQLException {
+        out.field(id).field(role).field(fullName).field(email).field(mobile).field(passwordHash).field(address)
+                .field(pinCode).field(active ? "t" : "f").field(prabhagId).field(createdAt).last(createdAt);
+    }
+
+    private static String pinCode(int prabhag) {
+        return Integer.toString(411001 + prabhag % 60);
+    }
+
+    /**
+     * Version 4 UUID derived from the seed, the row kind and the row index,
+     * so ids do not depend on the order rows are written in.
+     */
+    private UUID uuid(long kind, long index) {
+        long most = mix(seed ^ (kind << 56) ^ index);
+        long least = mix(most ^ 0x9E3779B97F4A7C15L);
+        return new UUID((most & ~0xF000L) | 0x4000L, (least & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L);
+    }
+
+    /**
+     * SplitMix64 finalizer.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Runs load tasks on the pool, each on its own connection in autocommit
+     * mode, with a bound on queued tasks so that generation cannot run far
+     * ahead of the database.
+     */
+    private final class Loader {
+
+        private final ExecutorService pool;
+        private final Semaphore inFlight;
+        private final List<Future<?>> pending = new ArrayList<>();
+        private final AtomicLong complaints = new AtomicLong();
+        private final AtomicLong attachments = new AtomicLong();
+        private final AtomicLong events = new AtomicLong();
+
+        Loader(ExecutorService pool, int maxInFlight) {
+            this.pool = pool;
+            this.inFlight = new Semaphore(maxInFlight);
+        }
+
+        void submit(LoadTask task) throws InterruptedException {
+            inFlight.acquire();
+            pending.add(pool.submit(() -> {
+                try (Connection connection = dataSource.getConnection()) {
+                    connection.setAutoCommit(true);
+                    try (Statement statement = connection.createStatement()) {
+                        // Losing the last commits in a crash only means re-running the generator
+                        statement.execute("SET synchronous_commit = off");
+                    }
+                    task.run(connection);
+                    return null;
+                } finally {
+                    inFlight.release();
+                }
+            }));
+        }
+
+        /**
+         * Wait for every submitted task, failing on the first error.
+         */
+        void awaitAll() throws InterruptedException, ExecutionException {
+            for (Future<?> future : pending) {
+                future.get();
+            }
+            pending.clear();
+        }
+    }
+
+    @FunctionalInterface
+    private interface LoadTask {
+        void run(Connection connection) throws SQLException;
+    }
+
+    private static final class NamedThreadFactory implements ThreadFactory {
+
+        private final String prefix;
+        private final AtomicInteger count = new AtomicInteger();
+
+        NamedThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            return new Thread(runnable, prefix + "-" + count.incrementAndGet());
+        }
+    }
+
+    /**
+     * Prabhags, their admins and where citizens live. Prabhags are addressed
+     * by index; prabhagIds holds their database ids.
+     */
+    private final class City {
+
+        private final int[] prabhagIds;
+        private final String[] prabhagCodes;
+        private final UUID[] adminIds;
+        private final CityModel model;
+        private final int[] citizenPrabhag = new int[citizenCount];
+        private final int[][] citizensByPrabhag;
+
+        City(List<Prabhag> prabhags, CityModel model) {
+            this.prabhagIds = prabhags.stream().mapToInt(Prabhag::id).toArray();
+            this.prabhagCodes = prabhags.stream().map(Prabhag::code).toArray(String[]::new);
+            this.adminIds = new UUID[prabhags.size()];
+            this.citizensByPrabhag = new int[prabhags.size()][];
+            this.model = model;
+        }
+    }
+
+    private record Prabhag(int id, String code) {
+    }
+
+    private record ComplaintRow(long index, int citizen, int prabhag, ComplaintType type, LocalDateTime createdAt,
+            double[] handlingHours, String complaintNumber, long rowSeed) {
+    }
+
+    private record Attachment(UUID complaintId, long index, int variant, LocalDateTime createdAt) {
+    }
+
+    private record Event(UUID complaintId, int step, ComplaintStatus from, ComplaintStatus to, UUID changedBy,
+            ComplaintRow row, LocalDateTime createdAt) {
+    }
+}
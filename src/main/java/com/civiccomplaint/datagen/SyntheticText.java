@@ -0,0 +1,120 @@
+package com.civiccomplaint.datagen;
+
+import com.civiccomplaint.complaint.ComplaintType;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Names, places and complaint wording for synthetic rows, so that text
+ * columns have realistic lengths and value distributions.
+ */
+final class SyntheticText {
+
+    private static final String[] FIRST_NAMES = {
+            "Aarav", "Aditi", "Akash", "Ananya", "Anil", "Anjali", "Arjun", "Asha", "Deepak", "Divya",
+            "Ganesh", "Gauri", "Harsh", "Isha", "Kiran", "Kavita", "Mahesh", "Meera", "Nikhil", "Neha",
+            "Omkar", "Pooja", "Pranav", "Priya", "Rahul", "Rekha", "Rohan", "Sakshi", "Sanjay", "Shruti",
+            "Suresh", "Sneha", "Tanvi", "Tushar", "Varun", "Vaishali", "Vikram", "Vidya", "Yash", "Zoya"
+    };
+
+    private static final String[] LAST_NAMES = {
+            "Bhosale", "Chavan", "Deshmukh", "Deshpande", "Gaikwad", "Gokhale", "Jadhav", "Joshi", "Kale",
+            "Kulkarni", "Kadam", "Mane", "More", "Naik", "Patil", "Pawar", "Rane", "Sawant", "Shinde", "Shah",
+            "Sharma", "Shirke", "Thakur", "Wagh"
+    };
+
+    private static final String[] LOCALITIES = {
+            "Kothrud", "Baner", "Aundh", "Hadapsar", "Shivajinagar", "Kharadi", "Wakad", "Viman Nagar",
+            "Deccan", "Camp", "Karve Nagar", "Warje", "Bibwewadi", "Kondhwa", "Yerawada", "Sinhagad Road",
+            "Katraj", "Dhankawadi", "Pashan", "Balewadi", "Hinjewadi", "Magarpatta", "Wanowrie", "Swargate",
+            "Sadashiv Peth", "Kasba Peth", "Erandwane", "Bavdhan", "Sus", "Undri"
+    };
+
+    private static final String[] STREETS = {
+            "Main", "Station", "Market", "Temple", "School", "Canal", "Hill", "Lake", "Ring", "Link", "Nagar"
+    };
+
+    private static final String[] LANDMARKS = {
+            "the bus stop", "the school gate", "the vegetable market", "the temple", "the main junction",
+            "the park entrance", "the hospital", "the petrol pump", "the metro station", "the water tank",
+            "the community hall", "the bank"
+    };
+
+    private static final Map<ComplaintType, String[][]> TEMPLATES = new EnumMap<>(ComplaintType.class);
+
+    static {
+        TEMPLATES.put(ComplaintType.ROAD_DAMAGE, new String[][] {
+                {"Pothole on the road", "Deep pothole near %s. Two-wheelers are skidding and it fills with water when it rains."},
+                {"Road surface broken", "The road near %s is broken after the recent digging work and was never resurfaced."},
+                {"Speed breaker damaged", "The speed breaker near %s has broken edges and is damaging vehicles."}});
+        TEMPLATES.put(ComplaintType.GARBAGE_COLLECTION, new String[][] {
+                {"Garbage not collected", "Garbage has not been collected near %s for several days and it is starting to smell."},
+                {"Overflowing garbage bin", "The community bin near %s is overflowing onto the road. Stray dogs are spreading it."},
+                {"Garbage burning", "Someone is burning garbage near %s every evening and the smoke is entering houses."}});
+        TEMPLATES.put(ComplaintType.STREET_LIGHT, new String[][] {
+                {"Street light not working", "The street light near %s has not worked for a week and the lane is completely dark."},
+                {"Street light on during the day", "The street lights near %s stay on during the day."},
+                {"Flickering street light", "The street light pole near %s flickers all night."}});
+        TEMPLATES.put(ComplaintType.WATER_SUPPLY, new String[][] {
+                {"No water supply", "There has been no water supply near %s since yesterday morning."},
+                {"Low water pressure", "Water pressure near %s is too low to reach the first floor."},
+                {"Pipeline leakage", "Drinking water is leaking from the pipeline near %s and flooding the road."}});
+        TEMPLATES.put(ComplaintType.DRAINAGE, new String[][] {
+                {"Drainage blocked", "The drainage line near %s is blocked and sewage is overflowing onto the street."},
+                {"Open manhole", "The manhole cover near %s is missing. It is dangerous at night."},
+                {"Water logging", "Rain water collects near %s because the storm drain is choked."}});
+        TEMPLATES.put(ComplaintType.ILLEGAL_CONSTRUCTION, new String[][] {
+                {"Illegal construction", "An unauthorised structure is being built on the footpath near %s."},
+                {"Encroachment on road", "Shops near %s have extended onto the road and block traffic."}});
+        TEMPLATES.put(ComplaintType.NOISE_POLLUTION, new String[][] {
+                {"Loud music at night", "Loud music is played near %s past midnight on most days."},
+                {"Construction noise", "Construction work near %s continues late into the night."}});
+        TEMPLATES.put(ComplaintType.PUBLIC_PROPERTY_DAMAGE, new String[][] {
+                {"Broken bench in park", "Benches near %s are broken and the iron rods are exposed."},
+                {"Damaged bus shelter", "The bus shelter near %s has a broken roof."}});
+        TEMPLATES.put(ComplaintType.OTHER, new String[][] {
+                {"Stray dog menace", "A pack of stray dogs near %s chases pedestrians and children."},
+                {"Tree fallen", "A tree has fallen near %s and is blocking half the road."}});
+    }
+
+    private SyntheticText() {
+    }
+
+    static String firstName(SplittableRandom random) {
+        return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+    }
+
+    static String lastName(SplittableRandom random) {
+        return LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+    }
+
+    /**
+     * @param prabhag prabhag index
+     * @return the locality a prabhag is named after
+     */
+    static String locality(int prabhag) {
+        return LOCALITIES[prabhag % LOCALITIES.length];
+    }
+
+    static String address(int prabhag, SplittableRandom random) {
+        return "Flat " + (1 + random.nextInt(40)) + ", " + (1 + random.nextInt(300)) + " "
+                + STREETS[random.nextInt(STREETS.length)] + " Road, " + locality(prabhag) + ", Pune";
+    }
+
+    static String location(int prabhag, SplittableRandom random) {
+        return "Near " + LANDMARKS[random.nextInt(LANDMARKS.length)] + ", "
+                + STREETS[random.nextInt(STREETS.length)] + " Road, " + locality(prabhag);
+    }
+
+    /**
+     * @return title and description of a complaint of the given type
+     */
+    static String[] complaint(ComplaintType type, SplittableRandom random) {
+        String[][] templates = TEMPLATES.getOrDefault(type, TEMPLATES.get(ComplaintType.OTHER));
+        String[] template = templates[random.nextInt(templates.length)];
+        return new String[] {template[0],
+                String.format(template[1], LANDMARKS[random.nextInt(LANDMARKS.length)])};
+    }
+}
@@ -0,0 +1,19 @@
+package com.civiccomplaint.exception;
+
+/**
+ * Exception thrown when a request is shed because a bounded resource is
+ * saturated. Clients should retry after the suggested delay.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
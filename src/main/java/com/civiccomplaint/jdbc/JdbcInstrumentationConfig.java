@@ -0,0 +1,59 @@
+package com.civiccomplaint.jdbc;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Statement-level instrumentation, enabled unless app.jdbc.instrumentation.enabled
+ * is false. Wraps the application DataSource in a datasource-proxy that
+ * reports every statement to {@link QueryMetricsListener}, and adds the
+ * per-request {@link QueryBudgetFilter}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.jdbc.instrumentation.enabled", havingValue = "true", matchIfMissing = true)
+public class JdbcInstrumentationConfig {
+
+    /**
+     * Name of the DataSource bean to wrap: the auto-configured pool, or the
+     * replica routing proxy when read replicas are enabled. Other DataSource
+     * beans sit underneath it and are not wrapped again.
+     */
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    @Bean
+    public QueryMetricsListener queryMetricsListener(MeterRegistry meterRegistry,
+            @Value("${app.jdbc.slow-query-threshold:200ms}") Duration slowQueryThreshold) {
+        return new QueryMetricsListener(meterRegistry, slowQueryThreshold);
+    }
+
+    @Bean
+    public static BeanPostProcessor queryMetricsDataSourceWrapper(ObjectProvider<QueryMetricsListener> listener) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && DATA_SOURCE_BEAN_NAME.equals(beanName)) {
+                    return ProxyDataSourceBuilder.create(beanName, dataSource)
+                            .listener(listener.getObject())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public QueryBudgetFilter queryBudgetFilter(MeterRegistry meterRegistry,
+            @Value("${app.jdbc.query-budget.max-queries:20}") int maxQueries,
+            @Value("${app.jdbc.query-budget.max-db-time:500ms}") Duration maxDbTime) {
+        return new QueryBudgetFilter(meterRegistry, maxQueries, maxDbTime);
+    }
+}
@@ -0,0 +1,90 @@
+package com.civiccomplaint.jdbc;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the statements each request executes and the time spent in them.
+ * Records both per endpoint, and logs requests that go over the query count
+ * or database time budget, which is how N+1 selects show up. The request's
+ * statistics are left in a request attribute for the access log.
+ * Statements run on other threads, such as the async part of a streamed
+ * response, are not attributed to the request.
+ */
+@Slf4j
+public class QueryBudgetFilter extends OncePerRequestFilter implements Ordered {
+
+    /**
+     * Request attribute holding the request's {@link QueryStatistics}.
+     */
+    public static final String STATISTICS_ATTRIBUTE = QueryBudgetFilter.class.getName() + ".statistics";
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final int maxQueries;
+    private final long maxDbTimeMillis;
+
+    public QueryBudgetFilter(MeterRegistry meterRegistry, int maxQueries, Duration maxDbTime) {
+        this.meterRegistry = meterRegistry;
+        this.maxQueries = maxQueries;
+        this.maxDbTimeMillis = maxDbTime.toMillis();
+    }
+
+    @Override
+    public int getOrder() {
+        // Inside the concurrency limiter (-110) so rejected requests are not
+        // counted, outside Spring Security (-100) so the user lookup is
+        return -105;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        QueryStatistics statistics = QueryCounter.open(false);
+        request.setAttribute(STATISTICS_ATTRIBUTE, statistics);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryCounter.close(statistics);
+            record(request, statistics);
+        }
+    }
+
+    private void record(HttpServletRequest request, QueryStatistics statistics) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+
+        DistributionSummary.builder("http.server.requests.queries")
+                .description("JDBC statements executed per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(statistics.getQueries());
+        Timer.builder("http.server.requests.db.time")
+                .description("Time spent executing JDBC statements per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(statistics.getDbTimeNanos(), TimeUnit.NANOSECONDS);
+
+        if (statistics.getQueries() > maxQueries || statistics.getDbTimeMillis() > maxDbTimeMillis) {
+            log.warn("{} {} exceeded its query budget: {} queries in {} ms (budget {} queries, {} ms)",
+                    request.getMethod(), uri, statistics.getQueries(), Math.round(statistics.getDbTimeMillis()),
+                    maxQueries, maxDbTimeMillis);
+        }
+    }
+}
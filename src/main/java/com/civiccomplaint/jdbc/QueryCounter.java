@@ -0,0 +1,87 @@
+package com.civiccomplaint.jdbc;
+
+/**
+ * Thread-bound query counting scopes.
+ * {@link QueryBudgetFilter} opens a scope per request; integration tests can
+ * pin an endpoint's query count by capturing around a MockMvc call, which
+ * runs the request on the calling thread:
+ *
+ * <pre>
+ * QueryCounter.assertQueryCount(3, () -&gt; mockMvc.perform(get("/admin/complaints/all")));
+ * </pre>
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<QueryStatistics> CURRENT = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    /**
+     * Work to measure.
+     */
+    @FunctionalInterface
+    public interface Work {
+        void run() throws Exception;
+    }
+
+    /**
+     * Count the statements executed on this thread while running the work.
+     *
+     * @param work work to measure
+     * @return statistics including the SQL of each statement
+     * @throws Exception whatever the work throws
+     */
+    public static QueryStatistics capture(Work work) throws Exception {
+        QueryStatistics statistics = open(true);
+        try {
+            work.run();
+        } finally {
+            close(statistics);
+        }
+        return statistics;
+    }
+
+    /**
+     * Run the work and fail unless it executes exactly the expected number of
+     * statements.
+     *
+     * @param expected expected statement count
+     * @param work     work to measure
+     * @throws AssertionError listing the executed SQL if the count differs
+     * @throws Exception      whatever the work throws
+     */
+    public static void assertQueryCount(int expected, Work work) throws Exception {
+        QueryStatistics statistics = capture(work);
+        if (statistics.getQueries() != expected) {
+            throw new AssertionError("Expected " + expected + " queries but " + statistics.getQueries()
+                    + " were executed:\n  " + String.join("\n  ", statistics.getStatements()));
+        }
+    }
+
+    /**
+     * @return the innermost open scope on this thread, or null
+     */
+    static QueryStatistics current() {
+        return CURRENT.get();
+    }
+
+    static QueryStatistics open(boolean captureStatements) {
+        QueryStatistics parent = CURRENT.get();
+        // Nested scopes, such as the request scope inside a test capture,
+        // keep the SQL whenever an enclosing scope wants it
+        boolean capture = captureStatements || (parent != null && parent.isCapturingStatements());
+        QueryStatistics statistics = new QueryStatistics(parent, capture);
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    static void close(QueryStatistics statistics) {
+        statistics.mergeIntoParent();
+        if (statistics.getParent() != null) {
+            CURRENT.set(statistics.getParent());
+        } else {
+            CURRENT.remove();
+        }
+    }
+}
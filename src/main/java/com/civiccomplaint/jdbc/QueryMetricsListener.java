@@ -0,0 +1,103 @@
+package com.civiccomplaint.jdbc;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every JDBC statement. Records each one as a jdbc.statement timer
+ * tagged by statement type, counts it against the current
+ * {@link QueryCounter} scope, and logs statements over the slow-query
+ * threshold.
+ */
+@Slf4j
+public class QueryMetricsListener implements QueryExecutionListener {
+
+    private static final String STARTED_AT = QueryMetricsListener.class.getName() + ".startedAt";
+    private static final int MAX_LOGGED_SQL_LENGTH = 1000;
+    private static final QueryType[] CLASSIFIED_TYPES = {
+            QueryType.SELECT, QueryType.INSERT, QueryType.UPDATE, QueryType.DELETE };
+
+    private final long slowQueryThresholdNanos;
+    private final Map<QueryType, Timer> timers = new EnumMap<>(QueryType.class);
+    private final Map<QueryType, Timer> failedTimers = new EnumMap<>(QueryType.class);
+
+    public QueryMetricsListener(MeterRegistry meterRegistry, Duration slowQueryThreshold) {
+        this.slowQueryThresholdNanos = slowQueryThreshold.toNanos();
+        for (QueryType type : QueryType.values()) {
+            timers.put(type, statementTimer(meterRegistry, type, "success"));
+            failedTimers.put(type, statementTimer(meterRegistry, type, "error"));
+        }
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(STARTED_AT, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long startedAt = execInfo.getCustomValue(STARTED_AT, Long.class);
+        long elapsedNanos = startedAt != null
+                ? System.nanoTime() - startedAt
+                : TimeUnit.MILLISECONDS.toNanos(execInfo.getElapsedTime());
+        String sql = queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery();
+        QueryType type = queryType(sql);
+
+        (execInfo.isSuccess() ? timers : failedTimers).get(type).record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        boolean slow = elapsedNanos >= slowQueryThresholdNanos;
+        if (slow) {
+            log.warn("Slow query ({} ms{}): {}", TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    execInfo.isBatch() ? ", batch of " + execInfo.getBatchSize() : "", abbreviate(sql));
+        }
+
+        QueryStatistics statistics = QueryCounter.current();
+        if (statistics != null) {
+            statistics.record(sql, elapsedNanos, slow);
+        }
+    }
+
+    private static Timer statementTimer(MeterRegistry meterRegistry, QueryType type, String outcome) {
+        return Timer.builder("jdbc.statement")
+                .description("JDBC statement execution time; a batch counts as one statement")
+                .tag("type", type.name().toLowerCase(Locale.ROOT))
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Classify by the leading keyword. Cheaper than normalising the whole
+     * statement, which matters because this runs for every statement.
+     */
+    private static QueryType queryType(String sql) {
+        int start = 0;
+        while (start < sql.length() && Character.isWhitespace(sql.charAt(start))) {
+            start++;
+        }
+        for (QueryType type : CLASSIFIED_TYPES) {
+            if (sql.regionMatches(true, start, type.name(), 0, type.name().length())) {
+                return type;
+            }
+        }
+        return QueryType.OTHER;
+    }
+
+    private static String abbreviate(String sql) {
+        String singleLine = sql.replaceAll("\\s+", " ").trim();
+        return singleLine.length() <= MAX_LOGGED_SQL_LENGTH
+                ? singleLine
+                : singleLine.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+    }
+}
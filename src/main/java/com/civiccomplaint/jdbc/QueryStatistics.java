@@ -0,0 +1,91 @@
+package com.civiccomplaint.jdbc;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Statements executed within one scope, usually one HTTP request.
+ * Confined to the thread that opened the scope; see {@link QueryCounter}.
+ */
+public final class QueryStatistics {
+
+    private final QueryStatistics parent;
+    private final List<String> statements;
+    private int queries;
+    private long dbTimeNanos;
+    private int slowQueries;
+
+    QueryStatistics(QueryStatistics parent, boolean captureStatements) {
+        this.parent = parent;
+        this.statements = captureStatements ? new ArrayList<>() : null;
+    }
+
+    void record(String sql, long elapsedNanos, boolean slow) {
+        queries++;
+        dbTimeNanos += elapsedNanos;
+        if (slow) {
+            slowQueries++;
+        }
+        if (statements != null) {
+            statements.add(sql);
+        }
+    }
+
+    /**
+     * Fold this scope's counts into the enclosing one when it closes, so
+     * that an outer capture also sees statements of nested scopes.
+     */
+    void mergeIntoParent() {
+        if (parent == null) {
+            return;
+        }
+        parent.queries += queries;
+        parent.dbTimeNanos += dbTimeNanos;
+        parent.slowQueries += slowQueries;
+        if (parent.statements != null && statements != null) {
+            parent.statements.addAll(statements);
+        }
+    }
+
+    boolean isCapturingStatements() {
+        return statements != null;
+    }
+
+    long getDbTimeNanos() {
+        return dbTimeNanos;
+    }
+
+    QueryStatistics getParent() {
+        return parent;
+    }
+
+    /**
+     * @return statements executed, counting a JDBC batch as one
+     */
+    public int getQueries() {
+        return queries;
+    }
+
+    /**
+     * @return time spent executing statements, in milliseconds
+     */
+    public double getDbTimeMillis() {
+        return dbTimeNanos / 1_000_000.0;
+    }
+
+    /**
+     * @return statements slower than the slow-query threshold
+     */
+    public int getSlowQueries() {
+        return slowQueries;
+    }
+
+    /**
+     * @return SQL of each statement, or an empty list unless captured with
+     *         {@link QueryCounter#capture}
+     */
+    public List<String> getStatements() {
+        return statements != null ? Collections.unmodifiableList(statements) : List.of();
+    }
+}
@@ -1,5 +1,6 @@
 package com.civiccomplaint.master;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -13,9 +14,11 @@ public interface CorporatorRepository extends JpaRepository<Corporator, Integer>
 
     /**
      * Find all corporators ordered by creation date descending.
+     * Fetches each corporator's prabhag in the same query.
      *
      * @return list of corporators
      */
+    @EntityGraph(attributePaths = "prabhag")
     List<Corporator> findAllByOrderByCreatedAtDesc();
 
 }
@@ -4,7 +4,6 @@ import com.civiccomplaint.master.dto.CorporatorResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -17,16 +16,16 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CorporatorService {
 
-    private final CorporatorRepository corporatorRepository;
+    private final MasterDataCache masterDataCache;
 
     /**
      * Get all corporators.
+     * Served from {@link MasterDataCache}.
      *
      * @return list of corporator responses
      */
-    @Transactional(readOnly = true)
     public List<CorporatorResponse> getAllCorporators() {
-        return corporatorRepository.findAllByOrderByCreatedAtDesc().stream()
+        return masterDataCache.getCorporators().stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
     }
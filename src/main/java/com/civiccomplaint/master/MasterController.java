@@ -3,6 +3,7 @@ package com.civiccomplaint.master;
 import com.civiccomplaint.common.dto.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -17,19 +18,30 @@ import java.util.List;
 public class MasterController {
 
     private final PrabhagRepository prabhagRepository;
+    private final MasterDataCache masterDataCache;
 
+    /**
+     * Get all prabhags.
+     * Served from {@link MasterDataCache} with a weak ETag; clients sending a
+     * matching If-None-Match header receive 304 Not Modified.
+     *
+     * @return list of prabhags
+     */
     @GetMapping("/prabhags")
     public ResponseEntity<ApiResponse<List<Prabhag>>> getAllPrabhags() {
-        log.info("GET /api/master/prabhags - Fetching all prabhags");
-        List<Prabhag> prabhags = prabhagRepository.findAll();
-        return ResponseEntity.ok(ApiResponse.success(prabhags));
+        log.debug("GET /api/master/prabhags - Fetching all prabhags");
+        MasterDataCache.PrabhagSnapshot snapshot = masterDataCache.getPrabhags();
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.success(snapshot.prabhags()));
     }
 
     @org.springframework.web.bind.annotation.PostMapping("/prabhags")
     @org.springframework.security.access.prepost.PreAuthorize("hasAuthority('ROLE_SUPER_ADMIN')")
     public ResponseEntity<ApiResponse<Prabhag>> createPrabhag(
             @jakarta.validation.Valid @org.springframework.web.bind.annotation.RequestBody com.civiccomplaint.master.dto.CreatePrabhagRequest request) {
-        log.info("POST /api/master/prabhags - Creating new prabhag: {}", request.getName());
+        log.debug("POST /api/master/prabhags - Creating new prabhag: {}", request.getName());
 
         if (prabhagRepository.existsByName(request.getName())) {
             throw new IllegalArgumentException("Prabhag with name '" + request.getName() + "' already exists");
@@ -45,6 +57,7 @@ public class MasterController {
         prabhag.setDescription(request.getDescription());
 
         prabhag = prabhagRepository.save(prabhag);
+        masterDataCache.invalidatePrabhags();
         log.info("Prabhag created successfully with ID: {}", prabhag.getId());
 
         return ResponseEntity.ok(ApiResponse.success(prabhag));
@@ -0,0 +1,186 @@
+package com.civiccomplaint.master;
+
+import com.civiccomplaint.tenant.TenantRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Read-through cache for master data (prabhags and corporators).
+ * Master data changes a few times a year, so snapshots are kept until they
+ * are explicitly invalidated by the flows that modify them. Each tenant has
+ * its own snapshots, loaded and invalidated within that tenant.
+ */
+@Slf4j
+@Component
+public class MasterDataCache {
+
+    private final PrabhagRepository prabhagRepository;
+    private final CorporatorRepository corporatorRepository;
+    private final TenantRegistry tenantRegistry;
+    private final ConcurrentHashMap<String, Sections> tenants = new ConcurrentHashMap<>();
+
+    public MasterDataCache(PrabhagRepository prabhagRepository, CorporatorRepository corporatorRepository,
+            TenantRegistry tenantRegistry) {
+        this.prabhagRepository = prabhagRepository;
+        this.corporatorRepository = corporatorRepository;
+        this.tenantRegistry = tenantRegistry;
+    }
+
+    /**
+     * Get all prabhags.
+     *
+     * @return current prabhag snapshot
+     */
+    public PrabhagSnapshot getPrabhags() {
+        return sections().prabhags().get();
+    }
+
+    /**
+     * Find a prabhag by ID without hitting the database.
+     *
+     * @param id prabhag ID
+     * @return Optional containing the prabhag if it exists
+     */
+    public Optional<Prabhag> findPrabhag(Integer id) {
+        return Optional.ofNullable(id).map(key -> getPrabhags().byId().get(key));
+    }
+
+    /**
+     * Get all corporators ordered by creation date descending.
+     * Each corporator's prabhag is already initialized.
+     *
+     * @return list of corporators
+     */
+    public List<Corporator> getCorporators() {
+        return sections().corporators().get();
+    }
+
+    /**
+     * Invalidate cached prabhags and the corporators that reference them.
+     */
+    public void invalidatePrabhags() {
+        Sections sections = sections();
+        sections.prabhags().invalidate();
+        sections.corporators().invalidate();
+    }
+
+    /**
+     * Invalidate cached corporators.
+     */
+    public void invalidateCorporators() {
+        sections().corporators().invalidate();
+    }
+
+    private Sections sections() {
+        return tenants.computeIfAbsent(tenantRegistry.getCurrentTenantId(), tenantId -> new Sections(
+                new Section<>("prabhags", tenantId,
+                        version -> PrabhagSnapshot.of(version, prabhagRepository.findAll())),
+                new Section<>("corporators", tenantId,
+                        version -> List.copyOf(corporatorRepository.findAllByOrderByCreatedAtDesc()))));
+    }
+
+    /**
+     * Immutable snapshot of all prabhags.
+     *
+     * @param version  snapshot version, incremented on every invalidation
+     * @param prabhags prabhags in ID order
+     * @param byId     prabhags keyed by ID
+     * @param etag     weak ETag derived from the prabhag contents
+     */
+    public record PrabhagSnapshot(long version, List<Prabhag> prabhags, Map<Integer, Prabhag> byId, String etag) {
+
+        static PrabhagSnapshot of(long version, List<Prabhag> prabhags) {
+            List<Prabhag> ordered = prabhags.stream()
+                    .sorted(Comparator.comparing(Prabhag::getId))
+                    .toList();
+
+            StringBuilder fingerprint = new StringBuilder();
+            for (Prabhag prabhag : ordered) {
+                fingerprint.append(prabhag.getId()).append('|')
+                        .append(prabhag.getName()).append('|')
+                        .append(prabhag.getCode()).append('|')
+                        .append(prabhag.getDescription()).append('|')
+                        .append(prabhag.getUpdatedAt()).append('\n');
+            }
+            String etag = "W/\"" + DigestUtils.md5DigestAsHex(fingerprint.toString().getBytes(StandardCharsets.UTF_8))
+                    + "\"";
+
+            return new PrabhagSnapshot(version, ordered,
+                    ordered.stream().collect(Collectors.toUnmodifiableMap(Prabhag::getId, Function.identity())),
+                    etag);
+        }
+    }
+
+    /**
+     * A single versioned cache entry.
+     * Loads are single-flight, and a snapshot is only served while its version
+     * matches the current one, so a load that races with an invalidation is
+     * returned to its caller but never served to later readers.
+     */
+    private static final class Section<T> {
+
+        private final String name;
+        private final String tenantId;
+        private final Function<Long, T> loader;
+        private final AtomicLong version = new AtomicLong();
+        // A lock rather than synchronized: loads query the database, and a
+        // virtual thread blocking inside synchronized pins its carrier thread
+        private final ReentrantLock loadLock = new ReentrantLock();
+        private volatile Versioned<T> current;
+
+        Section(String name, String tenantId, Function<Long, T> loader) {
+            this.name = name;
+            this.tenantId = tenantId;
+            this.loader = loader;
+        }
+
+        T get() {
+            Versioned<T> snapshot = current;
+            if (snapshot != null && snapshot.version() == version.get()) {
+                return snapshot.value();
+            }
+            return load();
+        }
+
+        private T load() {
+            loadLock.lock();
+            try {
+                long loadVersion = version.get();
+                Versioned<T> snapshot = current;
+                if (snapshot != null && snapshot.version() == loadVersion) {
+                    return snapshot.value();
+                }
+
+                T loaded = loader.apply(loadVersion);
+                current = new Versioned<>(loadVersion, loaded);
+                log.debug("Loaded master data '{}' of tenant {} at version {}", name, tenantId, loadVersion);
+                return loaded;
+            } finally {
+                loadLock.unlock();
+            }
+        }
+
+        void invalidate() {
+            long newVersion = version.incrementAndGet();
+            log.info("Invalidated master data '{}' of tenant {}, now at version {}", name, tenantId, newVersion);
+        }
+    }
+
+    private record Sections(Section<PrabhagSnapshot> prabhags, Section<List<Corporator>> corporators) {
+    }
+
+    private record Versioned<T>(long version, T value) {
+    }
+}
@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -12,9 +14,12 @@ import java.time.LocalDateTime;
 
 /**
  * Entity representing a Prabhag (administrative ward/zone).
+ * Read-mostly master data, held in the second-level cache.
  */
 @Entity
 @Table(name = "prabhags")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "prabhags")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,226 @@
+package com.civiccomplaint.monitoring;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects HikariCP pool metrics: connection acquire times as a fixed-bucket
+ * histogram, connection usage, timeouts, and the pool's live gauges.
+ * Registered with the pool as its metrics tracker, so recording happens on
+ * the hot path and uses only lock-free counters. Hikari accepts a single
+ * tracker factory, so another factory (the Micrometer one) can be chained
+ * behind this one.
+ */
+public class ConnectionPoolMetrics implements MetricsTrackerFactory {
+
+    /**
+     * Upper bounds of the acquire time buckets, in microseconds. Acquires
+     * slower than the last bound land in an overflow bucket.
+     */
+    private static final long[] ACQUIRE_BUCKET_BOUNDS_MICROS = {
+            100, 250, 500, 1_000, 2_500, 5_000, 10_000, 25_000, 50_000,
+            100_000, 250_000, 500_000, 1_000_000, 2_500_000, 5_000_000, 10_000_000
+    };
+
+    private final LongAdder[] acquireBuckets = new LongAdder[ACQUIRE_BUCKET_BOUNDS_MICROS.length + 1];
+    private final LongAdder acquireCount = new LongAdder();
+    private final LongAdder acquireTotalMicros = new LongAdder();
+    private final AtomicLong acquireMaxMicros = new AtomicLong();
+    private final LongAdder usageCount = new LongAdder();
+    private final LongAdder usageTotalMillis = new LongAdder();
+    private final AtomicLong usageMaxMillis = new AtomicLong();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder connectionsCreated = new LongAdder();
+
+    private final MetricsTrackerFactory delegate;
+
+    private volatile String poolName;
+    private volatile PoolStats poolStats;
+
+    public ConnectionPoolMetrics() {
+        this(null);
+    }
+
+    /**
+     * @param delegate factory whose trackers also receive every event, or null
+     */
+    public ConnectionPoolMetrics(MetricsTrackerFactory delegate) {
+        this.delegate = delegate;
+        for (int i = 0; i < acquireBuckets.length; i++) {
+            acquireBuckets[i] = new LongAdder();
+        }
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        this.poolName = poolName;
+        this.poolStats = poolStats;
+        return new Tracker(delegate != null ? delegate.create(poolName, poolStats) : null);
+    }
+
+    /**
+     * Get a snapshot of the pool metrics.
+     *
+     * @return pool statistics, with zero gauges if the pool has not started
+     */
+    public Statistics getStatistics() {
+        PoolStats stats = poolStats;
+
+        List<Bucket> buckets = new ArrayList<>(acquireBuckets.length);
+        long[] counts = new long[acquireBuckets.length];
+        long total = 0;
+        for (int i = 0; i < acquireBuckets.length; i++) {
+            counts[i] = acquireBuckets[i].sum();
+            total += counts[i];
+            buckets.add(new Bucket(i < ACQUIRE_BUCKET_BOUNDS_MICROS.length ? ACQUIRE_BUCKET_BOUNDS_MICROS[i] : null,
+                    counts[i]));
+        }
+
+        long acquires = acquireCount.sum();
+        long usages = usageCount.sum();
+        return new Statistics(
+                poolName,
+                stats != null ? stats.getActiveConnections() : 0,
+                stats != null ? stats.getIdleConnections() : 0,
+                stats != null ? stats.getPendingThreads() : 0,
+                stats != null ? stats.getTotalConnections() : 0,
+                stats != null ? stats.getMaxConnections() : 0,
+                stats != null ? stats.getMinConnections() : 0,
+                acquires,
+                acquires > 0 ? acquireTotalMicros.sum() / 1000.0 / acquires : 0,
+                percentileMillis(counts, total, 0.50),
+                percentileMillis(counts, total, 0.99),
+                acquireMaxMicros.get() / 1000.0,
+                buckets,
+                usages > 0 ? (double) usageTotalMillis.sum() / usages : 0,
+                usageMaxMillis.get(),
+                timeouts.sum(),
+                connectionsCreated.sum());
+    }
+
+    /**
+     * Upper bound of the bucket containing the given percentile, in
+     * milliseconds, capped at the observed maximum.
+     */
+    private double percentileMillis(long[] counts, long total, double percentile) {
+        if (total == 0) {
+            return 0;
+        }
+        long maxMicros = acquireMaxMicros.get();
+        long rank = (long) Math.ceil(percentile * total);
+        long seen = 0;
+        for (int i = 0; i < ACQUIRE_BUCKET_BOUNDS_MICROS.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(ACQUIRE_BUCKET_BOUNDS_MICROS[i], maxMicros) / 1000.0;
+            }
+        }
+        return maxMicros / 1000.0;
+    }
+
+    private static int bucketIndex(long micros) {
+        for (int i = 0; i < ACQUIRE_BUCKET_BOUNDS_MICROS.length; i++) {
+            if (micros <= ACQUIRE_BUCKET_BOUNDS_MICROS[i]) {
+                return i;
+            }
+        }
+        return ACQUIRE_BUCKET_BOUNDS_MICROS.length;
+    }
+
+    private final class Tracker implements IMetricsTracker {
+
+        private final IMetricsTracker delegate;
+
+        Tracker(IMetricsTracker delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+            connectionsCreated.increment();
+            if (delegate != null) {
+                delegate.recordConnectionCreatedMillis(connectionCreatedMillis);
+            }
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            long micros = TimeUnit.NANOSECONDS.toMicros(elapsedAcquiredNanos);
+            acquireBuckets[bucketIndex(micros)].increment();
+            acquireCount.increment();
+            acquireTotalMicros.add(micros);
+            acquireMaxMicros.accumulateAndGet(micros, Math::max);
+            if (delegate != null) {
+                delegate.recordConnectionAcquiredNanos(elapsedAcquiredNanos);
+            }
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            usageCount.increment();
+            usageTotalMillis.add(elapsedBorrowedMillis);
+            usageMaxMillis.accumulateAndGet(elapsedBorrowedMillis, Math::max);
+            if (delegate != null) {
+                delegate.recordConnectionUsageMillis(elapsedBorrowedMillis);
+            }
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            timeouts.increment();
+            if (delegate != null) {
+                delegate.recordConnectionTimeout();
+            }
+        }
+
+        @Override
+        public void close() {
+            if (delegate != null) {
+                delegate.close();
+            }
+        }
+    }
+
+    /**
+     * Pool statistics.
+     *
+     * @param poolName           pool name
+     * @param active             connections in use
+     * @param idle               idle connections
+     * @param pending            threads waiting for a connection
+     * @param total              open connections
+     * @param max                maximum pool size
+     * @param min                minimum idle connections
+     * @param acquires           connections handed out since startup
+     * @param acquireMeanMillis  mean time to get a connection
+     * @param acquireP50Millis   median time to get a connection, bucket upper bound
+     * @param acquireP99Millis   99th percentile time to get a connection, bucket upper bound
+     * @param acquireMaxMillis   longest time to get a connection
+     * @param acquireHistogram   acquire time histogram
+     * @param usageMeanMillis    mean time a connection was held
+     * @param usageMaxMillis     longest time a connection was held
+     * @param timeouts           acquires that timed out since startup
+     * @param connectionsCreated physical connections opened since startup
+     */
+    public record Statistics(String poolName, int active, int idle, int pending, int total, int max, int min,
+            long acquires, double acquireMeanMillis, double acquireP50Millis, double acquireP99Millis,
+            double acquireMaxMillis, List<Bucket> acquireHistogram, double usageMeanMillis, long usageMaxMillis,
+            long timeouts, long connectionsCreated) {
+    }
+
+    /**
+     * Histogram bucket.
+     *
+     * @param upperBoundMicros inclusive upper bound in microseconds, null for the overflow bucket
+     * @param count            acquires in this bucket
+     */
+    public record Bucket(Long upperBoundMicros, long count) {
+    }
+}
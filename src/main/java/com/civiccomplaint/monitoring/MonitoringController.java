@@ -0,0 +1,166 @@
+package com.civiccomplaint.monitoring;
+
+import com.civiccomplaint.common.dto.ApiResponse;
+import com.civiccomplaint.monitoring.dto.AccessLogStatisticsResponse;
+import com.civiccomplaint.monitoring.dto.ComplaintStreamStatisticsResponse;
+import com.civiccomplaint.monitoring.dto.ConnectionPoolStatisticsResponse;
+import com.civiccomplaint.monitoring.dto.HibernateCacheStatisticsResponse;
+import com.civiccomplaint.monitoring.dto.LoginThrottleStatisticsResponse;
+import com.civiccomplaint.monitoring.dto.OutboxStatisticsResponse;
+import com.civiccomplaint.monitoring.dto.PasswordHashingStatisticsResponse;
+import com.civiccomplaint.monitoring.dto.ReplicaRoutingStatisticsResponse;
+import com.civiccomplaint.monitoring.dto.ReportingStatisticsResponse;
+import com.civiccomplaint.monitoring.dto.TenantStatisticsResponse;
+import com.civiccomplaint.monitoring.dto.VirtualThreadStatisticsResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for operational monitoring endpoints.
+ * Only accessible by SUPER_ADMIN.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/super-admin/monitoring")
+@RequiredArgsConstructor
+public class MonitoringController {
+
+    private final MonitoringService monitoringService;
+
+    /**
+     * Get Hibernate second-level and query cache statistics.
+     *
+     * @return cache statistics
+     */
+    @GetMapping("/hibernate-cache")
+    @PreAuthorize("hasAuthority('ROLE_SUPER_ADMIN')")
+    public ResponseEntity<ApiResponse<HibernateCacheStatisticsResponse>> getHibernateCacheStatistics() {
+        log.debug("GET /api/super-admin/monitoring/hibernate-cache - Fetching cache statistics");
+        return ResponseEntity.ok(ApiResponse.success(monitoringService.getHibernateCacheStatistics()));
+    }
+
+    /**
+     * Get password hashing executor and latency statistics.
+     *
+     * @return hashing statistics
+     */
+    @GetMapping("/password-hashing")
+    @PreAuthorize("hasAuthority('ROLE_SUPER_ADMIN')")
+    public ResponseEntity<ApiResponse<PasswordHashingStatisticsResponse>> getPasswordHashingStatistics() {
+        log.debug("GET /api/super-admin/monitoring/password-hashing - Fetching hashing statistics");
+        return ResponseEntity.ok(ApiResponse.success(monitoringService.getPasswordHashingStatistics()));
+    }
+
+    /**
+     * Get login throttle statistics.
+     *
+     * @return throttle statistics
+     */
+    @GetMapping("/login-throttle")
+    @PreAuthorize("hasAuthority('ROLE_SUPER_ADMIN')")
+    public ResponseEntity<ApiResponse<LoginThrottleStatisticsResponse>> getLoginThrottleStatistics() {
+        log.debug("GET /api/super-admin/monitoring/login-throttle - Fetching login throttle statistics");
+        return ResponseEntity.ok(ApiResponse.success(monitoringService.getLoginThrottleStatistics()));
+    }
+
+    /**
+     * Get outbox relay statistics.
+     *
+     * @return outbox statistics
+     */
+    @GetMapping("/outbox")
+    @PreAuthorize("hasAuthority('ROLE_SUPER_ADMIN')")
+    public ResponseEntity<ApiResponse<OutboxStatisticsResponse>> getOutboxStatistics() {
+        log.debug("GET /api/super-admin/monitoring/outbox - Fetching outbox statistics");
+        return ResponseEntity.ok(ApiResponse.success(monitoringService.getOutboxStatistics()));
+    }
+
+    /**
+     * Get complaint update stream statistics.
+     *
+     * @return stream statistics
+     */
+    @GetMapping("/complaint-stream")
+    @PreAuthorize("hasAuthority('ROLE_SUPER_ADMIN')")
+    public ResponseEntity<ApiResponse<ComplaintStreamStatisticsResponse>> getComplaintStreamStatistics() {
+        log.debug("GET /api/super-admin/monitoring/complaint-stream - Fetching complaint stream statistics");
+        return ResponseEntity.ok(ApiResponse.success(monitoringService.getComplaintStreamStatistics()));
+    }
+
+    /**
+     * Get request concurrency limiter and virtual thread pinning statistics.
+     *
+     * @return virtual thread statistics
+     */
+    @GetMapping("/virtual-threads")
+    @PreAuthorize("hasAuthority('ROLE_SUPER_ADMIN')")
+    public ResponseEntity<ApiResponse<VirtualThreadStatisticsResponse>> getVirtualThreadStatistics() {
+        log.debug("GET /api/super-admin/monitoring/virtual-threads - Fetching virtual thread statistics");
+        return ResponseEntity.ok(ApiResponse.success(monitoringService.getVirtualThreadStatistics()));
+    }
+
+    /**
+     * Get connection pool gauges and acquire time statistics.
+     *
+     * @return pool statistics
+     */
+    @GetMapping("/connection-pool")
+    @PreAuthorize("hasAuthority('ROLE_SUPER_ADMIN')")
+    public ResponseEntity<ApiResponse<ConnectionPoolStatisticsResponse>> getConnectionPoolStatistics() {
+        log.debug("GET /api/super-admin/monitoring/connection-pool - Fetching connection pool statistics");
+        return ResponseEntity.ok(ApiResponse.success(monitoringService.getConnectionPoolStatistics()));
+    }
+
+    /**
+     * Get read replica routing statistics.
+     *
+     * @return routing statistics
+     */
+    @GetMapping("/replica")
+    @PreAuthorize("hasAuthority('ROLE_SUPER_ADMIN')")
+    public ResponseEntity<ApiResponse<ReplicaRoutingStatisticsResponse>> getReplicaRoutingStatistics() {
+        log.debug("GET /api/super-admin/monitoring/replica - Fetching replica routing statistics");
+        return ResponseEntity.ok(ApiResponse.success(monitoringService.getReplicaRoutingStatistics()));
+    }
+
+    /**
+     * Get access log writer statistics.
+     *
+     * @return access log statistics
+     */
+    @GetMapping("/access-log")
+    @PreAuthorize("hasAuthority('ROLE_SUPER_ADMIN')")
+    public ResponseEntity<ApiResponse<AccessLogStatisticsResponse>> getAccessLogStatistics() {
+        log.debug("GET /api/super-admin/monitoring/access-log - Fetching access log statistics");
+        return ResponseEntity.ok(ApiResponse.success(monitoringService.getAccessLogStatistics()));
+    }
+
+    /**
+     * Get reporting view refresh statistics.
+     *
+     * @return refresh statistics
+     */
+    @GetMapping("/reporting")
+    @PreAuthorize("hasAuthority('ROLE_SUPER_ADMIN')")
+    public ResponseEntity<ApiResponse<ReportingStatisticsResponse>> getReportingStatistics() {
+        log.debug("GET /api/super-admin/monitoring/reporting - Fetching reporting view statistics");
+        return ResponseEntity.ok(ApiResponse.success(monitoringService.getReportingStatistics()));
+    }
+
+    /**
+     * Get the connection pool statistics of every tenant.
+     *
+     * @return pool statistics per tenant
+     */
+    @GetMapping("/tenants")
+    @PreAuthorize("hasAuthority('ROLE_SUPER_ADMIN')")
+    public ResponseEntity<ApiResponse<TenantStatisticsResponse>> getTenantStatistics() {
+        log.debug("GET /api/super-admin/monitoring/tenants - Fetching tenant pool statistics");
+        return ResponseEntity.ok(ApiResponse.success(monitoringService.getTenantStatistics()));
+    }
+}
@@ -0,0 +1,370 @@
+package com.civiccomplaint.monitoring;
+
+import com.civiccomplaint.accesslog.AccessLogWriter;
+import com.civiccomplaint.auth.LoginAttemptThrottle;
+import com.civiccomplaint.auth.PasswordHashingService;
+import com.civiccomplaint.outbox.OutboxRelay;
+import com.civiccomplaint.reporting.ReportingViewRefresher;
+import com.civiccomplaint.tenant.TenantRegistry;
+import com.civiccomplaint.tenant.TenantRoutingDataSource;
+import com.civiccomplaint.complaint.ComplaintUpdateHub;
+import com.civiccomplaint.config.ReplicaRoutingDataSource;
+import com.civiccomplaint.config.RequestConcurrencyLimitFilter;
+import com.civiccomplaint.monitoring.dto.AccessLogStatisticsResponse;
+import com.civiccomplaint.monitoring.dto.ComplaintStreamStatisticsResponse;
+import com.civiccomplaint.monitoring.dto.ConnectionPoolStatisticsResponse;
+import com.civiccomplaint.monitoring.dto.HibernateCacheStatisticsResponse;
+import com.civiccomplaint.monitoring.dto.LoginThrottleStatisticsResponse;
+import com.civiccomplaint.monitoring.dto.OutboxStatisticsResponse;
+import com.civiccomplaint.monitoring.dto.PasswordHashingStatisticsResponse;
+import com.civiccomplaint.monitoring.dto.ReplicaRoutingStatisticsResponse;
+import com.civiccomplaint.monitoring.dto.ReportingStatisticsResponse;
+import com.civiccomplaint.monitoring.dto.TenantStatisticsResponse;
+import com.civiccomplaint.monitoring.dto.VirtualThreadStatisticsResponse;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Service exposing runtime statistics for operational monitoring.
+ */
+@Service
+@RequiredArgsConstructor
+public class MonitoringService {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final PasswordHashingService passwordHashingService;
+    private final LoginAttemptThrottle loginAttemptThrottle;
+    private final OutboxRelay outboxRelay;
+    private final ComplaintUpdateHub complaintUpdateHub;
+    private final ConnectionPoolMetrics connectionPoolMetrics;
+    private final ObjectProvider<RequestConcurrencyLimitFilter> requestConcurrencyLimitFilter;
+    private final ObjectProvider<VirtualThreadPinningMonitor> virtualThreadPinningMonitor;
+    private final ObjectProvider<ReplicaRoutingDataSource> replicaRoutingDataSource;
+    private final ObjectProvider<AccessLogWriter> accessLogWriter;
+    private final ObjectProvider<ReportingViewRefresher> reportingViewRefresher;
+    private final TenantRegistry tenantRegistry;
+    private final ObjectProvider<TenantRoutingDataSource> tenantRoutingDataSource;
+
+    /**
+     * Get Hibernate second-level and query cache statistics.
+     * Requires hibernate.generate_statistics to be enabled.
+     *
+     * @return cache statistics
+     */
+    public HibernateCacheStatisticsResponse getHibernateCacheStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        List<HibernateCacheStatisticsResponse.RegionStatistics> regions = Arrays
+                .stream(statistics.getSecondLevelCacheRegionNames())
+                .map(statistics::getCacheRegionStatistics)
+                .filter(Objects::nonNull)
+                .map(this::mapRegion)
+                .toList();
+
+        return HibernateCacheStatisticsResponse.builder()
+                .secondLevelCacheHits(statistics.getSecondLevelCacheHitCount())
+                .secondLevelCacheMisses(statistics.getSecondLevelCacheMissCount())
+                .secondLevelCachePuts(statistics.getSecondLevelCachePutCount())
+                .queryCacheHits(statistics.getQueryCacheHitCount())
+                .queryCacheMisses(statistics.getQueryCacheMissCount())
+                .queryCachePuts(statistics.getQueryCachePutCount())
+                .entityLoads(statistics.getEntityLoadCount())
+                .queryExecutions(statistics.getQueryExecutionCount())
+                .preparedStatements(statistics.getPrepareStatementCount())
+                .regions(regions)
+                .build();
+    }
+
+    /**
+     * Get password hashing executor and latency statistics.
+     *
+     * @return hashing statistics
+     */
+    public PasswordHashingStatisticsResponse getPasswordHashingStatistics() {
+        PasswordHashingService.Statistics statistics = passwordHashingService.getStatistics();
+
+        return PasswordHashingStatisticsResponse.builder()
+                .poolSize(statistics.poolSize())
+                .activeThreads(statistics.activeThreads())
+                .queuedTasks(statistics.queuedTasks())
+                .queueCapacity(statistics.queueCapacity())
+                .completedTasks(statistics.completedTasks())
+                .rejectedTasks(statistics.rejectedTasks())
+                .timedOutTasks(statistics.timedOutTasks())
+                .hashLatency(mapLatency(statistics.hashLatency()))
+                .queueWait(mapLatency(statistics.queueWait()))
+                .build();
+    }
+
+    /**
+     * Get login throttle statistics.
+     *
+     * @return throttle statistics
+     */
+    public LoginThrottleStatisticsResponse getLoginThrottleStatistics() {
+        LoginAttemptThrottle.Statistics statistics = loginAttemptThrottle.getStatistics();
+
+        return LoginThrottleStatisticsResponse.builder()
+                .ip(mapLimit(statistics.ip()))
+                .identifier(mapLimit(statistics.identifier()))
+                .build();
+    }
+
+    /**
+     * Get outbox relay statistics.
+     *
+     * @return outbox statistics
+     */
+    public OutboxStatisticsResponse getOutboxStatistics() {
+        OutboxRelay.Statistics statistics = outboxRelay.getStatistics();
+
+        return OutboxStatisticsResponse.builder()
+                .handlers(statistics.handlers())
+                .published(statistics.published())
+                .failedAttempts(statistics.failedAttempts())
+                .abandoned(statistics.abandoned())
+                .pending(statistics.pending())
+                .dead(statistics.dead())
+                .build();
+    }
+
+    /**
+     * Get complaint update stream statistics.
+     *
+     * @return stream statistics
+     */
+    public ComplaintStreamStatisticsResponse getComplaintStreamStatistics() {
+        ComplaintUpdateHub.Statistics statistics = complaintUpdateHub.getStatistics();
+
+        return ComplaintStreamStatisticsResponse.builder()
+                .subscribers(statistics.subscribers())
+                .delivered(statistics.delivered())
+                .evicted(statistics.evicted())
+                .rejected(statistics.rejected())
+                .build();
+    }
+
+    /**
+     * Get virtual thread mode statistics: the request concurrency limiter and
+     * pinning sites. Both are only present when virtual threads are enabled.
+     *
+     * @return virtual thread statistics
+     */
+    public VirtualThreadStatisticsResponse getVirtualThreadStatistics() {
+        RequestConcurrencyLimitFilter limiter = requestConcurrencyLimitFilter.getIfAvailable();
+        VirtualThreadPinningMonitor pinningMonitor = virtualThreadPinningMonitor.getIfAvailable();
+
+        List<VirtualThreadStatisticsResponse.LimiterStatistics> limiterStatistics = null;
+        if (limiter != null) {
+            limiterStatistics = limiter.getStatistics().stream()
+                    .map(statistics -> VirtualThreadStatisticsResponse.LimiterStatistics.builder()
+                            .tenant(statistics.tenant())
+                            .limit(statistics.limit())
+                            .active(statistics.active())
+                            .waiting(statistics.waiting())
+                            .rejected(statistics.rejected())
+                            .build())
+                    .toList();
+        }
+
+        VirtualThreadStatisticsResponse.PinningStatistics pinningStatistics = null;
+        if (pinningMonitor != null) {
+            VirtualThreadPinningMonitor.Statistics statistics = pinningMonitor.getStatistics();
+            pinningStatistics = VirtualThreadStatisticsResponse.PinningStatistics.builder()
+                    .thresholdMillis(statistics.thresholdMillis())
+                    .sites(statistics.sites().stream()
+                            .map(site -> VirtualThreadStatisticsResponse.PinningSite.builder()
+                                    .site(site.site())
+                                    .count(site.count())
+                                    .maxMillis(site.maxMillis())
+                                    .build())
+                            .toList())
+                    .untracked(statistics.untracked())
+                    .build();
+        }
+
+        return VirtualThreadStatisticsResponse.builder()
+                .enabled(limiter != null || pinningMonitor != null)
+                .limiters(limiterStatistics)
+                .pinning(pinningStatistics)
+                .build();
+    }
+
+    /**
+     * Get connection pool gauges and acquire time statistics.
+     *
+     * @return pool statistics
+     */
+    public ConnectionPoolStatisticsResponse getConnectionPoolStatistics() {
+        ConnectionPoolMetrics.Statistics statistics = connectionPoolMetrics.getStatistics();
+
+        return ConnectionPoolStatisticsResponse.builder()
+                .poolName(statistics.poolName())
+                .active(statistics.active())
+                .idle(statistics.idle())
+                .pending(statistics.pending())
+                .total(statistics.total())
+                .max(statistics.max())
+                .min(statistics.min())
+                .acquires(statistics.acquires())
+                .acquireMeanMillis(statistics.acquireMeanMillis())
+                .acquireP50Millis(statistics.acquireP50Millis())
+                .acquireP99Millis(statistics.acquireP99Millis())
+                .acquireMaxMillis(statistics.acquireMaxMillis())
+                .acquireHistogram(statistics.acquireHistogram().stream()
+                        .map(bucket -> ConnectionPoolStatisticsResponse.AcquireBucket.builder()
+                                .upperBoundMicros(bucket.upperBoundMicros())
+                                .count(bucket.count())
+                                .build())
+                        .toList())
+                .usageMeanMillis(statistics.usageMeanMillis())
+                .usageMaxMillis(statistics.usageMaxMillis())
+                .timeouts(statistics.timeouts())
+                .connectionsCreated(statistics.connectionsCreated())
+                .build();
+    }
+
+    /**
+     * Get read replica routing statistics.
+     *
+     * @return routing statistics, disabled when no replica is configured
+     */
+    public ReplicaRoutingStatisticsResponse getReplicaRoutingStatistics() {
+        ReplicaRoutingDataSource routing = replicaRoutingDataSource.getIfAvailable();
+        if (routing == null) {
+            return ReplicaRoutingStatisticsResponse.builder().enabled(false).build();
+        }
+
+        ReplicaRoutingDataSource.Statistics statistics = routing.getStatistics();
+        return ReplicaRoutingStatisticsResponse.builder()
+                .enabled(true)
+                .replicaAvailable(statistics.replicaAvailable())
+                .replicaLagSeconds(statistics.replicaLagSeconds() >= 0 ? statistics.replicaLagSeconds() : null)
+                .replicaReads(statistics.replicaReads())
+                .primaryReads(statistics.primaryReads())
+                .fallbacks(statistics.fallbacks())
+                .pinnedUsers(statistics.pinnedUsers())
+                .build();
+    }
+
+    /**
+     * Get access log writer statistics.
+     *
+     * @return writer statistics, disabled when the access log is switched off
+     */
+    public AccessLogStatisticsResponse getAccessLogStatistics() {
+        AccessLogWriter writer = accessLogWriter.getIfAvailable();
+        if (writer == null) {
+            return AccessLogStatisticsResponse.builder().enabled(false).build();
+        }
+
+        AccessLogWriter.Statistics statistics = writer.getStatistics();
+        return AccessLogStatisticsResponse.builder()
+                .enabled(true)
+                .queueCapacity(statistics.queueCapacity())
+                .queued(statistics.queued())
+                .written(statistics.written())
+                .dropped(statistics.dropped())
+                .build();
+    }
+
+    /**
+     * Get reporting view refresh statistics.
+     *
+     * @return refresh statistics per view, disabled when reporting is switched off
+     */
+    public ReportingStatisticsResponse getReportingStatistics() {
+        ReportingViewRefresher refresher = reportingViewRefresher.getIfAvailable();
+        if (refresher == null) {
+            return ReportingStatisticsResponse.builder().enabled(false).build();
+        }
+
+        return ReportingStatisticsResponse.builder()
+                .enabled(true)
+                .views(refresher.getStatistics().stream()
+                        .map(view -> ReportingStatisticsResponse.ViewStatistics.builder()
+                                .tenant(view.tenant())
+                                .view(view.view())
+                                .lastRefreshedAt(view.lastRefreshedAt())
+                                .lastDurationMs(view.lastDurationMs())
+                                .rowCount(view.rowCount())
+                                .refreshes(view.refreshes())
+                                .skipped(view.skipped())
+                                .failures(view.failures())
+                                .lastError(view.lastError())
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    /**
+     * Get the connection pool of every tenant.
+     *
+     * @return pool statistics per tenant, disabled when tenancy is switched off
+     */
+    public TenantStatisticsResponse getTenantStatistics() {
+        TenantRoutingDataSource routing = tenantRoutingDataSource.getIfAvailable();
+        if (routing == null) {
+            return TenantStatisticsResponse.builder().enabled(false).build();
+        }
+
+        return TenantStatisticsResponse.builder()
+                .enabled(true)
+                .defaultTenant(tenantRegistry.getDefaultTenantId())
+                .tenants(routing.getStatistics().stream()
+                        .map(pool -> {
+                            TenantRegistry.Tenant tenant = tenantRegistry.find(pool.tenant()).orElseThrow();
+                            return TenantStatisticsResponse.TenantPoolStatistics.builder()
+                                    .tenant(pool.tenant())
+                                    .schema(tenant.schema())
+                                    .code(tenant.code())
+                                    .poolName(pool.poolName())
+                                    .maxPoolSize(pool.maxPoolSize())
+                                    .active(pool.active())
+                                    .idle(pool.idle())
+                                    .total(pool.total())
+                                    .waiting(pool.waiting())
+                                    .build();
+                        })
+                        .toList())
+                .build();
+    }
+
+    private LoginThrottleStatisticsResponse.LimitStatistics mapLimit(LoginAttemptThrottle.LimiterStatistics limiter) {
+        return LoginThrottleStatisticsResponse.LimitStatistics.builder()
+                .limit(limiter.limit())
+                .windowSeconds(limiter.windowSeconds())
+                .trackedKeys(limiter.trackedKeys())
+                .rejected(limiter.rejected())
+                .overCapacity(limiter.overCapacity())
+                .build();
+    }
+
+    private PasswordHashingStatisticsResponse.LatencyStatistics mapLatency(
+            PasswordHashingService.LatencySnapshot latency) {
+        return PasswordHashingStatisticsResponse.LatencyStatistics.builder()
+                .count(latency.count())
+                .meanMillis(latency.meanMillis())
+                .maxMillis(latency.maxMillis())
+                .build();
+    }
+
+    private HibernateCacheStatisticsResponse.RegionStatistics mapRegion(CacheRegionStatistics region) {
+        return HibernateCacheStatisticsResponse.RegionStatistics.builder()
+                .region(region.getRegionName())
+                .hits(region.getHitCount())
+                .misses(region.getMissCount())
+                .puts(region.getPutCount())
+                .elementsInMemory(region.getElementCountInMemory() >= 0 ? region.getElementCountInMemory() : null)
+                .build();
+    }
+}
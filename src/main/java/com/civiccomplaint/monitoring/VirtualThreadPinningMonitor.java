@@ -0,0 +1,152 @@
+package com.civiccomplaint.monitoring;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Reports virtual threads that block while pinned to their carrier thread,
+ * typically inside a synchronized block or a native frame. Listens to the
+ * JDK Flight Recorder event jdk.VirtualThreadPinned in-process; each pinning
+ * site is logged with its stack the first time it is seen and counted after
+ * that.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int SITE_FRAMES = 3;
+    private static final int LOGGED_FRAMES = 20;
+
+    private final Duration threshold;
+    private final int maxTrackedSites;
+    private final ConcurrentHashMap<String, Site> sites = new ConcurrentHashMap<>();
+    private final LongAdder untracked = new LongAdder();
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(
+            @Value("${app.virtual-threads.pinning.threshold:20ms}") Duration threshold,
+            @Value("${app.virtual-threads.pinning.max-tracked-sites:200}") int maxTrackedSites) {
+        this.threshold = threshold;
+        this.maxTrackedSites = maxTrackedSites;
+    }
+
+    @Override
+    public void start() {
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::onPinned);
+        recording.startAsync();
+        stream = recording;
+        log.info("Monitoring virtual thread pinning longer than {} ms", threshold.toMillis());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        if (recording != null) {
+            recording.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    /**
+     * Get pinning sites, most frequent first.
+     *
+     * @return pinning statistics
+     */
+    public Statistics getStatistics() {
+        List<SiteStatistics> snapshot = sites.entrySet().stream()
+                .map(entry -> new SiteStatistics(entry.getKey(), entry.getValue().count.sum(),
+                        entry.getValue().maxMillis))
+                .sorted(Comparator.comparingLong(SiteStatistics::count).reversed())
+                .toList();
+        return new Statistics(threshold.toMillis(), snapshot, untracked.sum());
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace != null ? stackTrace.getFrames() : List.of();
+        String key = frames.stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .limit(SITE_FRAMES)
+                .map(VirtualThreadPinningMonitor::describe)
+                .collect(Collectors.joining(" <- "));
+        long millis = event.getDuration().toMillis();
+
+        Site site = sites.get(key);
+        if (site == null) {
+            if (sites.size() >= maxTrackedSites) {
+                untracked.increment();
+                return;
+            }
+            Site created = new Site();
+            site = sites.putIfAbsent(key, created);
+            if (site == null) {
+                site = created;
+                log.warn("Virtual thread pinned for {} ms at:\n    {}", millis, frames.stream()
+                        .limit(LOGGED_FRAMES)
+                        .map(VirtualThreadPinningMonitor::describe)
+                        .collect(Collectors.joining("\n    ")));
+            }
+        }
+        site.record(millis);
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+
+    private static final class Site {
+        private final LongAdder count = new LongAdder();
+        private volatile long maxMillis;
+
+        void record(long millis) {
+            count.increment();
+            if (millis > maxMillis) {
+                maxMillis = millis; // racy max is fine for diagnostics
+            }
+        }
+    }
+
+    /**
+     * Pinning statistics.
+     *
+     * @param thresholdMillis minimum pinned duration recorded
+     * @param sites           pinning sites
+     * @param untracked       events not attributed because the site cap was reached
+     */
+    public record Statistics(long thresholdMillis, List<SiteStatistics> sites, long untracked) {
+    }
+
+    /**
+     * Pinning events attributed to one site.
+     *
+     * @param site      top stack frames of the pinned thread
+     * @param count     events recorded
+     * @param maxMillis longest pinned duration
+     */
+    public record SiteStatistics(String site, long count, long maxMillis) {
+    }
+}
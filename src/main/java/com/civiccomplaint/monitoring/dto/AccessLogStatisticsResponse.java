@@ -0,0 +1,22 @@
+package com.civiccomplaint.monitoring.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for access log writer statistics.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccessLogStatisticsResponse {
+
+    private boolean enabled;
+    private int queueCapacity;
+    private int queued; // lines waiting for the writer thread
+    private long written;
+    private long dropped; // lines lost because the queue was full
+}
@@ -0,0 +1,21 @@
+package com.civiccomplaint.monitoring.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for complaint update stream statistics.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ComplaintStreamStatisticsResponse {
+
+    private int subscribers;
+    private long delivered;
+    private long evicted; // streams closed for falling behind
+    private long rejected; // subscriptions refused at the subscriber limit
+}
@@ -0,0 +1,45 @@
+package com.civiccomplaint.monitoring.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for connection pool statistics.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConnectionPoolStatisticsResponse {
+
+    private String poolName;
+    private int active;
+    private int idle;
+    private int pending; // threads waiting for a connection
+    private int total;
+    private int max;
+    private int min;
+    private long acquires;
+    private double acquireMeanMillis;
+    private double acquireP50Millis;
+    private double acquireP99Millis;
+    private double acquireMaxMillis;
+    private List<AcquireBucket> acquireHistogram;
+    private double usageMeanMillis;
+    private long usageMaxMillis;
+    private long timeouts;
+    private long connectionsCreated;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AcquireBucket {
+        private Long upperBoundMicros; // null for the overflow bucket
+        private long count;
+    }
+}
@@ -0,0 +1,31 @@
+package com.civiccomplaint.monitoring.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for login throttle statistics.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoginThrottleStatisticsResponse {
+
+    private LimitStatistics ip;
+    private LimitStatistics identifier;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LimitStatistics {
+        private int limit;
+        private long windowSeconds;
+        private int trackedKeys;
+        private long rejected;
+        private long overCapacity; // attempts rejected because the key cap was reached
+    }
+}
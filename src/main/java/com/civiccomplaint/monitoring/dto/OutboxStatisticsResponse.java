@@ -0,0 +1,23 @@
+package com.civiccomplaint.monitoring.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for outbox relay statistics.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxStatisticsResponse {
+
+    private int handlers;
+    private long published;
+    private long failedAttempts;
+    private long abandoned;
+    private long pending;
+    private long dead; // stored events that exhausted their retries
+}
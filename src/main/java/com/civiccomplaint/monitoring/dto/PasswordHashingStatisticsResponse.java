@@ -0,0 +1,36 @@
+package com.civiccomplaint.monitoring.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for password hashing executor statistics.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PasswordHashingStatisticsResponse {
+
+    private int poolSize;
+    private int activeThreads;
+    private int queuedTasks;
+    private int queueCapacity;
+    private long completedTasks;
+    private long rejectedTasks;
+    private long timedOutTasks;
+    private LatencyStatistics hashLatency;
+    private LatencyStatistics queueWait;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LatencyStatistics {
+        private long count;
+        private double meanMillis;
+        private double maxMillis;
+    }
+}
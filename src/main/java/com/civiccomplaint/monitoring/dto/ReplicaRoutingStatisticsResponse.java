@@ -0,0 +1,24 @@
+package com.civiccomplaint.monitoring.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for read replica routing statistics.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReplicaRoutingStatisticsResponse {
+
+    private boolean enabled;
+    private boolean replicaAvailable;
+    private Double replicaLagSeconds; // null if unknown
+    private long replicaReads;
+    private long primaryReads;
+    private long fallbacks; // replica connection failures served by the primary
+    private int pinnedUsers; // users reading from the primary after a recent write
+}
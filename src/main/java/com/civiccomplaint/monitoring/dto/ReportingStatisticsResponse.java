@@ -0,0 +1,38 @@
+package com.civiccomplaint.monitoring.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for reporting view refresh statistics.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportingStatisticsResponse {
+
+    private boolean enabled;
+    private List<ViewStatistics> views;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ViewStatistics {
+        private String tenant;
+        private String view;
+        private LocalDateTime lastRefreshedAt; // by any instance; null until the first refresh
+        private long lastDurationMs;
+        private long rowCount;
+        private long refreshes;
+        private long skipped; // another instance was refreshing
+        private long failures;
+        private String lastError;
+    }
+}
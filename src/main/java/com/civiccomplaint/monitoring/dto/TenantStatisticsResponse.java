@@ -0,0 +1,38 @@
+package com.civiccomplaint.monitoring.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for per-tenant connection pool statistics.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TenantStatisticsResponse {
+
+    private boolean enabled;
+    private String defaultTenant;
+    private List<TenantPoolStatistics> tenants;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TenantPoolStatistics {
+        private String tenant;
+        private String schema;
+        private String code;
+        private String poolName;
+        private int maxPoolSize;
+        private int active;
+        private int idle;
+        private int total;
+        private int waiting; // threads waiting for one of the tenant's connections
+    }
+}
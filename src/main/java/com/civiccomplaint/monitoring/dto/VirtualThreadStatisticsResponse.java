@@ -0,0 +1,56 @@
+package com.civiccomplaint.monitoring.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for virtual thread mode statistics.
+ * Limiter and pinning sections are null when virtual threads are disabled;
+ * there is one limiter per tenant.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VirtualThreadStatisticsResponse {
+
+    private boolean enabled;
+    private List<LimiterStatistics> limiters;
+    private PinningStatistics pinning;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LimiterStatistics {
+        private String tenant;
+        private int limit;
+        private int active;
+        private int waiting;
+        private long rejected;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PinningStatistics {
+        private long thresholdMillis;
+        private List<PinningSite> sites;
+        private long untracked; // events not attributed because the site cap was reached
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PinningSite {
+        private String site;
+        private long count;
+        private long maxMillis;
+    }
+}
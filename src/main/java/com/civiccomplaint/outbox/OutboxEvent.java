@@ -0,0 +1,87 @@
+package com.civiccomplaint.outbox;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.ColumnTransformer;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Domain event waiting to be delivered to in-process handlers.
+ * Rows are written in the same transaction as the change they describe and
+ * marked as published once every interested handler has processed them.
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_events_published_at", columnList = "published_at")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false, updatable = false)
+    private Long id;
+
+    @Column(name = "aggregate_type", nullable = false, updatable = false, length = 50)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false, updatable = false)
+    private UUID aggregateId;
+
+    @Column(name = "event_type", nullable = false, updatable = false, length = 100)
+    private String eventType;
+
+    /**
+     * Event body as JSON.
+     */
+    @Column(name = "payload", nullable = false, updatable = false, columnDefinition = "jsonb")
+    @ColumnTransformer(write = "CAST(? AS jsonb)")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Earliest time of the next delivery attempt.
+     */
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Builder.Default
+    @Column(name = "attempts", nullable = false)
+    private int attempts = 0;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    /**
+     * Mark the event as delivered to all handlers.
+     *
+     * @param now delivery time
+     */
+    void markPublished(LocalDateTime now) {
+        this.attempts++;
+        this.publishedAt = now;
+        this.lastError = null;
+    }
+
+    /**
+     * Record a failed delivery attempt and schedule the next one.
+     *
+     * @param error       failure description
+     * @param nextAttempt earliest time of the next attempt
+     */
+    void markFailed(String error, LocalDateTime nextAttempt) {
+        this.attempts++;
+        this.lastError = error;
+        this.availableAt = nextAttempt;
+    }
+}
@@ -0,0 +1,37 @@
+package com.civiccomplaint.outbox;
+
+/**
+ * In-process consumer of outbox events.
+ * Handlers run on the outbox relay thread, never on a request thread. If any
+ * handler fails, the event is retried for all handlers that support it, so
+ * handlers must tolerate seeing the same event more than once.
+ */
+public interface OutboxEventHandler {
+
+    /**
+     * Whether this handler wants the given event.
+     *
+     * @param message outbox event
+     * @return true to receive the event
+     */
+    boolean supports(OutboxMessage message);
+
+    /**
+     * Process an event. Throwing schedules a retry.
+     *
+     * @param message outbox event
+     * @throws Exception if the event could not be processed
+     */
+    void handle(OutboxMessage message) throws Exception;
+
+    /**
+     * Whether the handler runs inside the relay's batch transaction, on its
+     * connection, instead of outside it. Its database work then commits with
+     * the batch, and is rolled back to a savepoint if it throws.
+     *
+     * @return true to join the batch transaction
+     */
+    default boolean joinsBatchTransaction() {
+        return false;
+    }
+}
@@ -0,0 +1,65 @@
+package com.civiccomplaint.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for OutboxEvent entity.
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Lock the next batch of due, undelivered events in write order.
+     * Rows locked by another relay are skipped, so several application
+     * instances can drain the outbox concurrently without blocking each other.
+     *
+     * @param now         current time
+     * @param maxAttempts events with this many failed attempts are no longer retried
+     * @param limit       maximum batch size
+     * @return locked events
+     */
+    @Query(value = """
+            SELECT * FROM outbox_events
+            WHERE published_at IS NULL AND available_at <= :now AND attempts < :maxAttempts
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OutboxEvent> lockNextBatch(@Param("now") LocalDateTime now, @Param("maxAttempts") int maxAttempts,
+            @Param("limit") int limit);
+
+    /**
+     * Count events that are still to be delivered.
+     *
+     * @param maxAttempts retry limit
+     * @return number of pending events
+     */
+    @Query("SELECT COUNT(e) FROM OutboxEvent e WHERE e.publishedAt IS NULL AND e.attempts < :maxAttempts")
+    long countPending(@Param("maxAttempts") int maxAttempts);
+
+    /**
+     * Count events that exhausted their retries.
+     *
+     * @param maxAttempts retry limit
+     * @return number of abandoned events
+     */
+    @Query("SELECT COUNT(e) FROM OutboxEvent e WHERE e.publishedAt IS NULL AND e.attempts >= :maxAttempts")
+    long countAbandoned(@Param("maxAttempts") int maxAttempts);
+
+    /**
+     * Delete delivered events published before a cutoff.
+     *
+     * @param cutoff publication cutoff
+     * @return number of deleted events
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.publishedAt < :cutoff")
+    int deletePublishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,26 @@
+package com.civiccomplaint.outbox;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Outbox event as seen by handlers.
+ * Delivery is at-least-once, so handlers should use {@code id} to ignore
+ * events they have already processed when that matters.
+ *
+ * @param id            outbox event ID, unique and increasing in write order
+ * @param aggregateType type of the changed entity, e.g. "Complaint"
+ * @param aggregateId   ID of the changed entity
+ * @param eventType     event name
+ * @param payload       event body as JSON
+ * @param createdAt     time the event was written
+ * @param attempt       delivery attempt, starting at 1
+ */
+public record OutboxMessage(Long id, String aggregateType, UUID aggregateId, String eventType, String payload,
+        LocalDateTime createdAt, int attempt) {
+
+    static OutboxMessage of(OutboxEvent event) {
+        return new OutboxMessage(event.getId(), event.getAggregateType(), event.getAggregateId(),
+                event.getEventType(), event.getPayload(), event.getCreatedAt(), event.getAttempts() + 1);
+    }
+}
@@ -0,0 +1,220 @@
+package com.civiccomplaint.outbox;
+
+import com.civiccomplaint.tenant.TenantContext;
+import com.civiccomplaint.tenant.TenantRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Savepoint;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Drains the outbox in the background and dispatches events to handlers.
+ * Each batch is locked with FOR UPDATE SKIP LOCKED, dispatched and marked in
+ * one transaction, so an event is only marked published after its handlers
+ * ran, and a crash mid-batch leaves it to be delivered again.
+ * Each tenant has its own outbox table; they are drained one after the
+ * other, and a failing tenant does not hold up the rest.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final TenantRegistry tenantRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate handlerTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final List<OutboxEventHandler> handlers;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+    private final Duration retention;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder failedAttempts = new LongAdder();
+    private final LongAdder abandoned = new LongAdder();
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+            TenantRegistry tenantRegistry,
+            PlatformTransactionManager transactionManager,
+            JdbcTemplate jdbcTemplate,
+            ObjectProvider<OutboxEventHandler> handlers,
+            @Value("${app.outbox.batch-size:100}") int batchSize,
+            @Value("${app.outbox.max-attempts:10}") int maxAttempts,
+            @Value("${app.outbox.retry-backoff:5s}") Duration retryBackoff,
+            @Value("${app.outbox.max-retry-backoff:10m}") Duration maxRetryBackoff,
+            @Value("${app.outbox.retention:7d}") Duration retention) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.tenantRegistry = tenantRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // Handlers run outside the relay transaction so that their own database
+        // work cannot roll back the batch bookkeeping
+        this.handlerTemplate = new TransactionTemplate(transactionManager);
+        this.handlerTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+        this.jdbcTemplate = jdbcTemplate;
+        this.handlers = handlers.orderedStream().toList();
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.maxRetryBackoff = maxRetryBackoff;
+        this.retention = retention;
+        log.info("Outbox relay started with {} handler(s), batch size {}", this.handlers.size(), batchSize);
+    }
+
+    /**
+     * Deliver all due events of every tenant, one batch per transaction,
+     * until each outbox is drained.
+     */
+    @Scheduled(initialDelayString = "${app.outbox.initial-delay-ms:0}",
+            fixedDelayString = "${app.outbox.poll-interval-ms:1000}")
+    public void drain() {
+        forEachTenant("drain", () -> {
+            int dispatched;
+            do {
+                dispatched = transactionTemplate.execute(status -> dispatchBatch());
+            } while (dispatched == batchSize);
+        });
+    }
+
+    /**
+     * Delete published events older than the retention period. Events that
+     * exhausted their retries are kept for inspection.
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.purge-interval-ms:3600000}")
+    public void purgePublished() {
+        forEachTenant("purge", () -> {
+            LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+            Integer deleted = transactionTemplate.execute(
+                    status -> outboxEventRepository.deletePublishedBefore(cutoff));
+            if (deleted != null && deleted > 0) {
+                log.info("Purged {} published outbox events older than {}", deleted, cutoff);
+            }
+        });
+    }
+
+    /**
+     * Get delivery counters and the current tenant's backlog.
+     *
+     * @return relay statistics
+     */
+    public Statistics getStatistics() {
+        return new Statistics(handlers.size(), published.sum(), failedAttempts.sum(), abandoned.sum(),
+                outboxEventRepository.countPending(maxAttempts), outboxEventRepository.countAbandoned(maxAttempts));
+    }
+
+    private void forEachTenant(String task, Runnable work) {
+        for (String tenantId : tenantRegistry.getTenantIds()) {
+            try {
+                TenantContext.runAs(tenantId, work);
+            } catch (RuntimeException e) {
+                log.error("Outbox {} failed for tenant {}", task, tenantId, e);
+            }
+        }
+    }
+
+    private int dispatchBatch() {
+        List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(LocalDateTime.now(), maxAttempts, batchSize);
+        for (OutboxEvent event : batch) {
+            dispatch(event);
+        }
+        return batch.size();
+    }
+
+    private void dispatch(OutboxEvent event) {
+        OutboxMessage message = OutboxMessage.of(event);
+        Exception failure = null;
+        for (OutboxEventHandler handler : handlers) {
+            if (handler.supports(message)) {
+                failure = handler.joinsBatchTransaction()
+                        ? invokeInBatch(handler, message)
+                        : handlerTemplate.execute(status -> invoke(handler, message));
+                if (failure != null) {
+                    break;
+                }
+            }
+        }
+
+        if (failure != null) {
+            LocalDateTime nextAttempt = LocalDateTime.now().plus(backoff(message.attempt()));
+            event.markFailed(truncate(failure.toString()), nextAttempt);
+            failedAttempts.increment();
+            if (event.getAttempts() >= maxAttempts) {
+                abandoned.increment();
+                log.error("Giving up on outbox event {} ({}) after {} attempts", event.getId(),
+                        event.getEventType(), event.getAttempts(), failure);
+            } else {
+                log.warn("Outbox event {} ({}) failed on attempt {}, retrying at {}: {}", event.getId(),
+                        event.getEventType(), event.getAttempts(), nextAttempt, failure.toString());
+            }
+            return;
+        }
+
+        event.markPublished(LocalDateTime.now());
+        published.increment();
+        log.debug("Published outbox event {} ({})", event.getId(), event.getEventType());
+    }
+
+    private static Exception invoke(OutboxEventHandler handler, OutboxMessage message) {
+        try {
+            handler.handle(message);
+            return null;
+        } catch (Exception e) {
+            return e;
+        }
+    }
+
+    /**
+     * Run a handler on the batch connection under a savepoint, so that a
+     * failed statement does not abort the batch transaction.
+     */
+    private Exception invokeInBatch(OutboxEventHandler handler, OutboxMessage message) {
+        return jdbcTemplate.execute((ConnectionCallback<Exception>) connection -> {
+            Savepoint savepoint = connection.setSavepoint();
+            Exception failure = invoke(handler, message);
+            if (failure != null) {
+                connection.rollback(savepoint);
+            } else {
+                connection.releaseSavepoint(savepoint);
+            }
+            return failure;
+        });
+    }
+
+    private Duration backoff(int attempt) {
+        Duration delay = retryBackoff.multipliedBy(1L << Math.min(attempt - 1, 20));
+        return delay.compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : delay;
+    }
+
+    private static String truncate(String error) {
+        return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    /**
+     * Relay statistics.
+     *
+     * @param handlers       number of registered handlers
+     * @param published      events delivered since startup
+     * @param failedAttempts failed delivery attempts since startup
+     * @param abandoned      events that exhausted their retries since startup
+     * @param pending        events currently awaiting delivery
+     * @param dead           events currently stored that exhausted their retries
+     */
+    public record Statistics(int handlers, long published, long failedAttempts, long abandoned, long pending,
+            long dead) {
+    }
+}
@@ -0,0 +1,82 @@
+package com.civiccomplaint.reporting;
+
+import com.civiccomplaint.auth.CustomUserDetails;
+import com.civiccomplaint.common.dto.ApiResponse;
+import com.civiccomplaint.reporting.dto.WardBacklogReportResponse;
+import com.civiccomplaint.reporting.dto.WardMonthlyReportResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.YearMonth;
+
+/**
+ * REST controller for ward reports.
+ * Reports are served from materialized views refreshed on a schedule, so
+ * they lag the live data by up to the refresh interval.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/admin/reports")
+@RequiredArgsConstructor
+public class ReportingController {
+
+    private final ReportingService reportingService;
+
+    /**
+     * Get complaints created per month by prabhag and complaint type, with
+     * their current status and resolution rate.
+     * Only accessible by admins. An ADMIN only sees their own prabhag; a
+     * SUPER_ADMIN may filter by prabhag. Defaults to the last 12 months.
+     *
+     * @param from      first month, e.g. 2025-01
+     * @param to        last month, inclusive
+     * @param prabhagId optional prabhag filter for SUPER_ADMIN
+     * @return monthly ward report
+     */
+    @GetMapping("/ward-monthly")
+    @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN')")
+    public ResponseEntity<ApiResponse<WardMonthlyReportResponse>> getWardMonthlyReport(
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth to,
+            @RequestParam(required = false) Integer prabhagId,
+            Authentication authentication) {
+        YearMonth lastMonth = to != null ? to : YearMonth.now();
+        YearMonth firstMonth = from != null ? from : lastMonth.minusMonths(11);
+        log.debug("GET /admin/reports/ward-monthly - From: {}, To: {}, PrabhagId: {}", firstMonth, lastMonth,
+                prabhagId);
+
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+        WardMonthlyReportResponse report = reportingService.getWardMonthlyReport(userDetails.getUser(), prabhagId,
+                firstMonth, lastMonth);
+        return ResponseEntity.ok(ApiResponse.success(report));
+    }
+
+    /**
+     * Get open complaints by prabhag and complaint type, with their status
+     * and age in days.
+     * Only accessible by admins. An ADMIN only sees their own prabhag; a
+     * SUPER_ADMIN may filter by prabhag.
+     *
+     * @param prabhagId optional prabhag filter for SUPER_ADMIN
+     * @return backlog report
+     */
+    @GetMapping("/ward-backlog")
+    @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN')")
+    public ResponseEntity<ApiResponse<WardBacklogReportResponse>> getWardBacklogReport(
+            @RequestParam(required = false) Integer prabhagId,
+            Authentication authentication) {
+        log.debug("GET /admin/reports/ward-backlog - PrabhagId: {}", prabhagId);
+
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+        WardBacklogReportResponse report = reportingService.getWardBacklogReport(userDetails.getUser(), prabhagId);
+        return ResponseEntity.ok(ApiResponse.success(report));
+    }
+}
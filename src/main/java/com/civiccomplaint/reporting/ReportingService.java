@@ -0,0 +1,199 @@
+package com.civiccomplaint.reporting;
+
+import com.civiccomplaint.complaint.ComplaintType;
+import com.civiccomplaint.exception.ServiceUnavailableException;
+import com.civiccomplaint.master.MasterDataCache;
+import com.civiccomplaint.master.Prabhag;
+import com.civiccomplaint.reporting.dto.ReportLevel;
+import com.civiccomplaint.reporting.dto.WardBacklogReportResponse;
+import com.civiccomplaint.reporting.dto.WardMonthlyReportResponse;
+import com.civiccomplaint.user.Role;
+import com.civiccomplaint.user.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ward reports, read from the materialized views kept by
+ * {@link ReportingViewRefresher}. No report touches the complaints table;
+ * the figures are as of the view's last refresh, which every response
+ * carries.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReportingService {
+
+    private static final String MONTHLY_SQL = """
+            SELECT month, GROUPING(prabhag_id, complaint_type) AS grouping_level, prabhag_id,
+                   CAST(complaint_type AS text) AS complaint_type,
+                   sum(created_count) AS created_count, sum(pending_count) AS pending_count,
+                   sum(in_progress_count) AS in_progress_count, sum(resolved_count) AS resolved_count
+            FROM report_ward_monthly
+            WHERE month >= ? AND month <= ? AND (CAST(? AS integer) IS NULL OR prabhag_id = CAST(? AS integer))
+            GROUP BY GROUPING SETS ((month, prabhag_id, complaint_type), (month, prabhag_id), (month))
+            ORDER BY month, GROUPING(prabhag_id), prabhag_id NULLS LAST, GROUPING(complaint_type),
+                     complaint_type NULLS LAST
+            """;
+
+    // Ages are counted in whole days up to the refresh date
+    private static final String BACKLOG_SQL = """
+            SELECT GROUPING(prabhag_id, complaint_type) AS grouping_level, prabhag_id,
+                   CAST(complaint_type AS text) AS complaint_type, sum(open_count) AS open_count,
+                   COALESCE(sum(open_count) FILTER (WHERE status = 'PENDING'), 0) AS pending_count,
+                   COALESCE(sum(open_count) FILTER (WHERE status = 'IN_PROGRESS'), 0) AS in_progress_count,
+                   COALESCE(sum(open_count) FILTER (WHERE CAST(? AS date) - created_on <= 7), 0) AS up_to_7_days,
+                   COALESCE(sum(open_count) FILTER (WHERE CAST(? AS date) - created_on BETWEEN 8 AND 30), 0)
+                       AS up_to_30_days,
+                   COALESCE(sum(open_count) FILTER (WHERE CAST(? AS date) - created_on BETWEEN 31 AND 90), 0)
+                       AS up_to_90_days,
+                   COALESCE(sum(open_count) FILTER (WHERE CAST(? AS date) - created_on > 90), 0) AS over_90_days,
+                   min(created_on) AS oldest_created_on,
+                   sum(open_count * (CAST(? AS date) - created_on)) / sum(open_count) AS average_age_days
+            FROM report_ward_backlog
+            WHERE CAST(? AS integer) IS NULL OR prabhag_id = CAST(? AS integer)
+            GROUP BY GROUPING SETS ((prabhag_id, complaint_type), (prabhag_id), ())
+            ORDER BY GROUPING(prabhag_id), prabhag_id NULLS LAST, GROUPING(complaint_type),
+                     complaint_type NULLS LAST
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MasterDataCache masterDataCache;
+
+    /**
+     * Get complaints created per month, per prabhag and complaint type, with
+     * their current status. Also totals per prabhag and overall for each
+     * month. An ADMIN only sees their own prabhag.
+     *
+     * @param admin     authenticated admin user
+     * @param prabhagId optional prabhag filter, only honoured for SUPER_ADMIN
+     * @param from      first creation month, inclusive
+     * @param to        last creation month, inclusive
+     * @return monthly ward report
+     */
+    @Transactional(readOnly = true)
+    public WardMonthlyReportResponse getWardMonthlyReport(User admin, Integer prabhagId, YearMonth from,
+            YearMonth to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+        Integer scopePrabhagId = scopePrabhagId(admin, prabhagId);
+        LocalDateTime refreshedAt = refreshedAt(ReportingViewRefresher.WARD_MONTHLY);
+
+        List<WardMonthlyReportResponse.Entry> entries = jdbcTemplate.query(MONTHLY_SQL, (rs, rowNum) -> {
+            long created = rs.getLong("created_count");
+            long resolved = rs.getLong("resolved_count");
+            Integer rowPrabhagId = getInteger(rs, "prabhag_id");
+            return WardMonthlyReportResponse.Entry.builder()
+                    .level(ReportLevel.fromGrouping(rs.getInt("grouping_level")))
+                    .month(YearMonth.from(rs.getDate("month").toLocalDate()))
+                    .prabhagId(rowPrabhagId)
+                    .prabhagName(prabhagName(rowPrabhagId))
+                    .complaintType(complaintType(rs))
+                    .createdCount(created)
+                    .pendingCount(rs.getLong("pending_count"))
+                    .inProgressCount(rs.getLong("in_progress_count"))
+                    .resolvedCount(resolved)
+                    .resolutionRate(created > 0 ? Math.round(resolved * 1000.0 / created) / 1000.0 : 0)
+                    .build();
+        }, Date.valueOf(from.atDay(1)), Date.valueOf(to.atDay(1)), scopePrabhagId, scopePrabhagId);
+
+        return WardMonthlyReportResponse.builder()
+                .from(from)
+                .to(to)
+                .refreshedAt(refreshedAt)
+                .entries(entries)
+                .build();
+    }
+
+    /**
+     * Get open complaints per prabhag and complaint type, by status and age,
+     * with totals per prabhag and overall. An ADMIN only sees their own
+     * prabhag.
+     *
+     * @param admin     authenticated admin user
+     * @param prabhagId optional prabhag filter, only honoured for SUPER_ADMIN
+     * @return backlog report
+     */
+    @Transactional(readOnly = true)
+    public WardBacklogReportResponse getWardBacklogReport(User admin, Integer prabhagId) {
+        Integer scopePrabhagId = scopePrabhagId(admin, prabhagId);
+        LocalDateTime refreshedAt = refreshedAt(ReportingViewRefresher.WARD_BACKLOG);
+        Date asOf = Date.valueOf(refreshedAt.toLocalDate());
+
+        List<Object> args = new ArrayList<>(List.of(asOf, asOf, asOf, asOf, asOf));
+        args.add(scopePrabhagId);
+        args.add(scopePrabhagId);
+        List<WardBacklogReportResponse.Entry> entries = jdbcTemplate.query(BACKLOG_SQL, (rs, rowNum) -> {
+            Integer rowPrabhagId = getInteger(rs, "prabhag_id");
+            Date oldestCreatedOn = rs.getDate("oldest_created_on");
+            return WardBacklogReportResponse.Entry.builder()
+                    .level(ReportLevel.fromGrouping(rs.getInt("grouping_level")))
+                    .prabhagId(rowPrabhagId)
+                    .prabhagName(prabhagName(rowPrabhagId))
+                    .complaintType(complaintType(rs))
+                    .openCount(rs.getLong("open_count"))
+                    .pendingCount(rs.getLong("pending_count"))
+                    .inProgressCount(rs.getLong("in_progress_count"))
+                    .upTo7Days(rs.getLong("up_to_7_days"))
+                    .upTo30Days(rs.getLong("up_to_30_days"))
+                    .upTo90Days(rs.getLong("up_to_90_days"))
+                    .over90Days(rs.getLong("over_90_days"))
+                    .oldestCreatedOn(oldestCreatedOn != null ? oldestCreatedOn.toLocalDate() : null)
+                    .averageAgeDays(Math.round(rs.getDouble("average_age_days") * 10) / 10.0)
+                    .build();
+        }, args.toArray());
+
+        return WardBacklogReportResponse.builder()
+                .refreshedAt(refreshedAt)
+                .entries(entries)
+                .build();
+    }
+
+    private static Integer scopePrabhagId(User admin, Integer prabhagId) {
+        if (admin.getRole() == Role.ADMIN) {
+            if (admin.getPrabhag() == null) {
+                throw new AccessDeniedException("Admin is not assigned to any Prabhag");
+            }
+            return admin.getPrabhag().getId();
+        } else if (admin.getRole() != Role.SUPER_ADMIN) {
+            throw new AccessDeniedException("Unauthorized access");
+        }
+        return prabhagId;
+    }
+
+    private LocalDateTime refreshedAt(String view) {
+        List<Timestamp> refreshedAt = jdbcTemplate.queryForList(
+                "SELECT refreshed_at FROM reporting_view_refreshes WHERE view_name = ?", Timestamp.class, view);
+        if (refreshedAt.isEmpty()) {
+            throw new ServiceUnavailableException("Reports are being prepared, please try again shortly", 60);
+        }
+        return refreshedAt.get(0).toLocalDateTime();
+    }
+
+    private String prabhagName(Integer prabhagId) {
+        return prabhagId != null
+                ? masterDataCache.findPrabhag(prabhagId).map(Prabhag::getName).orElse(null)
+                : null;
+    }
+
+    private static ComplaintType complaintType(ResultSet rs) throws SQLException {
+        String type = rs.getString("complaint_type");
+        return type != null ? ComplaintType.valueOf(type) : null;
+    }
+
+    private static Integer getInteger(ResultSet rs, String column) throws SQLException {
+        int value = rs.getInt(column);
+        return rs.wasNull() ? null : value;
+    }
+}
@@ -0,0 +1,250 @@
+package com.civiccomplaint.reporting;
+
+import com.civiccomplaint.tenant.TenantContext;
+import com.civiccomplaint.tenant.TenantRegistry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the ward reporting materialized views up to date.
+ * Each view is refreshed in its own transaction on the scheduler, under a
+ * statement timeout that bounds its cost. Refreshes after the first one are
+ * CONCURRENTLY, so reports keep reading the previous contents meanwhile.
+ * A transaction-scoped advisory lock makes sure only one instance refreshes
+ * a view at a time; the others skip it and pick up the shared refresh log.
+ * Every tenant has its own views in its own schema, refreshed in turn.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.reporting.enabled", havingValue = "true", matchIfMissing = true)
+public class ReportingViewRefresher {
+
+    static final String WARD_MONTHLY = "report_ward_monthly";
+    static final String WARD_BACKLOG = "report_ward_backlog";
+    static final List<String> VIEWS = List.of(WARD_MONTHLY, WARD_BACKLOG);
+
+    private static final String SCRIPT = "db/reporting-views.sql";
+
+    private static final String RECORD_REFRESH_SQL = """
+            INSERT INTO reporting_view_refreshes (view_name, refreshed_at, duration_ms, row_count)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (view_name) DO UPDATE
+            SET refreshed_at = EXCLUDED.refreshed_at, duration_ms = EXCLUDED.duration_ms,
+                row_count = EXCLUDED.row_count
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Duration refreshTimeout;
+    // Tenant ID -> view -> state
+    private final Map<String, Map<String, ViewState>> states = new LinkedHashMap<>();
+    private final Set<String> installed = ConcurrentHashMap.newKeySet();
+
+    public ReportingViewRefresher(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            TenantRegistry tenantRegistry,
+            @Value("${app.reporting.refresh-timeout:5m}") Duration refreshTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.refreshTimeout = refreshTimeout;
+        for (String tenantId : tenantRegistry.getTenantIds()) {
+            Map<String, ViewState> tenantStates = new LinkedHashMap<>();
+            for (String view : VIEWS) {
+                ViewState state = new ViewState();
+                tenantStates.put(view, state);
+                Gauge.builder("reporting.view.staleness", state, ViewState::stalenessSeconds)
+                        .description("Seconds since the view was last refreshed by any instance")
+                        .baseUnit("seconds")
+                        .tag("tenant", tenantId)
+                        .tag("view", view)
+                        .register(meterRegistry);
+            }
+            states.put(tenantId, tenantStates);
+        }
+    }
+
+    /**
+     * Refresh every reporting view of every tenant, creating them on the
+     * first run.
+     */
+    @Scheduled(initialDelayString = "${app.reporting.initial-delay-ms:10000}",
+            fixedDelayString = "${app.reporting.refresh-interval-ms:900000}")
+    public void refreshAll() {
+        for (String tenantId : states.keySet()) {
+            TenantContext.runAs(tenantId, () -> refreshTenant(tenantId));
+        }
+    }
+
+    /**
+     * Get refresh counters and the last refresh of each view.
+     *
+     * @return statistics per tenant and view, in refresh order
+     */
+    public List<Statistics> getStatistics() {
+        return states.entrySet().stream()
+                .flatMap(tenant -> tenant.getValue().entrySet().stream()
+                        .map(view -> view.getValue().snapshot(tenant.getKey(), view.getKey())))
+                .toList();
+    }
+
+    private void refreshTenant(String tenantId) {
+        if (!installed.contains(tenantId)) {
+            try {
+                install(tenantId);
+            } catch (DataAccessException e) {
+                log.error("Failed to install reporting views for tenant {}", tenantId, e);
+                return;
+            }
+        }
+        for (String view : VIEWS) {
+            refresh(tenantId, view);
+        }
+        loadRefreshLog(tenantId);
+    }
+
+    private void install(String tenantId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            // Serializes concurrent CREATE ... IF NOT EXISTS across instances
+            jdbcTemplate.queryForObject("SELECT pg_advisory_xact_lock(hashtext(?))", Object.class,
+                    "reporting:install:" + tenantId);
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                ScriptUtils.executeSqlScript(connection, new ClassPathResource(SCRIPT));
+                return null;
+            });
+        });
+        installed.add(tenantId);
+        log.info("Reporting views installed for tenant {}: {}", tenantId, VIEWS);
+    }
+
+    private void refresh(String tenantId, String view) {
+        ViewState state = states.get(tenantId).get(view);
+        long started = System.nanoTime();
+        String outcome;
+        try {
+            Boolean refreshed = transactionTemplate.execute(status -> {
+                String lockKey = "reporting:" + tenantId + ":" + view;
+                if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                        "SELECT pg_try_advisory_xact_lock(hashtext(?))", Boolean.class, lockKey))) {
+                    return false;
+                }
+                jdbcTemplate.execute("SET LOCAL statement_timeout = " + refreshTimeout.toMillis());
+                // CONCURRENTLY is rejected until the view has been populated once
+                boolean populated = Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                        "SELECT ispopulated FROM pg_matviews WHERE schemaname = current_schema() AND matviewname = ?",
+                        Boolean.class, view));
+                jdbcTemplate.execute("REFRESH MATERIALIZED VIEW " + (populated ? "CONCURRENTLY " : "") + view);
+                Long rows = jdbcTemplate.queryForObject("SELECT count(*) FROM " + view, Long.class);
+                long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+                jdbcTemplate.update(RECORD_REFRESH_SQL, view, Timestamp.valueOf(LocalDateTime.now()), durationMs,
+                        rows);
+                log.info("Refreshed {} of tenant {}{} in {} ms ({} rows)", view, tenantId,
+                        populated ? "" : " for the first time", durationMs, rows);
+                return true;
+            });
+            if (Boolean.TRUE.equals(refreshed)) {
+                outcome = "success";
+                state.refreshes.incrementAndGet();
+            } else {
+                outcome = "skipped";
+                state.skipped.incrementAndGet();
+                log.debug("Skipped refresh of {} of tenant {}: another instance holds the lock", view, tenantId);
+            }
+        } catch (DataAccessException e) {
+            outcome = "failure";
+            state.failures.incrementAndGet();
+            state.lastError = e.getMostSpecificCause().getMessage();
+            log.error("Failed to refresh {} of tenant {}", view, tenantId, e);
+        }
+        Timer.builder("reporting.view.refresh")
+                .description("Time to refresh a reporting materialized view")
+                .tag("tenant", tenantId)
+                .tag("view", view)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+    }
+
+    private void loadRefreshLog(String tenantId) {
+        Map<String, ViewState> tenantStates = states.get(tenantId);
+        try {
+            jdbcTemplate.query("SELECT view_name, refreshed_at, duration_ms, row_count FROM reporting_view_refreshes",
+                    rs -> {
+                        ViewState state = tenantStates.get(rs.getString("view_name"));
+                        if (state != null) {
+                            state.lastRefreshedAt = rs.getTimestamp("refreshed_at").toLocalDateTime();
+                            state.lastDurationMs = rs.getLong("duration_ms");
+                            state.rowCount = rs.getLong("row_count");
+                        }
+                    });
+        } catch (DataAccessException e) {
+            log.warn("Failed to read the reporting refresh log of tenant {}: {}", tenantId,
+                    e.getMostSpecificCause().getMessage());
+        }
+    }
+
+    private static final class ViewState {
+
+        private final AtomicLong refreshes = new AtomicLong();
+        private final AtomicLong skipped = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+        private volatile LocalDateTime lastRefreshedAt;
+        private volatile long lastDurationMs;
+        private volatile long rowCount;
+        private volatile String lastError;
+
+        double stalenessSeconds() {
+            LocalDateTime refreshedAt = lastRefreshedAt;
+            return refreshedAt != null ? Duration.between(refreshedAt, LocalDateTime.now()).toSeconds() : Double.NaN;
+        }
+
+        Statistics snapshot(String tenant, String view) {
+            return new Statistics(tenant, view, lastRefreshedAt, lastDurationMs, rowCount, refreshes.get(),
+                    skipped.get(), failures.get(), lastError);
+        }
+    }
+
+    /**
+     * Refresh statistics of one view of one tenant.
+     *
+     * @param tenant          tenant ID
+     * @param view            view name
+     * @param lastRefreshedAt last successful refresh by any instance, null if never
+     * @param lastDurationMs  duration of that refresh
+     * @param rowCount        rows in the view after that refresh
+     * @param refreshes       successful refreshes by this instance since startup
+     * @param skipped         refreshes skipped because another instance held the lock
+     * @param failures        failed refreshes since startup
+     * @param lastError       message of the last failure, null if none
+     */
+    public record Statistics(String tenant, String view, LocalDateTime lastRefreshedAt, long lastDurationMs,
+            long rowCount, long refreshes, long skipped, long failures, String lastError) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.civiccomplaint.reporting.dto;
+
+/**
+ * Grouping level of a report entry, from GROUPING(prabhag_id, complaint_type).
+ */
+public enum ReportLevel {
+
+    /**
+     * One prabhag and complaint type.
+     */
+    DETAIL,
+
+    /**
+     * All complaint types of one prabhag.
+     */
+    PRABHAG,
+
+    /**
+     * All prabhags and complaint types.
+     */
+    TOTAL;
+
+    /**
+     * Map a GROUPING(prabhag_id, complaint_type) value, in which a set bit
+     * marks a column that was rolled up.
+     *
+     * @param grouping 0, 1 or 3
+     * @return the level
+     */
+    public static ReportLevel fromGrouping(int grouping) {
+        return switch (grouping) {
+            case 0 -> DETAIL;
+            case 1 -> PRABHAG;
+            case 3 -> TOTAL;
+            default -> throw new IllegalArgumentException("Unexpected grouping: " + grouping);
+        };
+    }
+}
@@ -0,0 +1,50 @@
+package com.civiccomplaint.reporting.dto;
+
+import com.civiccomplaint.complaint.ComplaintType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for the open complaint backlog by ward and age. Ages are in days as
+ * of the last refresh.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WardBacklogReportResponse {
+
+    private LocalDateTime refreshedAt;
+    private List<Entry> entries;
+
+    /**
+     * Backlog of one group. The level tells totals apart from details; a
+     * null prabhag on a DETAIL or PRABHAG entry stands for citizens who are
+     * not assigned to one.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+        private ReportLevel level;
+        private Integer prabhagId;
+        private String prabhagName;
+        private ComplaintType complaintType;
+        private long openCount;
+        private long pendingCount;
+        private long inProgressCount;
+        private long upTo7Days;
+        private long upTo30Days;
+        private long upTo90Days;
+        private long over90Days;
+        private LocalDate oldestCreatedOn;
+        private double averageAgeDays;
+    }
+}
@@ -0,0 +1,49 @@
+package com.civiccomplaint.reporting.dto;
+
+import com.civiccomplaint.complaint.ComplaintType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * DTO for monthly ward performance: complaints created per month and how
+ * many of them have been resolved since.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WardMonthlyReportResponse {
+
+    private YearMonth from;
+    private YearMonth to;
+    private LocalDateTime refreshedAt;
+    private List<Entry> entries;
+
+    /**
+     * Counts for one month and group. The level tells totals apart from
+     * details; a null prabhag on a DETAIL or PRABHAG entry stands for
+     * citizens who are not assigned to one.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+        private ReportLevel level;
+        private YearMonth month;
+        private Integer prabhagId;
+        private String prabhagName;
+        private ComplaintType complaintType;
+        private long createdCount;
+        private long pendingCount;
+        private long inProgressCount;
+        private long resolvedCount;
+        private double resolutionRate; // resolvedCount / createdCount
+    }
+}
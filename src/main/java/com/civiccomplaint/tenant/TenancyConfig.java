@@ -0,0 +1,101 @@
+package com.civiccomplaint.tenant;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Schema-per-tenant data isolation, enabled with app.tenancy.enabled.
+ * Replaces the auto-configured DataSource with a
+ * {@link TenantRoutingDataSource} over one pool per tenant, each configured
+ * from spring.datasource with the tenant's schema and connection cap, and
+ * switches Hibernate to multi-tenant sessions.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.tenancy.enabled", havingValue = "true")
+public class TenancyConfig {
+
+    @Bean
+    public TenantRoutingDataSource tenantRoutingDataSource(TenantRegistry tenantRegistry,
+            DataSourceProperties properties, Environment environment, ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${app.datasource.replica.enabled:false}") boolean replicaEnabled) {
+        if (replicaEnabled) {
+            // Replica routing would need a replica pool per tenant as well
+            throw new IllegalStateException("app.tenancy and app.datasource.replica cannot be enabled together");
+        }
+        Binder binder = Binder.get(environment);
+
+        Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+        for (TenantRegistry.Tenant tenant : tenantRegistry.getTenants()) {
+            HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+            binder.bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+            pool.setPoolName("tenant-" + tenant.id());
+            // search_path is the tenant schema alone, so an unqualified name
+            // can never resolve to another tenant's table
+            pool.setSchema(tenant.schema());
+            pool.setMaximumPoolSize(tenant.maxPoolSize());
+            pool.setMinimumIdle(tenant.minimumIdle());
+            // Not beans of their own, so Spring Boot's pool metrics never see them
+            meterRegistry.ifAvailable(registry -> pool.setMetricsTrackerFactory(
+                    new MicrometerMetricsTrackerFactory(registry)));
+            pools.put(tenant.id(), pool);
+            log.info("Tenant '{}': schema {}, up to {} connections", tenant.id(), tenant.schema(),
+                    tenant.maxPoolSize());
+        }
+        return new TenantRoutingDataSource(pools, tenantRegistry.getDefaultTenantId());
+    }
+
+    /**
+     * Application DataSource. A bean named dataSource of its own, so that the
+     * JDBC instrumentation wraps it while the pools stay owned by the router.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(TenantRoutingDataSource tenantRoutingDataSource) {
+        return new DelegatingDataSource(tenantRoutingDataSource);
+    }
+
+    /**
+     * Open Hibernate sessions per tenant. Schema validation and updates at
+     * startup only see the default tenant's schema.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer tenantHibernatePropertiesCustomizer(DataSource dataSource,
+            TenantRegistry tenantRegistry) {
+        return properties -> {
+            properties.put(AvailableSettings.MULTI_TENANT_CONNECTION_PROVIDER,
+                    new TenantConnectionProvider(dataSource));
+            properties.put(AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER,
+                    new TenantIdentifierResolver(tenantRegistry));
+        };
+    }
+
+    /**
+     * Carry the tenant onto the application task executor, which runs
+     * streamed responses such as complaint exports and citizen imports.
+     */
+    @Bean
+    public TaskDecorator tenantTaskDecorator() {
+        return TenantContext::wrap;
+    }
+}
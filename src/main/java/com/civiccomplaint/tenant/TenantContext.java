@@ -0,0 +1,90 @@
+package com.civiccomplaint.tenant;
+
+import java.util.function.Supplier;
+
+/**
+ * Thread-bound tenant (city) of the current unit of work.
+ * {@link TenantFilter} and the JWT filter set it per request, background
+ * jobs set it per tenant, and the tenant routing DataSource and Hibernate
+ * read it when a connection or session is opened. Unset means the default
+ * tenant.
+ */
+public final class TenantContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private TenantContext() {
+    }
+
+    /**
+     * @return the tenant bound to this thread, or null for the default tenant
+     */
+    public static String getTenantId() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Bind a tenant to this thread.
+     *
+     * @param tenantId tenant ID, or null to clear
+     */
+    public static void setTenantId(String tenantId) {
+        if (tenantId != null) {
+            CURRENT.set(tenantId);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * Unbind the tenant from this thread.
+     */
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Run work as a tenant, restoring the previous tenant afterwards.
+     *
+     * @param tenantId tenant ID, or null for the default tenant
+     * @param work     work to run
+     */
+    public static void runAs(String tenantId, Runnable work) {
+        String previous = CURRENT.get();
+        setTenantId(tenantId);
+        try {
+            work.run();
+        } finally {
+            setTenantId(previous);
+        }
+    }
+
+    /**
+     * Compute a value as a tenant, restoring the previous tenant afterwards.
+     *
+     * @param tenantId tenant ID, or null for the default tenant
+     * @param work     work to run
+     * @param <T>      result type
+     * @return the work's result
+     */
+    public static <T> T callAs(String tenantId, Supplier<T> work) {
+        String previous = CURRENT.get();
+        setTenantId(tenantId);
+        try {
+            return work.get();
+        } finally {
+            setTenantId(previous);
+        }
+    }
+
+    /**
+     * Capture this thread's tenant for work handed to another thread.
+     *
+     * @param work work to run later
+     * @return work that runs as the captured tenant
+     */
+    public static Runnable wrap(Runnable work) {
+        String tenantId = CURRENT.get();
+        return () -> runAs(tenantId, work);
+    }
+}
@@ -0,0 +1,86 @@
+package com.civiccomplaint.tenant;
+
+import com.civiccomplaint.common.dto.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Binds the request's tenant to the handling thread.
+ * Anonymous requests (registration, login, master data) name their city in
+ * the X-Tenant-ID header or get the default tenant; authenticated requests
+ * are then rebound to the tenant in their token by the JWT filter. Runs
+ * before the concurrency limiter and Spring Security, since both may touch
+ * the database, and again on async dispatches.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.tenancy.enabled", havingValue = "true")
+public class TenantFilter extends OncePerRequestFilter implements Ordered {
+
+    /**
+     * Request header naming the tenant of an anonymous request.
+     */
+    public static final String TENANT_HEADER = "X-Tenant-ID";
+
+    /**
+     * Request attribute holding the resolved tenant ID, kept for async
+     * dispatches.
+     */
+    public static final String TENANT_ATTRIBUTE = TenantFilter.class.getName() + ".tenant";
+
+    private final TenantRegistry tenantRegistry;
+    private final ObjectMapper objectMapper;
+
+    public TenantFilter(TenantRegistry tenantRegistry, ObjectMapper objectMapper) {
+        this.tenantRegistry = tenantRegistry;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public int getOrder() {
+        // Ahead of the request concurrency limiter (-110) and Spring Security (-100)
+        return -120;
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        String tenantId = (String) request.getAttribute(TENANT_ATTRIBUTE);
+        if (tenantId == null) {
+            String header = request.getHeader(TENANT_HEADER);
+            tenantId = header != null && !header.isBlank() ? header.trim() : tenantRegistry.getDefaultTenantId();
+            if (tenantRegistry.find(tenantId).isEmpty()) {
+                log.warn("Rejected {} {}: unknown tenant", request.getMethod(), request.getRequestURI());
+                response.setStatus(HttpStatus.BAD_REQUEST.value());
+                response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                objectMapper.writeValue(response.getOutputStream(), ApiResponse.error("Unknown tenant"));
+                return;
+            }
+            request.setAttribute(TENANT_ATTRIBUTE, tenantId);
+        }
+
+        TenantContext.setTenantId(tenantId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            TenantContext.clear();
+        }
+    }
+}
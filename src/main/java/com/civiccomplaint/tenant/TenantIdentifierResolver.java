@@ -0,0 +1,27 @@
+package com.civiccomplaint.tenant;
+
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+
+/**
+ * Opens every Hibernate session for the tenant bound to the calling thread,
+ * or the default tenant. The tenant is part of Hibernate's second-level and
+ * query cache keys, so cached entities never cross tenants.
+ */
+public class TenantIdentifierResolver implements CurrentTenantIdentifierResolver<String> {
+
+    private final TenantRegistry tenantRegistry;
+
+    public TenantIdentifierResolver(TenantRegistry tenantRegistry) {
+        this.tenantRegistry = tenantRegistry;
+    }
+
+    @Override
+    public String resolveCurrentTenantIdentifier() {
+        return tenantRegistry.getCurrentTenantId();
+    }
+
+    @Override
+    public boolean validateExistingCurrentSessions() {
+        return true;
+    }
+}
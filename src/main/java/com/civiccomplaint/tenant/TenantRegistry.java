@@ -0,0 +1,159 @@
+package com.civiccomplaint.tenant;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * The tenants (cities) served by this deployment, from app.tenancy.tenants.
+ * Each tenant's data lives in its own PostgreSQL schema, reached through its
+ * own connection pool. With tenancy disabled there is a single default
+ * tenant on the regular DataSource, so tenant-keyed state behaves as before.
+ */
+@Slf4j
+@Component
+public class TenantRegistry {
+
+    // Tenant IDs travel in headers, tokens and metric tags; schemas are
+    // interpolated into SQL identifiers, so both are kept to a safe alphabet
+    private static final Pattern TENANT_ID = Pattern.compile("[a-z0-9][a-z0-9_-]{0,62}");
+    private static final Pattern SCHEMA = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+
+    private final boolean enabled;
+    private final String defaultTenantId;
+    private final Map<String, Tenant> tenants;
+
+    public TenantRegistry(Environment environment,
+            @Value("${app.tenancy.enabled:false}") boolean enabled,
+            @Value("${app.tenancy.default-tenant:default}") String defaultTenantId,
+            @Value("${app.tenancy.default-max-pool-size:10}") int defaultMaxPoolSize,
+            @Value("${app.tenancy.default-minimum-idle:2}") int defaultMinimumIdle) {
+        this.enabled = enabled;
+        this.defaultTenantId = defaultTenantId;
+        if (!enabled) {
+            this.tenants = Map.of(defaultTenantId, new Tenant(defaultTenantId, null, null, 0, 0));
+            return;
+        }
+
+        Map<String, TenantProperties> configured = Binder.get(environment)
+                .bind("app.tenancy.tenants", Bindable.mapOf(String.class, TenantProperties.class))
+                .orElse(Map.of());
+        Map<String, Tenant> tenants = new LinkedHashMap<>();
+        configured.forEach((id, properties) -> tenants.put(id,
+                tenant(id, properties, defaultMaxPoolSize, defaultMinimumIdle)));
+        if (!tenants.containsKey(defaultTenantId)) {
+            throw new IllegalStateException("Default tenant '" + defaultTenantId
+                    + "' is not listed in app.tenancy.tenants");
+        }
+        this.tenants = Collections.unmodifiableMap(tenants);
+        log.info("Tenancy enabled for {} tenant(s), default '{}': {}", tenants.size(), defaultTenantId,
+                tenants.keySet());
+    }
+
+    /**
+     * @return true if data is isolated per tenant schema
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return tenant used by requests and jobs that do not name one
+     */
+    public String getDefaultTenantId() {
+        return defaultTenantId;
+    }
+
+    /**
+     * @return all tenants, in configuration order
+     */
+    public Collection<Tenant> getTenants() {
+        return tenants.values();
+    }
+
+    /**
+     * @return IDs of all tenants, in configuration order
+     */
+    public List<String> getTenantIds() {
+        return List.copyOf(tenants.keySet());
+    }
+
+    /**
+     * Find a tenant by ID.
+     *
+     * @param tenantId tenant ID
+     * @return Optional containing the tenant if it is configured
+     */
+    public Optional<Tenant> find(String tenantId) {
+        return Optional.ofNullable(tenantId).map(tenants::get);
+    }
+
+    /**
+     * @return ID of the tenant bound to this thread, or the default tenant
+     */
+    public String getCurrentTenantId() {
+        String tenantId = TenantContext.getTenantId();
+        return tenantId != null ? tenantId : defaultTenantId;
+    }
+
+    /**
+     * @return the tenant bound to this thread, or the default tenant
+     * @throws IllegalStateException if an unknown tenant is bound
+     */
+    public Tenant getCurrentTenant() {
+        String tenantId = getCurrentTenantId();
+        Tenant tenant = tenants.get(tenantId);
+        if (tenant == null) {
+            throw new IllegalStateException("Unknown tenant: " + tenantId);
+        }
+        return tenant;
+    }
+
+    private static Tenant tenant(String id, TenantProperties properties, int defaultMaxPoolSize,
+            int defaultMinimumIdle) {
+        if (!TENANT_ID.matcher(id).matches()) {
+            throw new IllegalStateException("Invalid tenant ID '" + id
+                    + "': use lower-case letters, digits, '-' and '_'");
+        }
+        String schema = properties.schema() != null ? properties.schema() : id.replace('-', '_');
+        if (!SCHEMA.matcher(schema).matches()) {
+            throw new IllegalStateException("Invalid schema '" + schema + "' for tenant '" + id
+                    + "': use lower-case letters, digits and '_'");
+        }
+        String code = properties.code() != null ? properties.code() : id.toUpperCase(Locale.ROOT);
+        int maxPoolSize = properties.maxPoolSize() != null ? properties.maxPoolSize() : defaultMaxPoolSize;
+        int minimumIdle = properties.minimumIdle() != null ? properties.minimumIdle() : defaultMinimumIdle;
+        return new Tenant(id, schema, code, maxPoolSize, Math.min(minimumIdle, maxPoolSize));
+    }
+
+    /**
+     * A tenant (city).
+     *
+     * @param id          tenant ID, carried in tokens and the X-Tenant-ID header
+     * @param schema      PostgreSQL schema holding the tenant's tables, null when tenancy is disabled
+     * @param code        city code prefixed to complaint numbers, null when tenancy is disabled
+     * @param maxPoolSize connections the tenant may hold at once
+     * @param minimumIdle idle connections kept open for the tenant
+     */
+    public record Tenant(String id, String schema, String code, int maxPoolSize, int minimumIdle) {
+    }
+
+    /**
+     * Configuration of one tenant under app.tenancy.tenants.
+     * Unset values fall back to the tenant ID and the app.tenancy defaults.
+     */
+    record TenantProperties(String schema, String code, Integer maxPoolSize, Integer minimumIdle) {
+    }
+}
@@ -0,0 +1,86 @@
+package com.civiccomplaint.tenant;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Routes each connection request to the pool of the tenant bound to the
+ * calling thread. Every tenant has its own bounded pool whose connections
+ * only see the tenant's schema, so a busy city waits on its own pool and
+ * never takes connections from the others. Threads without a tenant use the
+ * default tenant's pool; an unknown tenant is an error rather than a
+ * fallback.
+ */
+@Slf4j
+public class TenantRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    private final Map<String, HikariDataSource> pools;
+
+    /**
+     * @param pools           pool per tenant ID, in configuration order
+     * @param defaultTenantId tenant whose pool serves threads without a tenant
+     */
+    public TenantRoutingDataSource(Map<String, HikariDataSource> pools, String defaultTenantId) {
+        this.pools = new LinkedHashMap<>(pools);
+        setTargetDataSources(new HashMap<>(pools));
+        setDefaultTargetDataSource(pools.get(defaultTenantId));
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TenantContext.getTenantId();
+    }
+
+    /**
+     * Get the pool counters of every tenant.
+     *
+     * @return statistics per tenant, in configuration order
+     */
+    public List<PoolStatistics> getStatistics() {
+        return pools.entrySet().stream()
+                .map(entry -> {
+                    HikariDataSource pool = entry.getValue();
+                    // Pools start on their tenant's first connection
+                    HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+                    return mxBean != null
+                            ? new PoolStatistics(entry.getKey(), pool.getPoolName(), pool.getMaximumPoolSize(),
+                                    mxBean.getActiveConnections(), mxBean.getIdleConnections(),
+                                    mxBean.getTotalConnections(), mxBean.getThreadsAwaitingConnection())
+                            : new PoolStatistics(entry.getKey(), pool.getPoolName(), pool.getMaximumPoolSize(),
+                                    0, 0, 0, 0);
+                })
+                .toList();
+    }
+
+    @Override
+    public void destroy() {
+        for (HikariDataSource pool : pools.values()) {
+            pool.close();
+        }
+        log.info("Closed {} tenant connection pool(s)", pools.size());
+    }
+
+    /**
+     * Pool counters of one tenant.
+     *
+     * @param tenant      tenant ID
+     * @param poolName    Hikari pool name, also the pool tag of the hikaricp meters
+     * @param maxPoolSize the tenant's connection cap
+     * @param active      connections in use
+     * @param idle        idle connections
+     * @param total       open connections
+     * @param waiting     threads waiting for a connection
+     */
+    public record PoolStatistics(String tenant, String poolName, int maxPoolSize, int active, int idle, int total,
+            int waiting) {
+    }
+}
@@ -0,0 +1,124 @@
+package com.civiccomplaint.user;
+
+import com.civiccomplaint.tenant.TenantRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * In-memory cache of admin poster images keyed by tenant and prabhag ID.
+ * Entries are evicted in least-recently-used order once the total
+ * cached image size exceeds the configured memory budget.
+ */
+@Slf4j
+@Component
+public class AdminPosterCache {
+
+    private final TenantRegistry tenantRegistry;
+    private final long maxBytes;
+    private final LinkedHashMap<PosterKey, CachedPoster> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long currentBytes;
+    private long generation;
+
+    public AdminPosterCache(TenantRegistry tenantRegistry,
+            @Value("${app.cache.admin-poster.max-bytes:33554432}") long maxBytes) {
+        this.tenantRegistry = tenantRegistry;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Get the cached poster for a prabhag of the current tenant.
+     *
+     * @param prabhagId prabhag ID
+     * @return Optional containing the poster if cached
+     */
+    public synchronized Optional<CachedPoster> get(Integer prabhagId) {
+        return Optional.ofNullable(entries.get(key(prabhagId)));
+    }
+
+    /**
+     * Get the current invalidation generation.
+     * Callers read it before loading a poster so that a load racing with an
+     * invalidation does not repopulate the cache with stale data.
+     *
+     * @return current generation
+     */
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Cache a poster for a prabhag of the current tenant.
+     * Posters larger than the whole budget are not cached.
+     *
+     * @param prabhagId   prabhag ID
+     * @param data        image bytes
+     * @param contentType image content type
+     * @param loadedAt    generation read before the poster was loaded
+     * @return cached poster
+     */
+    public CachedPoster put(Integer prabhagId, byte[] data, String contentType, long loadedAt) {
+        CachedPoster poster = new CachedPoster(data, contentType, "\"" + DigestUtils.md5DigestAsHex(data) + "\"");
+        if (data.length > maxBytes) {
+            log.debug("Poster for prabhag {} ({} bytes) exceeds cache budget, not caching", prabhagId, data.length);
+            return poster;
+        }
+
+        synchronized (this) {
+            if (loadedAt != generation) {
+                return poster;
+            }
+            CachedPoster previous = entries.put(key(prabhagId), poster);
+            if (previous != null) {
+                currentBytes -= previous.data().length;
+            }
+            currentBytes += data.length;
+            trimToBudget();
+        }
+        return poster;
+    }
+
+    /**
+     * Evict the cached poster for a prabhag of the current tenant.
+     *
+     * @param prabhagId prabhag ID, ignored when null
+     */
+    public synchronized void evict(Integer prabhagId) {
+        if (prabhagId == null) {
+            return;
+        }
+        generation++;
+        CachedPoster removed = entries.remove(key(prabhagId));
+        if (removed != null) {
+            currentBytes -= removed.data().length;
+            log.debug("Evicted cached poster for prabhag {}", prabhagId);
+        }
+    }
+
+    private PosterKey key(Integer prabhagId) {
+        return new PosterKey(tenantRegistry.getCurrentTenantId(), prabhagId);
+    }
+
+    private void trimToBudget() {
+        Iterator<Map.Entry<PosterKey, CachedPoster>> iterator = entries.entrySet().iterator();
+        while (currentBytes > maxBytes && iterator.hasNext()) {
+            currentBytes -= iterator.next().getValue().data().length;
+            iterator.remove();
+        }
+    }
+
+    private record PosterKey(String tenantId, Integer prabhagId) {
+    }
+
+    /**
+     * Cached poster image with its content type and ETag.
+     */
+    public record CachedPoster(byte[] data, String contentType, String etag) {
+    }
+}
@@ -1,20 +1,17 @@
 package com.civiccomplaint.user;
 
-import com.civiccomplaint.common.dto.ApiResponse;
+import com.civiccomplaint.auth.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpHeaders;
+import org.springframework.http.CacheControl;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.UUID;
-
 @Slf4j
 @RestController
 @RequestMapping("/api/citizen")
@@ -23,10 +20,26 @@ public class CitizenController {
 
     private final UserService userService;
 
+    /**
+     * Get the poster of the admin for the citizen's prabhag.
+     * Responds with an ETag; clients sending a matching If-None-Match header
+     * receive 304 Not Modified without the image body.
+     *
+     * @param userDetails authenticated citizen
+     * @return image bytes
+     */
     @GetMapping("/admin-poster")
     @PreAuthorize("hasAuthority('ROLE_CITIZEN')")
-    public ResponseEntity<byte[]> getAdminPoster(@AuthenticationPrincipal UserDetails userDetails) {
-        log.info("GET /api/citizen/admin-poster - Fetching poster for citizen: {}", userDetails.getUsername());
-        return userService.getAdminPosterForCitizenByEmail(userDetails.getUsername());
+    public ResponseEntity<byte[]> getAdminPoster(@AuthenticationPrincipal CustomUserDetails userDetails) {
+        log.debug("GET /api/citizen/admin-poster - Fetching poster for citizen: {}", userDetails.getUsername());
+        AdminPosterCache.CachedPoster poster = userService.getCachedAdminPosterForCitizen(userDetails.getUser());
+
+        String contentType = poster.contentType() != null ? poster.contentType() : MediaType.IMAGE_JPEG_VALUE;
+
+        return ResponseEntity.ok()
+                .eTag(poster.etag())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .contentType(MediaType.parseMediaType(contentType))
+                .body(poster.data());
     }
 }
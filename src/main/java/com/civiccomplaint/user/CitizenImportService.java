@@ -0,0 +1,406 @@
+package com.civiccomplaint.user;
+
+import com.civiccomplaint.auth.dto.RegisterRequest;
+import com.civiccomplaint.common.csv.CsvReader;
+import com.civiccomplaint.common.csv.CsvWriter;
+import com.civiccomplaint.exception.ServiceUnavailableException;
+import com.civiccomplaint.master.MasterDataCache;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bulk import of citizens from a CSV upload.
+ * Rows are read, validated, hashed and inserted one chunk at a time while the
+ * per-row report is streamed back, so memory use does not grow with the
+ * size of the file. Only one import runs at a time.
+ */
+@Slf4j
+@Service
+public class CitizenImportService implements DisposableBean {
+
+    static final List<String> COLUMNS = List.of(
+            "fullName", "mobileNumber", "email", "address", "pinCode", "password", "prabhagId");
+
+    private static final String INSERT_SQL = """
+            INSERT INTO users (id, role, full_name, email, mobile_number, password_hash, address, pin_code,
+                               is_active, prabhag_id, created_at, updated_at)
+            VALUES %s
+            ON CONFLICT DO NOTHING
+            RETURNING id
+            """;
+
+    private static final String VALUES_ROW = "(?, CAST(? AS user_role), ?, ?, ?, ?, ?, ?, true, ?, ?, ?)";
+
+    private static final int PARAMETERS_PER_ROW = 11;
+
+    // PostgreSQL binds at most 65535 parameters per statement
+    private static final int MAX_ROWS_PER_STATEMENT = 65535 / PARAMETERS_PER_ROW;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final MasterDataCache masterDataCache;
+    private final Validator validator;
+    private final ExecutorService hashingPool;
+    private final int batchSize;
+    private final Semaphore importPermit = new Semaphore(1);
+
+    public CitizenImportService(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            PasswordEncoder passwordEncoder,
+            MasterDataCache masterDataCache,
+            Validator validator,
+            @Value("${app.import.citizens.batch-size:500}") int batchSize,
+            @Value("${app.import.citizens.hashing-threads:0}") int hashingThreads) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.masterDataCache = masterDataCache;
+        this.validator = validator;
+        this.batchSize = batchSize;
+
+        // Default to half the cores so an import cannot starve login hashing
+        int threads = hashingThreads > 0 ? hashingThreads
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger counter = new AtomicInteger();
+        this.hashingPool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "citizen-import-hash-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Start a citizen import.
+     * The header is read and checked on the calling thread so that a malformed
+     * file fails with a normal error response; the rows are processed while the
+     * returned body writes the report.
+     *
+     * @param file CSV file with a header row naming the {@link #COLUMNS}
+     * @return streaming CSV report with one line per data row
+     */
+    public StreamingResponseBody importCitizens(MultipartFile file) {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("Import file is empty");
+        }
+        if (!importPermit.tryAcquire()) {
+            throw new ServiceUnavailableException("Another citizen import is in progress", 30);
+        }
+
+        CsvReader reader = null;
+        try {
+            reader = new CsvReader(new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8));
+            Map<String, Integer> columns = readHeader(reader);
+
+            CsvReader rows = reader;
+            return out -> {
+                try (rows) {
+                    process(rows, columns, out);
+                } finally {
+                    importPermit.release();
+                }
+            };
+        } catch (IOException e) {
+            closeQuietly(reader);
+            importPermit.release();
+            log.error("Failed to read citizen import file", e);
+            throw new RuntimeException("Failed to read import file", e);
+        } catch (RuntimeException e) {
+            closeQuietly(reader);
+            importPermit.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        hashingPool.shutdownNow();
+    }
+
+    private Map<String, Integer> readHeader(CsvReader reader) throws IOException {
+        List<String> header = reader.readRecord();
+        if (header == null) {
+            throw new IllegalArgumentException("Import file is empty");
+        }
+
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            positions.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String column : COLUMNS) {
+            Integer position = positions.get(column.toLowerCase(Locale.ROOT));
+            if (position == null) {
+                missing.add(column);
+            } else {
+                columns.put(column, position);
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("Missing required columns: " + String.join(", ", missing));
+        }
+        return columns;
+    }
+
+    private void process(CsvReader reader, Map<String, Integer> columns, OutputStream out) throws IOException {
+        CsvWriter writer = new CsvWriter(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+        writer.writeRecord("row", "email", "status", "message");
+
+        Map<RowStatus, Integer> totals = new HashMap<>();
+        List<ImportRow> chunk = new ArrayList<>(batchSize);
+        long startedAt = System.currentTimeMillis();
+
+        while (true) {
+            List<String> record;
+            try {
+                record = reader.readRecord();
+            } catch (IllegalArgumentException e) {
+                // Malformed CSV: report what was processed and stop
+                processChunk(chunk, writer, totals);
+                writer.writeRecord(reader.getRecordNumber(), null, RowStatus.ERROR, e.getMessage());
+                break;
+            }
+            if (record == null) {
+                processChunk(chunk, writer, totals);
+                break;
+            }
+            if (record.stream().allMatch(String::isBlank)) {
+                continue;
+            }
+
+            chunk.add(parseRow(reader.getRecordNumber(), record, columns));
+            if (chunk.size() >= batchSize) {
+                processChunk(chunk, writer, totals);
+            }
+        }
+
+        writer.flush();
+        log.info("Citizen import finished in {} ms: {}", System.currentTimeMillis() - startedAt, totals);
+    }
+
+    private ImportRow parseRow(long rowNumber, List<String> record, Map<String, Integer> columns) {
+        ImportRow row = new ImportRow(rowNumber);
+        RegisterRequest request = RegisterRequest.builder()
+                .fullName(field(record, columns, "fullName"))
+                .mobileNumber(field(record, columns, "mobileNumber"))
+                .email(field(record, columns, "email"))
+                .address(field(record, columns, "address"))
+                .pinCode(field(record, columns, "pinCode"))
+                .password(field(record, columns, "password"))
+                .build();
+        row.request = request;
+
+        List<String> errors = new ArrayList<>();
+        String prabhagId = field(record, columns, "prabhagId");
+        if (prabhagId != null) {
+            try {
+                request.setPrabhagId(Integer.valueOf(prabhagId));
+            } catch (NumberFormatException e) {
+                errors.add("Prabhag ID must be a number");
+            }
+        }
+
+        validator.validate(request).stream()
+                .map(ConstraintViolation::getMessage)
+                .filter(message -> errors.isEmpty() || !message.startsWith("Prabhag ID"))
+                .sorted()
+                .forEach(errors::add);
+        if (!errors.isEmpty()) {
+            return row.fail(RowStatus.INVALID, String.join("; ", errors));
+        }
+
+        if (masterDataCache.findPrabhag(request.getPrabhagId()).isEmpty()) {
+            return row.fail(RowStatus.INVALID, "Prabhag not found with id: " + request.getPrabhagId());
+        }
+        return row;
+    }
+
+    /**
+     * Hash, insert and report a chunk of rows, then clear it.
+     */
+    private void processChunk(List<ImportRow> chunk, CsvWriter writer, Map<RowStatus, Integer> totals)
+            throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        List<ImportRow> pending = chunk.stream().filter(row -> row.status == null).toList();
+        hashPasswords(pending);
+        insert(pending.stream().filter(row -> row.status == null).toList());
+
+        for (ImportRow row : chunk) {
+            writer.writeRecord(row.rowNumber, row.request.getEmail(), row.status, row.message);
+            totals.merge(row.status, 1, Integer::sum);
+        }
+        writer.flush();
+        chunk.clear();
+    }
+
+    private void hashPasswords(List<ImportRow> rows) {
+        List<Callable<String>> tasks = rows.stream()
+                .<Callable<String>>map(row -> () -> passwordEncoder.encode(row.request.getPassword()))
+                .toList();
+
+        List<Future<String>> hashes;
+        try {
+            hashes = hashingPool.invokeAll(tasks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            rows.forEach(row -> row.fail(RowStatus.ERROR, "Import interrupted"));
+            return;
+        }
+
+        for (int i = 0; i < rows.size(); i++) {
+            ImportRow row = rows.get(i);
+            try {
+                row.passwordHash = hashes.get(i).get();
+            } catch (InterruptedException | ExecutionException e) {
+                row.fail(RowStatus.ERROR, "Failed to hash password");
+            }
+            row.request.setPassword(null);
+        }
+    }
+
+    /**
+     * Insert a chunk with multi-row statements in one transaction. Only the
+     * ids returned by the insert are reported as created; rows skipped by
+     * ON CONFLICT DO NOTHING are reported as duplicates.
+     */
+    private void insert(List<ImportRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        rows.forEach(row -> row.id = UUID.randomUUID());
+        Set<UUID> created;
+        try {
+            created = transactionTemplate.execute(status -> {
+                Set<UUID> ids = new HashSet<>();
+                for (int from = 0; from < rows.size(); from += MAX_ROWS_PER_STATEMENT) {
+                    ids.addAll(insertRows(rows.subList(from, Math.min(rows.size(), from + MAX_ROWS_PER_STATEMENT)),
+                            now));
+                }
+                return ids;
+            });
+        } catch (RuntimeException e) {
+            log.error("Failed to insert citizen import batch of {} rows", rows.size(), e);
+            rows.forEach(row -> row.fail(RowStatus.ERROR, "Database error"));
+            return;
+        }
+
+        for (ImportRow row : rows) {
+            if (created.contains(row.id)) {
+                row.status = RowStatus.CREATED;
+            } else {
+                row.fail(RowStatus.DUPLICATE, "Email or mobile number already registered");
+            }
+        }
+    }
+
+    private List<UUID> insertRows(List<ImportRow> rows, LocalDateTime now) {
+        String sql = INSERT_SQL.formatted(String.join(", ", Collections.nCopies(rows.size(), VALUES_ROW)));
+        List<Object> args = new ArrayList<>(rows.size() * PARAMETERS_PER_ROW);
+        for (ImportRow row : rows) {
+            RegisterRequest request = row.request;
+            args.add(row.id);
+            args.add(Role.CITIZEN.name());
+            args.add(request.getFullName());
+            args.add(request.getEmail());
+            args.add(request.getMobileNumber());
+            args.add(row.passwordHash);
+            args.add(request.getAddress());
+            args.add(request.getPinCode());
+            args.add(request.getPrabhagId());
+            args.add(now);
+            args.add(now);
+        }
+        return jdbcTemplate.query(sql, (rs, rowNum) -> rs.getObject(1, UUID.class), args.toArray());
+    }
+
+    private static String field(List<String> record, Map<String, Integer> columns, String column) {
+        int position = columns.get(column);
+        if (position >= record.size()) {
+            return null;
+        }
+        String value = record.get(position).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static void closeQuietly(CsvReader reader) {
+        if (reader == null) {
+            return;
+        }
+        try {
+            reader.close();
+        } catch (IOException e) {
+            log.debug("Failed to close import file", e);
+        }
+    }
+
+    enum RowStatus {
+        CREATED,
+        DUPLICATE,
+        INVALID,
+        ERROR
+    }
+
+    private static final class ImportRow {
+
+        private final long rowNumber;
+        private UUID id;
+        private RegisterRequest request;
+        private String passwordHash;
+        private RowStatus status;
+        private String message;
+
+        ImportRow(long rowNumber) {
+            this.rowNumber = rowNumber;
+        }
+
+        ImportRow fail(RowStatus status, String message) {
+            this.status = status;
+            this.message = message;
+            return this;
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.civiccomplaint.user;
 
 import com.civiccomplaint.common.dto.ApiResponse;
+import com.civiccomplaint.complaint.ComplaintExportService;
 import com.civiccomplaint.user.dto.CreateAdminRequest;
 import com.civiccomplaint.user.dto.UpdateAdminRequest;
 import com.civiccomplaint.user.dto.UserResponse;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,11 +22,15 @@ import com.civiccomplaint.master.dto.CorporatorResponse;
 import com.civiccomplaint.user.dto.CreateUserFromCorporatorRequest;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.async.WebAsyncTask;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -34,9 +40,14 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class SuperAdminController {
 
+    /** Async timeout of complaint exports: none. */
+    private static final long NO_TIMEOUT = 0;
+
     private final UserService userService;
     private final com.civiccomplaint.complaint.ComplaintService complaintService;
     private final CorporatorService corporatorService;
+    private final CitizenImportService citizenImportService;
+    private final ComplaintExportService complaintExportService;
 
     /**
      * Create a new Admin user.
@@ -48,7 +59,7 @@ public class SuperAdminController {
     @PostMapping("/admins")
     @PreAuthorize("hasAuthority('ROLE_SUPER_ADMIN')")
     public ResponseEntity<ApiResponse<UserResponse>> createAdmin(@Valid @RequestBody CreateAdminRequest request) {
-        log.info("POST /api/super-admin/admins - Creating admin user: {}", request.getEmail());
+        log.debug("POST /api/super-admin/admins - Creating admin user: {}", request.getEmail());
         UserResponse createdAdmin = userService.createAdmin(request);
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success("Admin user created successfully", createdAdmin));
@@ -67,7 +78,7 @@ public class SuperAdminController {
     public ResponseEntity<ApiResponse<UserResponse>> updateAdmin(
             @PathVariable UUID id,
             @Valid @RequestBody UpdateAdminRequest request) {
-        log.info("PUT /api/super-admin/admins/{} - Updating admin user", id);
+        log.debug("PUT /api/super-admin/admins/{} - Updating admin user", id);
         UserResponse updatedAdmin = userService.updateAdmin(id, request);
         return ResponseEntity.ok(ApiResponse.success("Admin user updated successfully", updatedAdmin));
     }
@@ -85,11 +96,34 @@ public class SuperAdminController {
     public ResponseEntity<ApiResponse<Void>> uploadAdminPoster(
             @PathVariable UUID adminId,
             @RequestParam("file") MultipartFile file) {
-        log.info("POST /api/super-admin/admins/{}/poster - Uploading poster image", adminId);
+        log.debug("POST /api/super-admin/admins/{}/poster - Uploading poster image", adminId);
         userService.uploadAdminPoster(adminId, file);
         return ResponseEntity.ok(ApiResponse.success("Poster image uploaded successfully", null));
     }
 
+    /**
+     * Bulk import citizens from a CSV file.
+     * Only accessible by SUPER_ADMIN. The header row must name the columns
+     * fullName, mobileNumber, email, address, pinCode, password and prabhagId.
+     * The response is a CSV report (row, email, status, message) streamed as
+     * rows are processed.
+     *
+     * @param file CSV file
+     * @return streaming CSV report
+     */
+    @PostMapping(value = "/citizens/import", consumes = org.springframework.http.MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasAuthority('ROLE_SUPER_ADMIN')")
+    public ResponseEntity<StreamingResponseBody> importCitizens(@RequestParam("file") MultipartFile file) {
+        log.debug("POST /api/super-admin/citizens/import - Importing citizens from {} ({} bytes)",
+                file.getOriginalFilename(), file.getSize());
+        StreamingResponseBody report = citizenImportService.importCitizens(file);
+        return ResponseEntity.ok()
+                .header(org.springframework.http.HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"citizen-import-report.csv\"")
+                .contentType(new org.springframework.http.MediaType("text", "csv", java.nio.charset.StandardCharsets.UTF_8))
+                .body(report);
+    }
+
     /**
      * Get a poster image for an admin.
      * Only accessible by SUPER_ADMIN.
@@ -100,7 +134,7 @@ public class SuperAdminController {
     @GetMapping("/admins/{adminId}/poster")
     @PreAuthorize("hasAuthority('ROLE_SUPER_ADMIN')")
     public ResponseEntity<byte[]> getAdminPoster(@PathVariable UUID adminId) {
-        log.info("GET /api/super-admin/admins/{}/poster - Fetching poster image", adminId);
+        log.debug("GET /api/super-admin/admins/{}/poster - Fetching poster image", adminId);
         org.springframework.data.util.Pair<byte[], String> posterData = userService.getAdminPoster(adminId);
 
         String contentType = posterData.getSecond();
@@ -121,6 +155,8 @@ public class SuperAdminController {
      * @param adminId   optional filter by admin ID
      * @param prabhagId optional filter by prabhag ID
      * @param status    optional filter by status
+     * @param fields    optional comma-separated fields to return, e.g.
+     *                  id,complaintNumber,title,status,createdAt
      * @return paginated complaints
      */
     @GetMapping("/complaints")
@@ -130,17 +166,62 @@ public class SuperAdminController {
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) UUID adminId,
             @RequestParam(required = false) Integer prabhagId,
-            @RequestParam(required = false) com.civiccomplaint.complaint.ComplaintStatus status) {
-        log.info("GET /api/super-admin/complaints - Page: {}, Size: {}, AdminId: {}, PrabhagId: {}, Status: {}", page,
+            @RequestParam(required = false) com.civiccomplaint.complaint.ComplaintStatus status,
+            @RequestParam(required = false) String fields) {
+        log.debug("GET /api/super-admin/complaints - Page: {}, Size: {}, AdminId: {}, PrabhagId: {}, Status: {}", page,
                 size, adminId, prabhagId, status);
 
         Pageable pageable = PageRequest.of(page, size);
         com.civiccomplaint.common.dto.PaginatedResponse<com.civiccomplaint.complaint.dto.ComplaintResponse> response = complaintService
-                .getComplaintsForSuperAdmin(adminId, prabhagId, status, pageable);
+                .getComplaintsForSuperAdmin(adminId, prabhagId, status,
+                        fields != null ? com.civiccomplaint.complaint.ComplaintField.parse(fields) : null, pageable);
 
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * Export all complaints matching the filters, oldest first.
+     * Only accessible by SUPER_ADMIN. The file is streamed from a database
+     * cursor, so there is no size limit and no paging. Large exports can
+     * outlast spring.mvc.async.request-timeout, so the export runs without a
+     * timeout; the number of concurrent exports is capped instead.
+     *
+     * @param format        csv (default) or ndjson
+     * @param from          optional first creation date, inclusive
+     * @param to            optional last creation date, inclusive
+     * @param prabhagId     optional filter by prabhag ID
+     * @param status        optional filter by status
+     * @param complaintType optional filter by complaint type
+     * @param httpResponse  HTTP response the export is written to
+     * @return export task
+     */
+    @GetMapping("/complaints/export")
+    @PreAuthorize("hasAuthority('ROLE_SUPER_ADMIN')")
+    public WebAsyncTask<Void> exportComplaints(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Integer prabhagId,
+            @RequestParam(required = false) com.civiccomplaint.complaint.ComplaintStatus status,
+            @RequestParam(required = false) com.civiccomplaint.complaint.ComplaintType complaintType,
+            HttpServletResponse httpResponse) {
+        log.debug("GET /api/super-admin/complaints/export - Format: {}, From: {}, To: {}, PrabhagId: {}, Status: {}, Type: {}",
+                format, from, to, prabhagId, status, complaintType);
+        ComplaintExportService.Format exportFormat = ComplaintExportService.Format.parse(format);
+        ComplaintExportService.Export export = complaintExportService.export(exportFormat, from, to, prabhagId,
+                status, complaintType);
+        httpResponse.setContentType(exportFormat.getMediaType().toString());
+        httpResponse.setHeader(org.springframework.http.HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"complaints." + exportFormat.getExtension() + "\"");
+        WebAsyncTask<Void> task = new WebAsyncTask<>(NO_TIMEOUT, () -> {
+            export.writeTo(httpResponse.getOutputStream());
+            return null;
+        });
+        // Frees the export slot if the request ends before the export starts
+        task.onCompletion(export::cancel);
+        return task;
+    }
+
     /**
      * Get all admin users.
      * Only accessible by SUPER_ADMIN.
@@ -150,7 +231,7 @@ public class SuperAdminController {
     @GetMapping("/admins")
     @PreAuthorize("hasAuthority('ROLE_SUPER_ADMIN')")
     public ResponseEntity<ApiResponse<List<UserResponse>>> getAllAdmins() {
-        log.info("GET /api/super-admin/admins - Fetching all admins");
+        log.debug("GET /api/super-admin/admins - Fetching all admins");
         List<UserResponse> admins = userService.getAllAdmins();
         return ResponseEntity.ok(ApiResponse.success(admins));
     }
@@ -164,7 +245,7 @@ public class SuperAdminController {
     @GetMapping("/corporators")
     @PreAuthorize("hasAuthority('ROLE_SUPER_ADMIN')")
     public ResponseEntity<ApiResponse<List<CorporatorResponse>>> getAllCorporators() {
-        log.info("GET /api/super-admin/corporators - Fetching all corporators");
+        log.debug("GET /api/super-admin/corporators - Fetching all corporators");
         List<CorporatorResponse> corporators = corporatorService.getAllCorporators();
         return ResponseEntity.ok(ApiResponse.success(corporators));
     }
@@ -182,7 +263,7 @@ public class SuperAdminController {
     public ResponseEntity<ApiResponse<UserResponse>> createUserFromCorporator(
             @PathVariable Integer id,
             @Valid @org.springframework.web.bind.annotation.ModelAttribute CreateUserFromCorporatorRequest request) {
-        log.info("POST /api/super-admin/corporators/{}/create-user - Creating user for corporator", id);
+        log.debug("POST /api/super-admin/corporators/{}/create-user - Creating user for corporator", id);
         UserResponse createdUser = userService.createAdminFromCorporator(id, request);
         return ResponseEntity.ok(ApiResponse.success("User account created successfully", createdUser));
     }
@@ -42,12 +42,12 @@ public class User extends BaseEntity {
 
         @NotBlank(message = "Mobile number is required")
         @Pattern(regexp = "^\\+?[0-9]{10,15}$", message = "Mobile number must be 10-15 digits, optionally starting with +")
-        @Column(name = "mobile_number", nullable = false, unique = true, length = 15)
+        @Column(name = "mobile_number", nullable = false, length = 15)
         private String mobileNumber;
 
         @NotBlank(message = "Email is required")
         @Email(message = "Email must be valid")
-        @Column(name = "email", nullable = false, unique = true)
+        @Column(name = "email", nullable = false)
         private String email;
 
         @NotBlank(message = "Address is required")
@@ -0,0 +1,60 @@
+package com.civiccomplaint.user;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Maps unique-constraint violations on the users table to user-facing errors.
+ * Lets user creation insert directly instead of checking for duplicates
+ * first, which costs extra round-trips and still races with concurrent inserts.
+ */
+public final class UserConstraintViolations {
+
+    public static final String EMAIL_CONSTRAINT = "uk_users_email";
+    public static final String MOBILE_CONSTRAINT = "uk_users_mobile";
+
+    private static final Pattern EMAIL_COLUMN = Pattern.compile("\\(email\\b");
+    private static final Pattern MOBILE_COLUMN = Pattern.compile("\\(mobile_number\\b");
+
+    private UserConstraintViolations() {
+    }
+
+    /**
+     * Translate a data integrity violation raised while inserting or updating
+     * a user.
+     *
+     * @param ex the violation
+     * @return IllegalArgumentException for duplicate email or mobile number,
+     *         otherwise the original exception
+     */
+    public static RuntimeException translate(DataIntegrityViolationException ex) {
+        String constraint = constraintName(ex);
+        if (constraint.contains(EMAIL_CONSTRAINT) || EMAIL_COLUMN.matcher(constraint).find()) {
+            return new IllegalArgumentException("Email already registered");
+        }
+        if (constraint.contains(MOBILE_CONSTRAINT) || MOBILE_COLUMN.matcher(constraint).find()) {
+            return new IllegalArgumentException("Mobile number already registered");
+        }
+        return ex;
+    }
+
+    /**
+     * Get the violated constraint name, falling back to the driver message
+     * (which names the offending column) when it cannot be extracted.
+     */
+    private static String constraintName(DataIntegrityViolationException ex) {
+        if (ex.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null) {
+            String name = violation.getConstraintName().toLowerCase(Locale.ROOT);
+            if (name.contains(EMAIL_CONSTRAINT) || name.contains(MOBILE_CONSTRAINT)) {
+                return name;
+            }
+        }
+        String message = NestedExceptionUtils.getMostSpecificCause(ex).getMessage();
+        return message != null ? message.toLowerCase(Locale.ROOT) : "";
+    }
+}
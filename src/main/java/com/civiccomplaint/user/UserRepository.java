@@ -1,7 +1,11 @@
 package com.civiccomplaint.user;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -83,4 +87,19 @@ public interface UserRepository extends JpaRepository<User, UUID> {
      * @return Optional containing user if found
      */
     Optional<User> findFirstByPrabhagIdAndRole(Integer prabhagId, Role role);
+
+    /**
+     * Replace a user's password hash if it still equals the expected hash.
+     * Used to rehash passwords after a BCrypt cost change without clobbering a
+     * concurrent password change.
+     *
+     * @param id      the user ID
+     * @param oldHash the hash the new one replaces
+     * @param newHash the new hash
+     * @return number of updated rows
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.password = :newHash WHERE u.id = :id AND u.password = :oldHash")
+    int updatePasswordHash(@Param("id") UUID id, @Param("oldHash") String oldHash, @Param("newHash") String newHash);
 }
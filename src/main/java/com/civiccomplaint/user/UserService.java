@@ -1,15 +1,19 @@
 package com.civiccomplaint.user;
 
+import com.civiccomplaint.auth.PasswordHashingService;
+import com.civiccomplaint.common.util.TransactionCallbacks;
 import com.civiccomplaint.exception.ResourceNotFoundException;
 import com.civiccomplaint.master.Prabhag;
 import com.civiccomplaint.master.PrabhagRepository;
 import com.civiccomplaint.master.CorporatorRepository;
+import com.civiccomplaint.master.MasterDataCache;
 import com.civiccomplaint.user.dto.CreateAdminRequest;
 import com.civiccomplaint.master.dto.PrabhagResponse;
 import com.civiccomplaint.user.dto.UpdateAdminRequest;
 import com.civiccomplaint.user.dto.UserResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,34 +30,29 @@ public class UserService {
     private final PrabhagRepository prabhagRepository;
     private final CorporatorRepository corporatorRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final AdminPosterCache adminPosterCache;
+    private final MasterDataCache masterDataCache;
 
     /**
      * Create a new Admin user.
      * Can only be called by SUPER_ADMIN (enforced by controller).
+     * Inserts directly; duplicates are detected from the unique constraints.
      *
      * @param request admin creation request
      * @return created user response
      */
-    @Transactional
     public UserResponse createAdmin(CreateAdminRequest request) {
         log.info("Creating new Admin user with email: {}", request.getEmail());
 
-        if (userRepository.existsByEmail(request.getEmail())) {
-            throw new IllegalArgumentException("Email already registered");
-        }
-
-        if (userRepository.existsByMobileNumber(request.getMobileNumber())) {
-            throw new IllegalArgumentException("Mobile number already registered");
-        }
-
-        Prabhag prabhag = prabhagRepository.findById(request.getPrabhagId())
+        Prabhag prabhag = masterDataCache.findPrabhag(request.getPrabhagId())
                 .orElseThrow(() -> new ResourceNotFoundException("Prabhag", "id", request.getPrabhagId()));
 
         User admin = User.builder()
                 .fullName(request.getFullName())
                 .email(request.getEmail())
                 .mobileNumber(request.getMobileNumber())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(passwordHashingService.encode(request.getPassword()))
                 .address(request.getAddress())
                 .pinCode(request.getPinCode())
                 .role(Role.ADMIN)
@@ -61,9 +60,14 @@ public class UserService {
                 .isActive(true)
                 .build();
 
-        admin = userRepository.save(admin);
+        try {
+            admin = userRepository.saveAndFlush(admin);
+        } catch (DataIntegrityViolationException e) {
+            throw UserConstraintViolations.translate(e);
+        }
         log.info("Admin created successfully with ID: {}", admin.getId());
 
+        evictPostersAfterCommit(prabhag.getId());
         return mapToUserResponse(admin);
     }
 
@@ -128,6 +132,7 @@ public class UserService {
             admin.setPosterImage(file.getBytes());
             admin.setPosterImageContentType(contentType);
             userRepository.save(admin);
+            evictPostersAfterCommit(admin.getPrabhag() != null ? admin.getPrabhag().getId() : null);
             log.info("Poster image uploaded successfully for admin: {}", adminId);
         } catch (java.io.IOException e) {
             log.error("Failed to read poster image file", e);
@@ -197,21 +202,48 @@ public class UserService {
     }
 
     /**
-     * Get admin poster image for a citizen by email.
+     * Get admin poster image for an authenticated citizen.
+     * Served from {@link AdminPosterCache}; only a cache miss queries the
+     * database, and the citizen's prabhag ID is read from the already loaded
+     * principal without initializing the prabhag.
      *
-     * @param email email of the citizen
-     * @return ResponseEntity with image
+     * @param citizen the authenticated citizen
+     * @return cached poster with content type and ETag
      */
-    @Transactional(readOnly = true)
-    public org.springframework.http.ResponseEntity<byte[]> getAdminPosterForCitizenByEmail(String email) {
-        User citizen = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "email", email));
+    public AdminPosterCache.CachedPoster getCachedAdminPosterForCitizen(User citizen) {
+        if (citizen.getPrabhag() == null) {
+            throw new ResourceNotFoundException("Prabhag", "user", citizen.getId());
+        }
 
-        org.springframework.data.util.Pair<byte[], String> posterData = getAdminPosterForCitizen(citizen.getId());
+        Integer prabhagId = citizen.getPrabhag().getId();
+        return adminPosterCache.get(prabhagId).orElseGet(() -> loadAdminPoster(prabhagId));
+    }
 
-        return org.springframework.http.ResponseEntity.ok()
-                .header(org.springframework.http.HttpHeaders.CONTENT_TYPE, posterData.getSecond())
-                .body(posterData.getFirst());
+    private AdminPosterCache.CachedPoster loadAdminPoster(Integer prabhagId) {
+        long generation = adminPosterCache.generation();
+
+        User admin = userRepository.findFirstByPrabhagIdAndRole(prabhagId, Role.ADMIN)
+                .orElseThrow(() -> new ResourceNotFoundException("Admin", "prabhag", prabhagId));
+
+        if (admin.getPosterImage() == null) {
+            throw new ResourceNotFoundException("Poster", "admin", admin.getId());
+        }
+
+        return adminPosterCache.put(prabhagId, admin.getPosterImage(), admin.getPosterImageContentType(), generation);
+    }
+
+    /**
+     * Evict cached admin posters once the current transaction commits, so a
+     * concurrent reader cannot re-cache the pre-commit state.
+     *
+     * @param prabhagIds affected prabhag IDs
+     */
+    private void evictPostersAfterCommit(Integer... prabhagIds) {
+        TransactionCallbacks.afterCommit(() -> {
+            for (Integer prabhagId : prabhagIds) {
+                adminPosterCache.evict(prabhagId);
+            }
+        });
     }
 
     /**
@@ -307,6 +339,8 @@ public class UserService {
         }
         corporatorRepository.save(corporator);
 
+        TransactionCallbacks.afterCommit(masterDataCache::invalidateCorporators);
+        evictPostersAfterCommit(corporator.getPrabhag().getId());
         return mapToUserResponse(admin);
     }
 
@@ -342,6 +376,8 @@ public class UserService {
         Prabhag prabhag = prabhagRepository.findById(request.getPrabhagId())
                 .orElseThrow(() -> new ResourceNotFoundException("Prabhag", "id", request.getPrabhagId()));
 
+        Integer previousPrabhagId = admin.getPrabhag() != null ? admin.getPrabhag().getId() : null;
+
         admin.setFullName(request.getFullName());
         admin.setEmail(request.getEmail());
         admin.setMobileNumber(request.getMobileNumber());
@@ -356,6 +392,10 @@ public class UserService {
         admin = userRepository.save(admin);
         log.info("Admin updated successfully with ID: {}", admin.getId());
 
+        if (!prabhag.getId().equals(previousPrabhagId)) {
+            evictPostersAfterCommit(previousPrabhagId, prabhag.getId());
+        }
+
         return mapToUserResponse(admin);
     }
 }
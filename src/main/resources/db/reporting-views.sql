@@ -0,0 +1,49 @@
+-- ============================================================================
+-- Ward reporting views.
+-- Applied by ReportingViewRefresher before its first refresh; every statement
+-- is idempotent. The views are created empty and populated by the first
+-- refresh, so startup never waits for a scan of the complaints table.
+-- Later refreshes are CONCURRENTLY, which needs the unique indexes below.
+-- ============================================================================
+
+-- Complaints per ward, creation month and type, by current status
+CREATE MATERIALIZED VIEW IF NOT EXISTS report_ward_monthly AS
+SELECT u.prabhag_id,
+       CAST(date_trunc('month', c.created_at) AS date) AS month,
+       c.complaint_type,
+       count(*) AS created_count,
+       count(*) FILTER (WHERE c.status = 'PENDING') AS pending_count,
+       count(*) FILTER (WHERE c.status = 'IN_PROGRESS') AS in_progress_count,
+       count(*) FILTER (WHERE c.status = 'RESOLVED') AS resolved_count
+FROM complaints c
+JOIN users u ON u.id = c.user_id
+GROUP BY u.prabhag_id, CAST(date_trunc('month', c.created_at) AS date), c.complaint_type
+WITH NO DATA;
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_report_ward_monthly
+    ON report_ward_monthly (prabhag_id, month, complaint_type);
+
+-- Open complaints per ward, type, status and creation day. Ages are derived
+-- from created_on at query time, so rows only change when complaints do.
+CREATE MATERIALIZED VIEW IF NOT EXISTS report_ward_backlog AS
+SELECT u.prabhag_id,
+       c.complaint_type,
+       c.status,
+       CAST(c.created_at AS date) AS created_on,
+       count(*) AS open_count
+FROM complaints c
+JOIN users u ON u.id = c.user_id
+WHERE c.status <> 'RESOLVED'
+GROUP BY u.prabhag_id, c.complaint_type, c.status, CAST(c.created_at AS date)
+WITH NO DATA;
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_report_ward_backlog
+    ON report_ward_backlog (prabhag_id, complaint_type, status, created_on);
+
+-- Last successful refresh of each view, shared by all application instances
+CREATE TABLE IF NOT EXISTS reporting_view_refreshes (
+    view_name VARCHAR(63) PRIMARY KEY,
+    refreshed_at TIMESTAMP NOT NULL,
+    duration_ms BIGINT NOT NULL,
+    row_count BIGINT NOT NULL
+);
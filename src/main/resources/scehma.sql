@@ -4,6 +4,11 @@
 -- ============================================================================
 
 -- Drop existing tables (in correct order due to foreign keys)
+-- The reporting views go with the complaints table; the application
+-- recreates them, see db/reporting-views.sql
+DROP TABLE IF EXISTS reporting_view_refreshes CASCADE;
+DROP TABLE IF EXISTS outbox_events CASCADE;
+DROP TABLE IF EXISTS complaint_status_events CASCADE;
 DROP TABLE IF EXISTS complaint_attachments CASCADE;
 DROP TABLE IF EXISTS complaints CASCADE;
 DROP TABLE IF EXISTS users CASCADE;
@@ -60,10 +65,10 @@ CREATE INDEX idx_prabhags_code ON prabhags(code);
 -- ============================================================================
 CREATE TABLE users (
     id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
-    email VARCHAR(255) NOT NULL UNIQUE,
+    email VARCHAR(255) NOT NULL,
     password_hash VARCHAR(255) NOT NULL,
     full_name VARCHAR(255) NOT NULL,
-    mobile_number VARCHAR(15) NOT NULL UNIQUE,
+    mobile_number VARCHAR(15) NOT NULL,
     address TEXT NOT NULL,
     pin_code VARCHAR(10) NOT NULL,
     role user_role NOT NULL DEFAULT 'CITIZEN',
@@ -77,6 +82,10 @@ CREATE TABLE users (
     created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
 
+    -- Named so that duplicate registrations can be reported per field
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT uk_users_mobile UNIQUE (mobile_number),
+
     CONSTRAINT fk_users_prabhag
         FOREIGN KEY (prabhag_id)
         REFERENCES prabhags(id)
@@ -147,6 +156,60 @@ CREATE TABLE complaint_attachments (
 -- Complaint attachments indexes
 CREATE INDEX idx_complaint_attachments_complaint_id ON complaint_attachments(complaint_id);
 
+-- ============================================================================
+-- COMPLAINT_STATUS_EVENTS TABLE
+-- Append-only history of status changes, used for timelines and SLA analytics.
+-- prabhag_id and complaint_type are copied from the complaint at change time.
+-- ============================================================================
+CREATE TABLE complaint_status_events (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    complaint_id UUID NOT NULL,
+    from_status complaint_status,
+    to_status complaint_status NOT NULL,
+    changed_by UUID,
+    prabhag_id INT,
+    complaint_type complaint_type NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_status_events_complaint
+        FOREIGN KEY (complaint_id)
+        REFERENCES complaints(id)
+        ON DELETE CASCADE,
+
+    CONSTRAINT fk_status_events_user
+        FOREIGN KEY (changed_by)
+        REFERENCES users(id)
+        ON DELETE SET NULL
+);
+
+-- Per-complaint timelines
+CREATE INDEX idx_status_events_complaint_created ON complaint_status_events(complaint_id, created_at);
+-- Resolution analytics
+CREATE INDEX idx_status_events_to_status_created ON complaint_status_events(to_status, created_at);
+
+-- ============================================================================
+-- OUTBOX_EVENTS TABLE
+-- Domain events written in the same transaction as the change they describe,
+-- delivered asynchronously by the outbox relay and purged after retention.
+-- ============================================================================
+CREATE TABLE outbox_events (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id UUID NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    payload JSONB NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    available_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    attempts INT NOT NULL DEFAULT 0,
+    last_error TEXT,
+    published_at TIMESTAMP
+);
+
+-- Relay polling: only undelivered rows are indexed
+CREATE INDEX idx_outbox_events_pending ON outbox_events(available_at, id) WHERE published_at IS NULL;
+-- Retention purge
+CREATE INDEX idx_outbox_events_published_at ON outbox_events(published_at);
+
 -- ============================================================================
 -- COMPLAINT_SEQUENCES TABLE
 -- Tracks the sequential ID for each prabhag per year
@@ -0,0 +1,135 @@
+package com.civiccomplaint;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Base class of tests that run the application against PostgreSQL.
+ * One embedded server is started per test JVM and bootstrapped with the
+ * shipped schema, which the test profile validates; the application context
+ * is shared by all subclasses with the same configuration. The server stops
+ * on its own shutdown hook, which may run before the contexts are closed:
+ * the test profile keeps scheduled database work off and connection
+ * timeouts short, so that closing a context does not wait on it. The embedded
+ * Tomcat is started as in production, since it provides the classpath: URL
+ * handler the Ehcache configuration is loaded through. Each test starts
+ * from empty tables and builds its data with {@link TestFixtures}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestFixtures.class)
+public abstract class PostgresIntegrationTest {
+
+    /** The shipped schema, then the changes the entity mappings need. */
+    private static final List<String> SCHEMA_SCRIPTS = List.of("/scehma.sql", "/db/test-schema-fixup.sql");
+
+    private static EmbeddedPostgres postgres;
+
+    @Autowired
+    protected TestFixtures fixtures;
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", PostgresIntegrationTest::jdbcUrl);
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+    }
+
+    @BeforeEach
+    void resetData() {
+        fixtures.reset();
+    }
+
+    /**
+     * Get the JDBC URL of the embedded server's database.
+     *
+     * @return JDBC URL, with the user as a query parameter
+     */
+    protected static String jdbcUrl() {
+        return server().getJdbcUrl("postgres", "postgres");
+    }
+
+    /**
+     * Run SQL on the embedded server outside any application context, e.g.
+     * in a {@code @BeforeAll} method to prepare objects the context needs
+     * at startup.
+     *
+     * @param sql one or more statements
+     */
+    protected static void execute(String sql) {
+        try (Connection connection = server().getPostgresDatabase().getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to run SQL on the test database", e);
+        }
+    }
+
+    /**
+     * (Re)create a schema holding the same tables as the default one, e.g.
+     * for a tenant.
+     *
+     * @param schema schema name
+     */
+    protected static void createSchema(String schema) {
+        try (Connection connection = server().getPostgresDatabase().getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA IF EXISTS " + schema + " CASCADE; CREATE SCHEMA " + schema
+                    + "; SET search_path TO " + schema);
+            for (String script : SCHEMA_SCRIPTS) {
+                statement.execute(read(script));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read the test schema", e);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to create schema " + schema, e);
+        }
+    }
+
+    private static synchronized EmbeddedPostgres server() {
+        if (postgres == null) {
+            try {
+                EmbeddedPostgres server = EmbeddedPostgres.builder().start();
+                bootstrap(server);
+                postgres = server;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to start embedded PostgreSQL", e);
+            }
+        }
+        return postgres;
+    }
+
+    private static void bootstrap(EmbeddedPostgres server) throws IOException {
+        try (Connection connection = server.getPostgresDatabase().getConnection();
+                Statement statement = connection.createStatement()) {
+            for (String script : SCHEMA_SCRIPTS) {
+                statement.execute(read(script));
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to bootstrap the test database", e);
+        }
+    }
+
+    private static String read(String resource) throws IOException {
+        try (InputStream in = PostgresIntegrationTest.class.getResourceAsStream(resource)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.civiccomplaint;
+
+import com.civiccomplaint.complaint.Complaint;
+import com.civiccomplaint.complaint.ComplaintRepository;
+import com.civiccomplaint.complaint.ComplaintStatus;
+import com.civiccomplaint.complaint.ComplaintType;
+import com.civiccomplaint.master.MasterDataCache;
+import com.civiccomplaint.master.Prabhag;
+import com.civiccomplaint.master.PrabhagRepository;
+import com.civiccomplaint.user.Role;
+import com.civiccomplaint.user.User;
+import com.civiccomplaint.user.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.test.context.TestComponent;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test data for integration tests. {@link PostgresIntegrationTest} resets
+ * the data before each test, so fixtures only need to be unique within one
+ * test. Everything is created in the current tenant.
+ */
+@TestComponent
+public class TestFixtures {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final MasterDataCache masterDataCache;
+    private final PrabhagRepository prabhagRepository;
+    private final UserRepository userRepository;
+    private final ComplaintRepository complaintRepository;
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    public TestFixtures(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory,
+            MasterDataCache masterDataCache, PrabhagRepository prabhagRepository, UserRepository userRepository,
+            ComplaintRepository complaintRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.masterDataCache = masterDataCache;
+        this.prabhagRepository = prabhagRepository;
+        this.userRepository = userRepository;
+        this.complaintRepository = complaintRepository;
+    }
+
+    /**
+     * Delete all application data and drop what the caches hold of it.
+     */
+    public void reset() {
+        jdbcTemplate.execute("""
+                TRUNCATE complaint_status_events, outbox_events, complaint_attachments, complaints,
+                    complaint_sequences, corporator, users, prabhags CASCADE
+                """);
+        entityManagerFactory.getCache().evictAll();
+        masterDataCache.invalidatePrabhags();
+    }
+
+    /**
+     * Create a prabhag.
+     *
+     * @param code prabhag code, also used in its name
+     * @return saved prabhag
+     */
+    public Prabhag prabhag(String code) {
+        Prabhag prabhag = prabhagRepository.save(Prabhag.builder()
+                .name("Prabhag " + code)
+                .code(code)
+                .build());
+        masterDataCache.invalidatePrabhags();
+        return prabhag;
+    }
+
+    /**
+     * Create a user with a unique mobile number and email.
+     *
+     * @param role    user role
+     * @param prabhag the user's prabhag, or null
+     * @return saved user
+     */
+    public User user(Role role, Prabhag prabhag) {
+        int n = sequence.incrementAndGet();
+        String name = role.name().toLowerCase(Locale.ROOT);
+        return userRepository.save(User.builder()
+                .role(role)
+                .fullName(name + " " + n)
+                .mobileNumber(String.format(Locale.ROOT, "9%09d", n))
+                .email(name + n + "@example.com")
+                .address("Deccan")
+                .pinCode("411004")
+                .password("not-a-real-hash")
+                .prabhag(prabhag)
+                .build());
+    }
+
+    /**
+     * Create a complaint with a unique complaint number.
+     *
+     * @param citizen complaint owner
+     * @param type    complaint type
+     * @param status  current status
+     * @return saved complaint
+     */
+    public Complaint complaint(User citizen, ComplaintType type, ComplaintStatus status) {
+        return complaintRepository.save(Complaint.builder()
+                .user(citizen)
+                .complaintNumber(String.format(Locale.ROOT, "CMP-TST-2026-%04d", sequence.incrementAndGet()))
+                .title("Pothole")
+                .description("Deep pothole")
+                .complaintType(type)
+                .status(status)
+                .latitude(BigDecimal.valueOf(18.5))
+                .longitude(BigDecimal.valueOf(73.8))
+                .locationText("FC Road")
+                .build());
+    }
+}
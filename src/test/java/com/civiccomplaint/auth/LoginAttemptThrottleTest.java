@@ -0,0 +1,82 @@
+package com.civiccomplaint.auth;
+
+import com.civiccomplaint.exception.TooManyRequestsException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginAttemptThrottleTest {
+
+    private static final String IP = "203.0.113.7";
+
+    @Test
+    void concurrentGuessesCannotExceedTheFailureLimit() throws Exception {
+        LoginAttemptThrottle throttle = throttle(5, 100);
+        List<Callable<Boolean>> guesses = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            guesses.add(() -> {
+                try {
+                    throttle.acquire("citizen@example.com", IP);
+                    return true;
+                } catch (TooManyRequestsException e) {
+                    return false;
+                }
+            });
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(20);
+        int admitted = 0;
+        try {
+            for (Future<Boolean> guess : executor.invokeAll(guesses)) {
+                admitted += guess.get() ? 1 : 0;
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(admitted).isEqualTo(5);
+    }
+
+    @Test
+    void successAndReleaseGiveAttemptsBack() {
+        LoginAttemptThrottle throttle = throttle(2, 100);
+
+        throttle.acquire("citizen@example.com", IP);
+        throttle.release("citizen@example.com");
+        throttle.acquire("citizen@example.com", IP);
+        throttle.acquire("citizen@example.com", IP);
+        assertThatThrownBy(() -> throttle.acquire("citizen@example.com", IP))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        throttle.recordSuccess("citizen@example.com");
+        assertThatCode(() -> throttle.acquire("citizen@example.com", IP)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void newKeysAreRejectedOnceTheKeyCapIsReached() {
+        LoginAttemptThrottle throttle = throttle(5, 2);
+
+        throttle.acquire("first@example.com", IP);
+        throttle.acquire("second@example.com", IP);
+
+        assertThatThrownBy(() -> throttle.acquire("third@example.com", IP))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThat(throttle.getStatistics().identifier().overCapacity()).isEqualTo(1);
+        assertThatCode(() -> throttle.acquire("first@example.com", IP)).doesNotThrowAnyException();
+    }
+
+    private static LoginAttemptThrottle throttle(int maxFailures, int maxTrackedKeys) {
+        return new LoginAttemptThrottle(1000, Duration.ofMinutes(1), maxFailures, Duration.ofMinutes(15),
+                maxTrackedKeys);
+    }
+}
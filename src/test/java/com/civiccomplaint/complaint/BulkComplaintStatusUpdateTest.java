@@ -0,0 +1,70 @@
+package com.civiccomplaint.complaint;
+
+import com.civiccomplaint.PostgresIntegrationTest;
+import com.civiccomplaint.complaint.dto.BulkComplaintStatusUpdateRequest;
+import com.civiccomplaint.complaint.dto.BulkComplaintStatusUpdateResponse;
+import com.civiccomplaint.user.Role;
+import com.civiccomplaint.user.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A bulk status change records a status event and an outbox event carrying
+ * the replaced status for each complaint it actually changes.
+ */
+class BulkComplaintStatusUpdateTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private ComplaintService complaintService;
+
+    @Autowired
+    private ComplaintRepository complaintRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void writesEventsFromTheReplacedStatus() {
+        User superAdmin = fixtures.user(Role.SUPER_ADMIN, null);
+        User citizen = fixtures.user(Role.CITIZEN, null);
+        UUID pending = complaint(citizen, ComplaintStatus.PENDING);
+        UUID inProgress = complaint(citizen, ComplaintStatus.IN_PROGRESS);
+        UUID resolved = complaint(citizen, ComplaintStatus.RESOLVED);
+
+        BulkComplaintStatusUpdateResponse response = complaintService.bulkUpdateComplaintStatus(superAdmin,
+                BulkComplaintStatusUpdateRequest.builder()
+                        .complaintIds(List.of(pending, inProgress, resolved))
+                        .status(ComplaintStatus.RESOLVED)
+                        .build());
+
+        assertThat(response.getUpdated()).isEqualTo(2);
+        assertThat(complaintRepository.findAllById(List.of(pending, inProgress)))
+                .extracting(Complaint::getStatus).containsOnly(ComplaintStatus.RESOLVED);
+
+        List<Map<String, Object>> events = jdbcTemplate.queryForList("""
+                SELECT complaint_id, CAST(from_status AS text) AS from_status, CAST(to_status AS text) AS to_status
+                FROM complaint_status_events WHERE complaint_id IN (?, ?, ?)
+                """, pending, inProgress, resolved);
+        assertThat(events).extracting(event -> event.get("complaint_id") + ":" + event.get("from_status"))
+                .containsExactlyInAnyOrder(pending + ":PENDING", inProgress + ":IN_PROGRESS");
+        assertThat(events).extracting(event -> event.get("to_status")).containsOnly("RESOLVED");
+
+        List<String> outbox = jdbcTemplate.queryForList("""
+                SELECT payload ->> 'fromStatus' FROM outbox_events
+                WHERE event_type = 'ComplaintStatusChanged' AND aggregate_id IN (?, ?, ?)
+                ORDER BY payload ->> 'fromStatus'
+                """, String.class, pending, inProgress, resolved);
+        assertThat(outbox).containsExactly("IN_PROGRESS", "PENDING");
+    }
+
+    private UUID complaint(User citizen, ComplaintStatus status) {
+        return fixtures.complaint(citizen, ComplaintType.ROAD_DAMAGE, status).getId();
+    }
+}
@@ -0,0 +1,72 @@
+package com.civiccomplaint.complaint;
+
+import com.civiccomplaint.PostgresIntegrationTest;
+import com.civiccomplaint.complaint.dto.ComplaintResponse;
+import com.civiccomplaint.complaint.dto.PartialComplaintResponse;
+import com.civiccomplaint.jdbc.QueryCounter;
+import com.civiccomplaint.jdbc.QueryStatistics;
+import com.civiccomplaint.user.Role;
+import com.civiccomplaint.user.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * List requests with a "fields" parameter select only the requested
+ * columns, and leave the other fields out of the response.
+ */
+class ComplaintProjectionTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private ComplaintRepository complaintRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void parseAddsTheIdAndRejectsUnknownNames() {
+        assertThat(ComplaintField.parse("title, status,"))
+                .isEqualTo(EnumSet.of(ComplaintField.ID, ComplaintField.TITLE, ComplaintField.STATUS));
+
+        assertThatThrownBy(() -> ComplaintField.parse("title,passwordHash"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("'passwordHash'");
+    }
+
+    @Test
+    void findProjectedSelectsOnlyTheRequestedColumns() throws Exception {
+        User citizen = fixtures.user(Role.CITIZEN, null);
+        fixtures.complaint(citizen, ComplaintType.DRAINAGE, ComplaintStatus.PENDING);
+
+        AtomicReference<Page<ComplaintResponse>> page = new AtomicReference<>();
+        QueryStatistics statistics = QueryCounter.capture(() -> page.set(complaintRepository.findProjected(
+                ComplaintField.parse("title,status"), citizen.getId(), null, null, PageRequest.of(0, 10))));
+
+        List<String> selects = statistics.getStatements().stream()
+                .filter(sql -> !sql.contains("count("))
+                .toList();
+        assertThat(selects).singleElement().satisfies(sql -> assertThat(sql)
+                .contains("title", "status")
+                .doesNotContain("description", "location_text", "latitude", "complaint_number"));
+
+        ComplaintResponse response = page.get().getContent().get(0);
+        assertThat(response).isInstanceOf(PartialComplaintResponse.class);
+        assertThat(response.getTitle()).isEqualTo("Pothole");
+        assertThat(response.getDescription()).isNull();
+        assertThat(objectMapper.readTree(objectMapper.writeValueAsString(response)).fieldNames())
+                .toIterable().containsExactlyInAnyOrder("id", "title", "status");
+
+        // Full responses keep their null fields
+        assertThat(objectMapper.readTree(objectMapper.writeValueAsString(
+                ComplaintResponse.builder().id(response.getId()).build())).has("description")).isTrue();
+    }
+}
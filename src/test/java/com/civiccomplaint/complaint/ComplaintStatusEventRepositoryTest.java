@@ -0,0 +1,78 @@
+package com.civiccomplaint.complaint;
+
+import com.civiccomplaint.PostgresIntegrationTest;
+import com.civiccomplaint.master.Prabhag;
+import com.civiccomplaint.reporting.dto.ReportLevel;
+import com.civiccomplaint.user.Role;
+import com.civiccomplaint.user.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The resolution SLA counts time from the creation event to the first
+ * resolution, and only for complaints first resolved within the range.
+ * Rows are marked with their grouping level, details first.
+ */
+class ComplaintStatusEventRepositoryTest extends PostgresIntegrationTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Autowired
+    private ComplaintStatusEventRepository complaintStatusEventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void resolutionSlaCountsOnlyFirstResolutionsInRange() {
+        Prabhag prabhag = fixtures.prabhag("AUN");
+        User citizen = fixtures.user(Role.CITIZEN, prabhag);
+
+        // Opened and resolved ten hours later, inside the range
+        UUID resolvedInRange = complaint(citizen);
+        event(resolvedInRange, null, ComplaintStatus.PENDING, prabhag, FROM);
+        event(resolvedInRange, ComplaintStatus.PENDING, ComplaintStatus.RESOLVED, prabhag, FROM.plusHours(10));
+
+        // First resolved before the range, reopened and resolved again inside it
+        UUID resolvedBefore = complaint(citizen);
+        event(resolvedBefore, null, ComplaintStatus.PENDING, prabhag, FROM.minusDays(2));
+        event(resolvedBefore, ComplaintStatus.PENDING, ComplaintStatus.RESOLVED, prabhag, FROM.minusDays(1));
+        event(resolvedBefore, ComplaintStatus.RESOLVED, ComplaintStatus.IN_PROGRESS, prabhag, FROM.minusHours(1));
+        event(resolvedBefore, ComplaintStatus.IN_PROGRESS, ComplaintStatus.RESOLVED, prabhag, FROM.plusHours(5));
+
+        List<ComplaintSlaView> rows = complaintStatusEventRepository.findResolutionSla(prabhag.getId(), FROM,
+                FROM.plusDays(1));
+
+        assertThat(rows).hasSize(3).allSatisfy(row -> {
+            assertThat(row.getResolvedCount()).isEqualTo(1);
+            assertThat(row.getMedianSeconds()).isEqualTo(36_000.0);
+        });
+        assertThat(rows).extracting(row -> ReportLevel.fromGrouping(row.getGroupingLevel()))
+                .containsExactly(ReportLevel.DETAIL, ReportLevel.PRABHAG, ReportLevel.TOTAL);
+        assertThat(rows.get(0).getPrabhagId()).isEqualTo(prabhag.getId());
+        assertThat(rows.get(0).getComplaintType()).isEqualTo(ComplaintType.ROAD_DAMAGE.name());
+        assertThat(rows.get(1).getPrabhagId()).isEqualTo(prabhag.getId());
+    }
+
+    private UUID complaint(User citizen) {
+        return fixtures.complaint(citizen, ComplaintType.ROAD_DAMAGE, ComplaintStatus.RESOLVED).getId();
+    }
+
+    private void event(UUID complaintId, ComplaintStatus from, ComplaintStatus to, Prabhag prabhag,
+            LocalDateTime createdAt) {
+        jdbcTemplate.update("""
+                INSERT INTO complaint_status_events
+                    (id, complaint_id, from_status, to_status, prabhag_id, complaint_type, created_at)
+                VALUES (gen_random_uuid(), ?, CAST(? AS complaint_status), CAST(? AS complaint_status), ?,
+                        CAST(? AS complaint_type), ?)
+                """, complaintId, from != null ? from.name() : null, to.name(), prabhag.getId(),
+                ComplaintType.ROAD_DAMAGE.name(), createdAt);
+    }
+}
@@ -0,0 +1,91 @@
+package com.civiccomplaint.complaint;
+
+import com.civiccomplaint.PostgresIntegrationTest;
+import com.civiccomplaint.outbox.OutboxMessage;
+import com.civiccomplaint.outbox.OutboxPublisher;
+import com.civiccomplaint.outbox.OutboxRelay;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Events handed to the hub by the relay reach subscribers through the
+ * NOTIFY broadcast, the same path other instances receive them on. The
+ * relay sends it on its batch connection, so it arrives once the batch
+ * commits.
+ */
+class ComplaintUpdateHubTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private ComplaintUpdateHub complaintUpdateHub;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private OutboxPublisher outboxPublisher;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void deliversHandledEventsThroughTheBroadcast() throws Exception {
+        // Subscribers outlive the test, so each test has a prabhag of its own
+        int prabhagId = 1;
+        UUID complaintId = UUID.randomUUID();
+        long delivered = complaintUpdateHub.getStatistics().delivered();
+        complaintUpdateHub.subscribe(prabhagId);
+        long connected = awaitDelivered(delivered);
+
+        ComplaintLifecycleEvent event = new ComplaintLifecycleEvent(complaintId, "CMP-1", UUID.randomUUID(),
+                prabhagId, ComplaintType.ROAD_DAMAGE, ComplaintStatus.PENDING, ComplaintStatus.RESOLVED, UUID.randomUUID(),
+                LocalDateTime.now());
+        complaintUpdateHub.handle(new OutboxMessage(1L, ComplaintLifecycleEvent.AGGREGATE_TYPE, complaintId,
+                "ComplaintStatusChanged", objectMapper.writeValueAsString(event), LocalDateTime.now(), 1));
+
+        assertThat(awaitDelivered(connected)).isEqualTo(connected + 1);
+    }
+
+    @Test
+    void relaysEventsThroughTheBroadcastOnCommit() throws Exception {
+        int prabhagId = 2;
+        UUID complaintId = UUID.randomUUID();
+        long delivered = complaintUpdateHub.getStatistics().delivered();
+        complaintUpdateHub.subscribe(prabhagId);
+        long connected = awaitDelivered(delivered);
+
+        ComplaintLifecycleEvent event = new ComplaintLifecycleEvent(complaintId, "CMP-1", UUID.randomUUID(),
+                prabhagId, ComplaintType.ROAD_DAMAGE, ComplaintStatus.PENDING, ComplaintStatus.RESOLVED, UUID.randomUUID(),
+                LocalDateTime.now());
+        transactionTemplate.executeWithoutResult(status -> outboxPublisher.publish(
+                ComplaintLifecycleEvent.AGGREGATE_TYPE, complaintId, "ComplaintStatusChanged", event));
+        outboxRelay.drain();
+
+        assertThat(awaitDelivered(connected)).isEqualTo(connected + 1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT published_at IS NOT NULL FROM outbox_events WHERE aggregate_id = ?", Boolean.class,
+                complaintId)).isTrue();
+    }
+
+    private long awaitDelivered(long previous) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (complaintUpdateHub.getStatistics().delivered() <= previous
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        return complaintUpdateHub.getStatistics().delivered();
+    }
+}
@@ -0,0 +1,128 @@
+package com.civiccomplaint.config;
+
+import com.civiccomplaint.PostgresIntegrationTest;
+import com.civiccomplaint.auth.CustomUserDetails;
+import com.civiccomplaint.user.Role;
+import com.civiccomplaint.user.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Read-only transactions go to the replica unless it lags or the user has
+ * just written. The replica is a stand-in: a second pool on the same server,
+ * told apart by its application name, whose lag is read from a table the
+ * test controls.
+ */
+@TestPropertySource(properties = {
+        "app.datasource.replica.enabled=true",
+        "app.datasource.replica.max-lag=5s",
+        "app.datasource.replica.lag-query=SELECT seconds FROM replica_lag_stand_in",
+        "app.datasource.replica.read-your-writes-window=1m"})
+class ReplicaRoutingDataSourceTest extends PostgresIntegrationTest {
+
+    private static final String REPLICA = "replica";
+
+    @Autowired
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void replicaProperties(DynamicPropertyRegistry registry) {
+        registry.add("app.datasource.replica.url", () -> jdbcUrl() + "&ApplicationName=" + REPLICA);
+    }
+
+    @BeforeAll
+    static void createLagTable() {
+        // Read by the lag check when the context starts
+        execute("""
+                CREATE TABLE IF NOT EXISTS replica_lag_stand_in (seconds DOUBLE PRECISION NOT NULL);
+                DELETE FROM replica_lag_stand_in;
+                INSERT INTO replica_lag_stand_in VALUES (0);
+                """);
+    }
+
+    @BeforeEach
+    void replicaInRotation() {
+        setReplicaLag(0);
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionsGoToTheReplica() {
+        assertThat(serverOf(true)).isEqualTo(REPLICA);
+        assertThat(serverOf(false)).isNotEqualTo(REPLICA);
+    }
+
+    @Test
+    void laggingReplicaFallsBackToThePrimary() {
+        setReplicaLag(30);
+        assertThat(replicaRoutingDataSource.getStatistics().replicaAvailable()).isFalse();
+        assertThat(serverOf(true)).isNotEqualTo(REPLICA);
+
+        setReplicaLag(1);
+        assertThat(serverOf(true)).isEqualTo(REPLICA);
+    }
+
+    @Test
+    void writerReadsFromThePrimaryWithinTheWindow() {
+        UUID writer = UUID.randomUUID();
+        signIn(writer);
+        assertThat(serverOf(true)).isEqualTo(REPLICA);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(
+                status -> jdbcTemplate.update("UPDATE replica_lag_stand_in SET seconds = seconds"));
+        assertThat(serverOf(true)).isNotEqualTo(REPLICA);
+
+        // Other users are not affected
+        signIn(UUID.randomUUID());
+        assertThat(serverOf(true)).isEqualTo(REPLICA);
+    }
+
+    private void setReplicaLag(double seconds) {
+        execute("UPDATE replica_lag_stand_in SET seconds = " + seconds);
+        replicaRoutingDataSource.checkLag();
+    }
+
+    private String serverOf(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(
+                status -> jdbcTemplate.queryForObject("SELECT current_setting('application_name')", String.class));
+    }
+
+    private static void signIn(UUID userId) {
+        User user = User.builder()
+                .role(Role.CITIZEN)
+                .email(userId + "@example.com")
+                .password("not-a-real-hash")
+                .build();
+        user.setId(userId);
+        CustomUserDetails principal = new CustomUserDetails(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
@@ -0,0 +1,97 @@
+package com.civiccomplaint.master;
+
+import com.civiccomplaint.PostgresIntegrationTest;
+import com.civiccomplaint.auth.JwtUtil;
+import com.civiccomplaint.complaint.Complaint;
+import com.civiccomplaint.complaint.ComplaintStatus;
+import com.civiccomplaint.complaint.ComplaintType;
+import com.civiccomplaint.jdbc.QueryCounter;
+import com.civiccomplaint.jdbc.QueryStatistics;
+import com.civiccomplaint.user.Role;
+import com.civiccomplaint.user.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Prabhags are read from the second-level cache once loaded, so the admin
+ * complaint list and detail views issue no prabhag selects.
+ */
+class PrabhagSecondLevelCacheTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private String adminToken;
+    private Complaint complaint;
+
+    @BeforeEach
+    void setUp() {
+        Prabhag prabhag = fixtures.prabhag("SHV");
+        User admin = fixtures.user(Role.ADMIN, prabhag);
+        User citizen = fixtures.user(Role.CITIZEN, prabhag);
+        complaint = fixtures.complaint(citizen, ComplaintType.ROAD_DAMAGE, ComplaintStatus.PENDING);
+        adminToken = "Bearer " + jwtUtil.generateToken(admin.getId(), admin.getRole().name());
+
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void complaintListDoesNotSelectPrabhags() throws Exception {
+        // Warm-up: the first request may load the admin's prabhag
+        listComplaints();
+
+        QueryStatistics statistics = QueryCounter.capture(this::listComplaints);
+
+        // Admin lookups by the token filter and the service, the page (short
+        // enough to need no count query) and the complaint's attachments
+        assertThat(statistics.getQueries()).as(String.join("\n", statistics.getStatements())).isEqualTo(4);
+        assertThat(prabhagSelects(statistics)).isEmpty();
+    }
+
+    @Test
+    void complaintDetailReadsPrabhagFromCache() throws Exception {
+        QueryStatistics cold = QueryCounter.capture(this::getComplaintDetails);
+        assertThat(prabhagSelects(cold)).as(String.join("\n", cold.getStatements())).hasSize(1);
+
+        QueryStatistics warm = QueryCounter.capture(this::getComplaintDetails);
+
+        // Admin lookups by the token filter and the service, the complaint, its
+        // citizen and attachments; the citizen's prabhag comes from the cache
+        assertThat(warm.getQueries()).as(String.join("\n", warm.getStatements())).isEqualTo(5);
+        assertThat(prabhagSelects(warm)).isEmpty();
+        assertThat(entityManagerFactory.unwrap(org.hibernate.SessionFactory.class).getStatistics()
+                .getDomainDataRegionStatistics("prabhags").getHitCount()).isPositive();
+    }
+
+    private void listComplaints() throws Exception {
+        mockMvc.perform(get("/admin/complaints/all").header("Authorization", adminToken))
+                .andExpect(status().isOk());
+    }
+
+    private void getComplaintDetails() throws Exception {
+        mockMvc.perform(get("/complaints/" + complaint.getId()).header("Authorization", adminToken))
+                .andExpect(status().isOk());
+    }
+
+    private static List<String> prabhagSelects(QueryStatistics statistics) {
+        return statistics.getStatements().stream()
+                .filter(sql -> sql.replaceAll("\\s+", " ").toLowerCase(Locale.ROOT).contains("from prabhags"))
+                .toList();
+    }
+}
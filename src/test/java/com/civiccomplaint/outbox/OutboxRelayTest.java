@@ -0,0 +1,164 @@
+package com.civiccomplaint.outbox;
+
+import com.civiccomplaint.tenant.TenantRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static java.time.temporal.ChronoUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Delivery, retry backoff and retry limits of the relay, against an
+ * in-memory outbox and handler.
+ */
+class OutboxRelayTest {
+
+    private static final Duration RETRY_BACKOFF = Duration.ofSeconds(5);
+    private static final Duration MAX_RETRY_BACKOFF = Duration.ofSeconds(12);
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final List<OutboxEvent> outbox = new ArrayList<>();
+    private final RecordingHandler handler = new RecordingHandler();
+    private Duration elapsed = Duration.ZERO;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        OutboxEventRepository repository = mock(OutboxEventRepository.class);
+        // Same filter as the SQL; elapsed stands in for waiting out the backoff
+        when(repository.lockNextBatch(any(), anyInt(), anyInt())).thenAnswer(invocation -> {
+            LocalDateTime now = invocation.<LocalDateTime>getArgument(0).plus(elapsed);
+            int maxAttempts = invocation.getArgument(1);
+            int limit = invocation.getArgument(2);
+            return outbox.stream()
+                    .filter(event -> event.getPublishedAt() == null && !event.getAvailableAt().isAfter(now)
+                            && event.getAttempts() < maxAttempts)
+                    .limit(limit)
+                    .toList();
+        });
+
+        TenantRegistry tenantRegistry = mock(TenantRegistry.class);
+        when(tenantRegistry.getTenantIds()).thenReturn(List.of("default"));
+
+        @SuppressWarnings("unchecked")
+        ObjectProvider<OutboxEventHandler> handlers = mock(ObjectProvider.class);
+        when(handlers.orderedStream()).thenAnswer(invocation -> Stream.of(handler));
+
+        relay = new OutboxRelay(repository, tenantRegistry, mock(PlatformTransactionManager.class),
+                mock(JdbcTemplate.class), handlers,
+                10, MAX_ATTEMPTS, RETRY_BACKOFF, MAX_RETRY_BACKOFF, Duration.ofDays(7));
+    }
+
+    @Test
+    void deliversEachEventOnceAndMarksItPublished() {
+        OutboxEvent first = enqueue();
+        OutboxEvent second = enqueue();
+
+        relay.drain();
+        relay.drain();
+
+        assertThat(handler.received).extracting(OutboxMessage::id).containsExactly(first.getId(), second.getId());
+        assertThat(handler.received).extracting(OutboxMessage::attempt).containsOnly(1);
+        assertThat(first.getPublishedAt()).isNotNull();
+        assertThat(second.getPublishedAt()).isNotNull();
+        assertThat(relay.getStatistics().published()).isEqualTo(2);
+    }
+
+    @Test
+    void retriesFailedEventsWithExponentialBackoff() {
+        OutboxEvent event = enqueue();
+        handler.failuresLeft = 2;
+
+        LocalDateTime before = LocalDateTime.now();
+        relay.drain();
+        assertThat(event.getAttempts()).isEqualTo(1);
+        assertThat(event.getLastError()).contains("handler failure");
+        assertThat(event.getAvailableAt()).isCloseTo(before.plus(RETRY_BACKOFF), within(1, SECONDS));
+
+        // Not due yet
+        relay.drain();
+        assertThat(handler.received).hasSize(1);
+
+        elapsed = Duration.ofSeconds(5);
+        before = LocalDateTime.now();
+        relay.drain();
+        assertThat(event.getAttempts()).isEqualTo(2);
+        assertThat(event.getAvailableAt()).isCloseTo(before.plus(RETRY_BACKOFF.multipliedBy(2)),
+                within(1, SECONDS));
+
+        elapsed = Duration.ofSeconds(15);
+        relay.drain();
+        assertThat(handler.received).extracting(OutboxMessage::attempt).containsExactly(1, 2, 3);
+        assertThat(event.getPublishedAt()).isNotNull();
+        assertThat(event.getLastError()).isNull();
+        assertThat(relay.getStatistics().failedAttempts()).isEqualTo(2);
+        assertThat(relay.getStatistics().published()).isEqualTo(1);
+    }
+
+    @Test
+    void stopsRetryingAfterMaxAttempts() {
+        OutboxEvent event = enqueue();
+        handler.failuresLeft = Integer.MAX_VALUE;
+
+        for (int i = 0; i < 10; i++) {
+            elapsed = elapsed.plus(MAX_RETRY_BACKOFF);
+            relay.drain();
+        }
+
+        assertThat(handler.received).hasSize(MAX_ATTEMPTS);
+        assertThat(event.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+        assertThat(event.getPublishedAt()).isNull();
+        assertThat(relay.getStatistics().abandoned()).isEqualTo(1);
+        assertThat(relay.getStatistics().failedAttempts()).isEqualTo(MAX_ATTEMPTS);
+    }
+
+    private OutboxEvent enqueue() {
+        LocalDateTime now = LocalDateTime.now();
+        OutboxEvent event = OutboxEvent.builder()
+                .id((long) outbox.size() + 1)
+                .aggregateType("Complaint")
+                .aggregateId(UUID.randomUUID())
+                .eventType("ComplaintStatusChanged")
+                .payload("{}")
+                .createdAt(now)
+                .availableAt(now)
+                .build();
+        outbox.add(event);
+        return event;
+    }
+
+    private static final class RecordingHandler implements OutboxEventHandler {
+
+        private final List<OutboxMessage> received = new ArrayList<>();
+        private int failuresLeft;
+
+        @Override
+        public boolean supports(OutboxMessage message) {
+            return true;
+        }
+
+        @Override
+        public void handle(OutboxMessage message) {
+            received.add(message);
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw new IllegalStateException("handler failure");
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.civiccomplaint.reporting;
+
+import com.civiccomplaint.PostgresIntegrationTest;
+import com.civiccomplaint.complaint.ComplaintStatus;
+import com.civiccomplaint.complaint.ComplaintType;
+import com.civiccomplaint.master.Prabhag;
+import com.civiccomplaint.reporting.dto.ReportLevel;
+import com.civiccomplaint.reporting.dto.WardBacklogReportResponse;
+import com.civiccomplaint.reporting.dto.WardMonthlyReportResponse;
+import com.civiccomplaint.user.Role;
+import com.civiccomplaint.user.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Ward reports mark each GROUPING SETS row with its level, so totals can be
+ * told apart from the rows of citizens without a prabhag.
+ */
+@TestPropertySource(properties = {"app.reporting.enabled=true", "app.reporting.initial-delay-ms=3600000"})
+class ReportingServiceTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private ReportingService reportingService;
+
+    @Autowired
+    private ReportingViewRefresher reportingViewRefresher;
+
+    @Test
+    void labelsDetailsSubtotalsAndTotals() {
+        Prabhag prabhag = fixtures.prabhag("DEC");
+        User superAdmin = fixtures.user(Role.SUPER_ADMIN, null);
+        User citizen = fixtures.user(Role.CITIZEN, prabhag);
+        fixtures.complaint(citizen, ComplaintType.ROAD_DAMAGE, ComplaintStatus.PENDING);
+        fixtures.complaint(citizen, ComplaintType.ROAD_DAMAGE, ComplaintStatus.PENDING);
+        fixtures.complaint(citizen, ComplaintType.STREET_LIGHT, ComplaintStatus.PENDING);
+        reportingViewRefresher.refreshAll();
+
+        WardBacklogReportResponse backlog = reportingService.getWardBacklogReport(superAdmin, prabhag.getId());
+        assertThat(backlog.getEntries())
+                .extracting(entry -> entry.getLevel() + ":" + entry.getComplaintType() + ":" + entry.getOpenCount())
+                .containsExactly("DETAIL:ROAD_DAMAGE:2", "DETAIL:STREET_LIGHT:1", "PRABHAG:null:3",
+                        "TOTAL:null:3");
+        assertThat(backlog.getEntries()).filteredOn(entry -> entry.getLevel() != ReportLevel.TOTAL)
+                .extracting(WardBacklogReportResponse.Entry::getPrabhagId).containsOnly(prabhag.getId());
+
+        YearMonth month = YearMonth.now();
+        WardMonthlyReportResponse monthly = reportingService.getWardMonthlyReport(superAdmin, prabhag.getId(),
+                month, month);
+        assertThat(monthly.getEntries())
+                .extracting(entry -> entry.getLevel() + ":" + entry.getComplaintType() + ":" + entry.getCreatedCount())
+                .containsExactly("DETAIL:ROAD_DAMAGE:2", "DETAIL:STREET_LIGHT:1", "PRABHAG:null:3",
+                        "TOTAL:null:3");
+    }
+}
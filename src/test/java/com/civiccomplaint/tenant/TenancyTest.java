@@ -0,0 +1,174 @@
+package com.civiccomplaint.tenant;
+
+import com.civiccomplaint.PostgresIntegrationTest;
+import com.civiccomplaint.auth.JwtUtil;
+import com.civiccomplaint.master.Prabhag;
+import com.civiccomplaint.user.Role;
+import com.civiccomplaint.user.User;
+import com.civiccomplaint.user.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Two cities in one deployment, each in its own schema. Requests only see
+ * the data of their token's tenant, complaint numbers carry the city code,
+ * and streamed responses run in the tenant of the request.
+ */
+@TestPropertySource(properties = {
+        "app.tenancy.enabled=true",
+        "app.tenancy.default-tenant=pune",
+        "app.tenancy.default-max-pool-size=3",
+        "app.tenancy.tenants.pune.schema=tenant_pune",
+        "app.tenancy.tenants.pune.code=PUN",
+        "app.tenancy.tenants.nashik.schema=tenant_nashik",
+        "app.tenancy.tenants.nashik.code=NSK"})
+class TenancyTest extends PostgresIntegrationTest {
+
+    private static final String PUNE = "pune";
+    private static final String NASHIK = "nashik";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final Map<String, Prabhag> prabhags = new HashMap<>();
+
+    @BeforeAll
+    static void createTenantSchemas() {
+        createSchema("tenant_pune");
+        createSchema("tenant_nashik");
+    }
+
+    @BeforeEach
+    void setUp() {
+        // The base class resets the default tenant only
+        TenantContext.runAs(NASHIK, fixtures::reset);
+        for (String tenantId : List.of(PUNE, NASHIK)) {
+            prabhags.put(tenantId, TenantContext.callAs(tenantId, () -> fixtures.prabhag("KOT")));
+        }
+    }
+
+    @Test
+    void eachTenantSeesOnlyItsOwnComplaints() throws Exception {
+        String puneToken = token(citizen(PUNE), PUNE);
+        String nashikToken = token(citizen(NASHIK), NASHIK);
+
+        String puneNumber = createComplaint(puneToken);
+        String nashikNumber = createComplaint(nashikToken);
+
+        assertThat(myComplaintNumbers(puneToken)).containsExactly(puneNumber);
+        assertThat(myComplaintNumbers(nashikToken)).containsExactly(nashikNumber);
+    }
+
+    @Test
+    void complaintNumbersCarryTheCityCode() throws Exception {
+        String puneNumber = createComplaint(token(citizen(PUNE), PUNE));
+        String nashikNumber = createComplaint(token(citizen(NASHIK), NASHIK));
+
+        assertThat(puneNumber).startsWith("CMP-PUN-KOT-");
+        assertThat(nashikNumber).startsWith("CMP-NSK-KOT-");
+    }
+
+    @Test
+    void tokenIsNotAcceptedForAnotherTenant() throws Exception {
+        String puneToken = token(citizen(PUNE), PUNE);
+
+        mockMvc.perform(get("/citizen/complaints")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + puneToken)
+                        .header(TenantFilter.TENANT_HEADER, PUNE))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/citizen/complaints")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + puneToken)
+                        .header(TenantFilter.TENANT_HEADER, NASHIK))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void streamedResponsesRunInTheRequestTenant() throws Exception {
+        Prabhag prabhag = prabhags.get(NASHIK);
+        User superAdmin = TenantContext.callAs(NASHIK, () -> fixtures.user(Role.SUPER_ADMIN, null));
+        String email = "imported@example.com";
+        String csv = "fullName,mobileNumber,email,address,pinCode,password,prabhagId\n"
+                + String.join(",", "Imported Citizen", "9200000002", email, "Kothrud", "411038", "Secret@123",
+                        prabhag.getId().toString()) + "\n";
+
+        MvcResult result = mockMvc.perform(multipart("/api/super-admin/citizens/import")
+                        .file(new MockMultipartFile("file", "citizens.csv", "text/csv",
+                                csv.getBytes(StandardCharsets.UTF_8)))
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token(superAdmin, NASHIK)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String report = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(report).contains("CREATED");
+        assertThat(TenantContext.callAs(NASHIK, () -> userRepository.existsByEmail(email))).isTrue();
+        assertThat(TenantContext.callAs(PUNE, () -> userRepository.existsByEmail(email))).isFalse();
+    }
+
+    private String createComplaint(String token) throws Exception {
+        MockMultipartFile complaint = new MockMultipartFile("complaint", "", MediaType.APPLICATION_JSON_VALUE,
+                """
+                {"title": "Pothole", "description": "Deep pothole", "complaintType": "ROAD_DAMAGE",
+                 "latitude": 18.5, "longitude": 73.8, "locationText": "Karve Road"}
+                """.getBytes(StandardCharsets.UTF_8));
+        String body = mockMvc.perform(multipart("/citizen/complaints/create")
+                        .file(complaint)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).at("/data/complaintNumber").asText();
+    }
+
+    private List<String> myComplaintNumbers(String token) throws Exception {
+        String body = mockMvc.perform(get("/citizen/complaints")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        List<String> numbers = new ArrayList<>();
+        for (JsonNode complaint : objectMapper.readTree(body).at("/data/content")) {
+            numbers.add(complaint.get("complaintNumber").asText());
+        }
+        return numbers;
+    }
+
+    private User citizen(String tenantId) {
+        return TenantContext.callAs(tenantId, () -> fixtures.user(Role.CITIZEN, prabhags.get(tenantId)));
+    }
+
+    private String token(User user, String tenantId) {
+        return jwtUtil.generateToken(user.getId(), user.getRole().name(), tenantId);
+    }
+}
@@ -0,0 +1,49 @@
+package com.civiccomplaint.user;
+
+import com.civiccomplaint.PostgresIntegrationTest;
+import com.civiccomplaint.master.Prabhag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Rows skipped by ON CONFLICT DO NOTHING are reported as duplicates, both
+ * against existing users and within the same chunk.
+ */
+class CitizenImportServiceTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private CitizenImportService citizenImportService;
+
+    @Test
+    void onlyInsertedRowsAreReportedAsCreated() throws Exception {
+        Prabhag prabhag = fixtures.prabhag("KOT");
+
+        String first = row("first", "9300000001", prabhag);
+        String second = row("second", "9300000002", prabhag);
+        run(first);
+
+        String report = run(first, second, second);
+
+        assertThat(report.lines().skip(1).map(line -> line.split(",")[2]))
+                .containsExactly("DUPLICATE", "CREATED", "DUPLICATE");
+    }
+
+    private String run(String... rows) throws Exception {
+        String csv = String.join(",", CitizenImportService.COLUMNS) + "\n" + String.join("\n", rows) + "\n";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        citizenImportService.importCitizens(new MockMultipartFile("file", "citizens.csv", "text/csv",
+                csv.getBytes(StandardCharsets.UTF_8))).writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static String row(String name, String mobileNumber, Prabhag prabhag) {
+        return String.join(",", "Citizen " + name, mobileNumber, name + "@example.com", "Kothrud", "411038",
+                "Secret@123", prabhag.getId().toString());
+    }
+}
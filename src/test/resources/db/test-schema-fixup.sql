@@ -0,0 +1,44 @@
+-- ============================================================================
+-- Integration test schema: applied after scehma.sql, bringing it in line with
+-- the entity mappings that the test profile validates (ddl-auto=validate).
+-- ============================================================================
+
+-- The sample rows would collide with test data
+TRUNCATE prabhags, users CASCADE;
+
+-- Every ComplaintType value, including those missing from scehma.sql
+ALTER TYPE complaint_type ADD VALUE IF NOT EXISTS 'PUBLIC_PROPERTY_DAMAGE' BEFORE 'OTHER';
+
+-- Prabhag ids are integers in the entity mapping
+ALTER TABLE users DROP CONSTRAINT fk_users_prabhag;
+ALTER TABLE complaint_sequences DROP CONSTRAINT fk_sequences_prabhag;
+
+ALTER TABLE prabhags ALTER COLUMN id DROP DEFAULT;
+ALTER TABLE prabhags ALTER COLUMN id TYPE INT USING NULL;
+ALTER TABLE prabhags ALTER COLUMN id ADD GENERATED BY DEFAULT AS IDENTITY;
+ALTER TABLE users ALTER COLUMN prabhag_id TYPE INT USING NULL;
+ALTER TABLE complaint_sequences ALTER COLUMN prabhag_id TYPE INT USING NULL;
+
+ALTER TABLE users ADD CONSTRAINT fk_users_prabhag
+    FOREIGN KEY (prabhag_id) REFERENCES prabhags(id) ON DELETE SET NULL ON UPDATE CASCADE;
+ALTER TABLE complaint_sequences ADD CONSTRAINT fk_sequences_prabhag
+    FOREIGN KEY (prabhag_id) REFERENCES prabhags(id) ON DELETE CASCADE;
+
+-- Mapped by the ComplaintAttachment entity, not created by scehma.sql
+ALTER TABLE complaint_attachments ADD COLUMN file_size BIGINT NOT NULL;
+
+-- Mapped by the Corporator entity, not created by scehma.sql
+CREATE TABLE corporator (
+    id INT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    full_name VARCHAR(200) NOT NULL,
+    email VARCHAR(150) NOT NULL,
+    mobile_number VARCHAR(20) NOT NULL,
+    prabhag_id INT NOT NULL REFERENCES prabhags(id),
+    is_user_created BOOLEAN NOT NULL DEFAULT false,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_corporator_prabhag_id ON corporator(prabhag_id);
+CREATE INDEX idx_corporator_email ON corporator(email);
+CREATE INDEX idx_corporator_mobile ON corporator(mobile_number);